@@ -1,11 +1,19 @@
 package com.recipe.apigateway.config;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.web.reactive.EnableWebFluxSecurity;
 import org.springframework.security.config.web.server.ServerHttpSecurity;
+import org.springframework.security.oauth2.jose.jws.MacAlgorithm;
+import org.springframework.security.oauth2.jwt.NimbusReactiveJwtDecoder;
+import org.springframework.security.oauth2.jwt.ReactiveJwtDecoder;
 import org.springframework.security.web.server.SecurityWebFilterChain;
 
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+
 @Configuration
 @EnableWebFluxSecurity
 public class SecurityConfig {
@@ -21,4 +29,15 @@ public class SecurityConfig {
                 .oauth2ResourceServer(ServerHttpSecurity.OAuth2ResourceServerSpec::jwt)
                 .build();
     }
-}
\ No newline at end of file
+
+    // The identity service signs tokens with HMAC256 over a shared secret; when the gateway is given
+    // that secret it checks tokens with it instead of the JWK set
+    @Bean
+    @ConditionalOnProperty(name = "app.jwt.secret")
+    public ReactiveJwtDecoder sharedSecretJwtDecoder(@Value("${app.jwt.secret}") String jwtSecret) {
+        return NimbusReactiveJwtDecoder
+                .withSecretKey(new SecretKeySpec(jwtSecret.getBytes(StandardCharsets.UTF_8), "HmacSHA256"))
+                .macAlgorithm(MacAlgorithm.HS256)
+                .build();
+    }
+}
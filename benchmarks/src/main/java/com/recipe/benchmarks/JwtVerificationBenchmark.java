@@ -0,0 +1,88 @@
+package com.recipe.benchmarks;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.JWTVerifier;
+import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.recipe.recipeservice.security.JwtAuthenticationFilter;
+import com.recipe.recipeservice.security.JwtTokenVerifier;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bearer token handling: a full signature check and claim decode (what a cache miss costs), a cached
+ * verification, and the authentication filter around a cached token including the security context.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class JwtVerificationBenchmark {
+
+    private static final String SECRET = "benchmarksecretthatisatleastthirtytwocharacterslong";
+
+    private final FilterChain filterChain = (request, response) -> {
+    };
+
+    private String token;
+    private JWTVerifier signatureVerifier;
+    private JwtTokenVerifier jwtTokenVerifier;
+    private JwtAuthenticationFilter jwtAuthenticationFilter;
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+
+    @Setup
+    public void setUp() {
+        token = JWT.create()
+                .withSubject("benchmark")
+                .withClaim("roles", List.of("ROLE_USER"))
+                .withExpiresAt(Instant.now().plus(Duration.ofHours(1)))
+                .sign(Algorithm.HMAC256(SECRET));
+        signatureVerifier = JWT.require(Algorithm.HMAC256(SECRET)).build();
+        jwtTokenVerifier = new JwtTokenVerifier(SECRET, new SimpleMeterRegistry(), 10_000, Duration.ofMinutes(15));
+        jwtAuthenticationFilter = new JwtAuthenticationFilter(jwtTokenVerifier);
+        request = new MockHttpServletRequest("GET", "/recipes");
+        request.addHeader("Authorization", "Bearer " + token);
+        response = new MockHttpServletResponse();
+    }
+
+    @Benchmark
+    public DecodedJWT verifySignature() {
+        return signatureVerifier.verify(token);
+    }
+
+    @Benchmark
+    public JwtTokenVerifier.VerifiedToken verifyCached() {
+        return jwtTokenVerifier.verify(token);
+    }
+
+    @Benchmark
+    public Object authenticationFilter() throws ServletException, IOException {
+        jwtAuthenticationFilter.doFilter(request, response, filterChain);
+        Object principal = SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+        SecurityContextHolder.clearContext();
+        return principal;
+    }
+}
@@ -0,0 +1,71 @@
+package com.recipe.benchmarks;
+
+import com.recipe.recipeservice.aspect.MethodTimingProperties;
+import com.recipe.recipeservice.aspect.MetricsAspect;
+import com.recipe.recipeservice.dto.IngredientDto;
+import com.recipe.recipeservice.entity.Ingredient;
+import com.recipe.recipeservice.service.RecipeMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-call overhead of method timing. A cheap service method is called directly and through an
+ * AspectJ proxy with timing disabled, sampled at 10% and on for every call, so the differences to
+ * {@code direct} are the cost of the proxy and of the aspect.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MetricsAspectBenchmark {
+
+    @Param({"direct", "disabled", "sampled", "timed"})
+    private String mode;
+
+    private RecipeMapper recipeMapper;
+    private Ingredient ingredient;
+
+    @Setup
+    public void setUp() {
+        ingredient = Ingredient.builder().id(1L).name("onion").amount("1").unit("pc").build();
+        RecipeMapper target = new RecipeMapper();
+        recipeMapper = switch (mode) {
+            case "direct" -> target;
+            case "disabled" -> proxy(target, false, 1.0);
+            case "sampled" -> proxy(target, true, 0.1);
+            default -> proxy(target, true, 1.0);
+        };
+    }
+
+    @Benchmark
+    public IngredientDto call() {
+        return recipeMapper.toIngredientDto(ingredient);
+    }
+
+    private static RecipeMapper proxy(RecipeMapper target, boolean enabled, double sampleRate) {
+        MethodTimingProperties properties = new MethodTimingProperties();
+        properties.setEnabled(enabled);
+        properties.setSampleRate(sampleRate);
+        properties.setPercentileHistogram(true);
+        MetricsAspect aspect = new MetricsAspect(new SimpleMeterRegistry(), properties);
+        AspectJProxyFactory factory = new AspectJProxyFactory(target);
+        factory.setProxyTargetClass(true);
+        factory.addAspect(aspect);
+        return factory.getProxy();
+    }
+}
@@ -0,0 +1,138 @@
+package com.recipe.benchmarks;
+
+import com.recipe.recipeservice.RecipeServiceApplication;
+import com.recipe.recipeservice.dto.CursorPageDto;
+import com.recipe.recipeservice.dto.PageRequestDto;
+import com.recipe.recipeservice.dto.RecipeDto;
+import com.recipe.recipeservice.dto.RecipeFilterDto;
+import com.recipe.recipeservice.entity.Recipe;
+import com.recipe.recipeservice.index.RecipeCatalogIndex;
+import com.recipe.recipeservice.index.RecipeTextIndex;
+import com.recipe.recipeservice.repository.RecipeRepository;
+import com.recipe.recipeservice.service.IngredientBackfill;
+import com.recipe.recipeservice.service.RecipeService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code RecipeService.filterRecipes} against an in-memory H2 catalog of {@code recipes} recipes, through
+ * the full service (transactions, specifications, ingredient dictionary, batch fetching and mapping).
+ * The filter result cache is off so every call evaluates the filter; with {@code catalogIndex} the
+ * filters it supports are answered from the in-memory index instead of SQL.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RecipeFilterBenchmark {
+
+    private static final int INGREDIENTS_PER_RECIPE = 8;
+    private static final int SEED_BATCH = 1_000;
+
+    @Param({"1000", "10000"})
+    private int recipes;
+
+    @Param({"false", "true"})
+    private boolean catalogIndex;
+
+    private ConfigurableApplicationContext context;
+    private RecipeService recipeService;
+    private final PageRequestDto firstPage = PageRequestDto.builder().size(20).build();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        // Command-line arguments take precedence over the application.yml packaged with the service
+        context = new SpringApplicationBuilder(RecipeServiceApplication.class)
+                .web(WebApplicationType.NONE)
+                .run(
+                        "--spring.datasource.url=jdbc:h2:mem:benchmark;DB_CLOSE_DELAY=-1",
+                        "--spring.datasource.driver-class-name=org.h2.Driver",
+                        "--spring.datasource.username=sa",
+                        "--spring.datasource.password=",
+                        "--spring.r2dbc.url=r2dbc:h2:mem:///benchmark",
+                        "--spring.r2dbc.username=sa",
+                        "--spring.r2dbc.password=",
+                        "--spring.jpa.hibernate.ddl-auto=create-drop",
+                        "--spring.jpa.show-sql=false",
+                        "--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+                        "--spring.cloud.config.enabled=false",
+                        "--spring.cloud.discovery.enabled=false",
+                        "--eureka.client.enabled=false",
+                        "--management.tracing.enabled=false",
+                        "--logging.level.root=WARN",
+                        "--app.cache.recipe-filter.enabled=false",
+                        "--app.catalog-index.enabled=" + catalogIndex,
+                        "--app.ingredient-dictionary.backfill.enabled=false",
+                        "--app.outbox.delivery.enabled=false");
+        recipeService = context.getBean(RecipeService.class);
+        seed();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public CursorPageDto<RecipeDto> vegetarianAndServings() {
+        return recipeService.filterRecipes(RecipeFilterDto.builder().vegetarian(true).servings(4).build(), firstPage);
+    }
+
+    @Benchmark
+    public CursorPageDto<RecipeDto> includeIngredient() {
+        return recipeService.filterRecipes(RecipeFilterDto.builder().includeIngredient("tomato").build(), firstPage);
+    }
+
+    @Benchmark
+    public CursorPageDto<RecipeDto> excludeIngredient() {
+        return recipeService.filterRecipes(RecipeFilterDto.builder()
+                .vegetarian(true)
+                .excludeIngredient("garlic")
+                .build(), firstPage);
+    }
+
+    @Benchmark
+    public CursorPageDto<RecipeDto> instructionText() {
+        return recipeService.filterRecipes(RecipeFilterDto.builder().instructionText("simmer gently").build(), firstPage);
+    }
+
+    /**
+     * Writes the dataset with the repository, links the ingredient dictionary as the backfill would in
+     * production and rebuilds the in-memory indexes, which were built from the empty database at startup.
+     */
+    private void seed() {
+        RecipeRepository recipeRepository = context.getBean(RecipeRepository.class);
+        Random random = new Random(42);
+        for (int start = 0; start < recipes; start += SEED_BATCH) {
+            List<Recipe> batch = new ArrayList<>(SEED_BATCH);
+            for (int i = start; i < Math.min(recipes, start + SEED_BATCH); i++) {
+                batch.add(RecipeFixtures.recipe(random, i, INGREDIENTS_PER_RECIPE));
+            }
+            recipeRepository.saveAll(batch);
+        }
+        context.getBean(IngredientBackfill.class).run();
+        context.getBean(RecipeCatalogIndex.class).rebuild();
+        context.getBean(RecipeTextIndex.class).rebuild();
+    }
+}
@@ -0,0 +1,121 @@
+package com.recipe.benchmarks;
+
+import com.recipe.recipeservice.dto.CursorPageDto;
+import com.recipe.recipeservice.dto.IngredientDto;
+import com.recipe.recipeservice.dto.RecipeDto;
+import com.recipe.recipeservice.dto.RecipeSummaryDto;
+import com.recipe.recipeservice.entity.Ingredient;
+import com.recipe.recipeservice.entity.Recipe;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Seeded recipes whose text and ingredient names are drawn from a small cooking vocabulary, so that
+ * sizes, compression and filter selectivity resemble a real catalog and every run sees the same data.
+ */
+final class RecipeFixtures {
+
+    static final String[] INGREDIENTS = {
+            "onion", "garlic", "carrot", "celery", "tomato", "pepper", "lentils", "rice", "pasta", "butter",
+            "olive oil", "stock", "lemon", "basil", "chicken", "beef", "potato", "spinach", "mushroom", "cheese"
+    };
+
+    private static final String[] WORDS = ("chop slice dice simmer roast bake whisk fold stir season taste rest "
+            + "pan oven pot bowl tray gently until golden soft tender minutes heat low medium high cover serve")
+            .split(" ");
+
+    private RecipeFixtures() {
+    }
+
+    static RecipeDto recipeDto(Random random, long id, int ingredientCount) {
+        List<IngredientDto> ingredients = new ArrayList<>();
+        for (long i = 1; i <= ingredientCount; i++) {
+            ingredients.add(IngredientDto.builder()
+                    .id(id * 100 + i)
+                    .name(INGREDIENTS[random.nextInt(INGREDIENTS.length)])
+                    .amount(String.valueOf(i * 50))
+                    .unit(i % 2 == 0 ? "g" : "ml")
+                    .build());
+        }
+        return RecipeDto.builder()
+                .id(id)
+                .name(words(random, 3))
+                .description(words(random, 30))
+                .vegetarian(id % 3 != 0)
+                .servings(1 + random.nextInt(8))
+                .instructions(words(random, 200))
+                .preparationTime(5 * (1 + random.nextInt(18)))
+                .cookingTime(5 * (1 + random.nextInt(24)))
+                .ingredients(ingredients)
+                .createdBy("user" + id % 50)
+                .version(1L)
+                .build();
+    }
+
+    /**
+     * An unsaved recipe entity with the content of {@link #recipeDto}, without ids.
+     */
+    static Recipe recipe(Random random, long index, int ingredientCount) {
+        RecipeDto dto = recipeDto(random, index, ingredientCount);
+        Recipe recipe = Recipe.builder()
+                .name(dto.getName())
+                .description(dto.getDescription())
+                .vegetarian(dto.getVegetarian())
+                .servings(dto.getServings())
+                .instructions(dto.getInstructions())
+                .preparationTime(dto.getPreparationTime())
+                .cookingTime(dto.getCookingTime())
+                .createdBy(dto.getCreatedBy())
+                .build();
+        dto.getIngredients().forEach(ingredient -> recipe.addIngredient(Ingredient.builder()
+                .name(ingredient.getName())
+                .amount(ingredient.getAmount())
+                .unit(ingredient.getUnit())
+                .build()));
+        return recipe;
+    }
+
+    static CursorPageDto<RecipeDto> page(int size, int ingredientCount) {
+        Random random = new Random(42);
+        List<RecipeDto> recipes = new ArrayList<>();
+        for (long id = 1; id <= size; id++) {
+            recipes.add(recipeDto(random, id, ingredientCount));
+        }
+        return CursorPageDto.<RecipeDto>builder()
+                .content(recipes)
+                .size(recipes.size())
+                .nextCursor("aWQ6ZmFsc2U6MjA6")
+                .build();
+    }
+
+    /**
+     * The summary view ({@code view=summary}) of {@link #page}.
+     */
+    static CursorPageDto<RecipeSummaryDto> summaryPage(int size, int ingredientCount) {
+        List<RecipeSummaryDto> recipes = page(size, ingredientCount).getContent().stream()
+                .map(recipe -> RecipeSummaryDto.builder()
+                        .id(recipe.getId())
+                        .name(recipe.getName())
+                        .vegetarian(recipe.getVegetarian())
+                        .servings(recipe.getServings())
+                        .preparationTime(recipe.getPreparationTime())
+                        .cookingTime(recipe.getCookingTime())
+                        .build())
+                .toList();
+        return CursorPageDto.<RecipeSummaryDto>builder()
+                .content(recipes)
+                .size(recipes.size())
+                .nextCursor("aWQ6ZmFsc2U6MjA6")
+                .build();
+    }
+
+    private static String words(Random random, int count) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            text.append(i == 0 ? "" : " ").append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return text.toString();
+    }
+}
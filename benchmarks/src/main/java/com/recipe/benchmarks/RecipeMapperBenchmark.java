@@ -0,0 +1,62 @@
+package com.recipe.benchmarks;
+
+import com.recipe.recipeservice.dto.RecipeDto;
+import com.recipe.recipeservice.entity.Ingredient;
+import com.recipe.recipeservice.entity.Recipe;
+import com.recipe.recipeservice.service.RecipeMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * DTO to entity mapping in both directions, and the in-place update of a managed recipe whose
+ * ingredients did not change, which is the common case of a PUT.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class RecipeMapperBenchmark {
+
+    @Param({"8", "32"})
+    private int ingredients;
+
+    private final RecipeMapper recipeMapper = new RecipeMapper();
+    private RecipeDto recipeDto;
+    private Recipe recipe;
+
+    @Setup
+    public void setUp() {
+        recipeDto = RecipeFixtures.recipeDto(new Random(42), 1, ingredients);
+        recipe = recipeMapper.toEntity(recipeDto);
+    }
+
+    @Benchmark
+    public RecipeDto toDto() {
+        return recipeMapper.toDto(recipe);
+    }
+
+    @Benchmark
+    public Recipe toEntity() {
+        return recipeMapper.toEntity(recipeDto);
+    }
+
+    @Benchmark
+    public List<Ingredient> updateEntityUnchanged() {
+        return recipeMapper.updateEntity(recipe, recipeDto);
+    }
+}
@@ -0,0 +1,194 @@
+package com.recipe.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Deterministic synthetic recipe catalog. Recipe {@code i} depends only on the seed and {@code i}, so
+ * the first N recipes are the same whatever N is and two runs with the same seed load the same data.
+ *
+ * <p>Shape of the data:
+ * <ul>
+ *   <li>40% of recipes are vegetarian; the others contain meat or fish.</li>
+ *   <li>About 8 ingredients per recipe (2 to 20), drawn with Zipf popularity from {@link IngredientVocabulary}.</li>
+ *   <li>Mostly 2 or 4 servings, and long-tailed preparation and cooking times, some of them unset.</li>
+ * </ul>
+ *
+ * <p>Run {@link #main} to write a catalog as NDJSON for {@code POST /recipes/import}.
+ */
+public final class CatalogGenerator {
+
+    static final long DEFAULT_SEED = 20240501L;
+
+    private static final double ZIPF_EXPONENT = 1.1;
+    private static final int[] SERVINGS = {1, 2, 2, 2, 2, 3, 4, 4, 4, 4, 4, 4, 5, 6, 6, 6, 8, 8, 10, 12};
+    private static final List<String> STYLES = List.of(
+            "Smoky", "Quick", "Lemony", "Spiced", "Rustic", "Creamy", "Herby", "Weeknight", "Roasted", "Classic",
+            "Sticky", "Crispy", "Summer", "Winter", "One-pot", "Garlicky");
+    private static final List<String> STEPS = List.of(
+            "Chop the %s.", "Heat the oven to 200C.", "Fry the %s until golden.", "Season with salt and pepper.",
+            "Simmer the %s for %d minutes.", "Whisk the %s into the sauce.", "Roast the %s for %d minutes.",
+            "Stir in the %s and cook for %d minutes.", "Rest for 5 minutes before serving.",
+            "Toss the %s with the dressing.", "Bake for %2$d minutes until set.", "Garnish and serve warm.");
+
+    private final long seed;
+    private final ZipfSampler popularity;
+    private final ObjectWriter writer;
+
+    public CatalogGenerator(long seed) {
+        this.seed = seed;
+        this.popularity = new ZipfSampler(IngredientVocabulary.ENTRIES.size(), ZIPF_EXPONENT);
+        this.writer = new ObjectMapper().writer();
+    }
+
+    /**
+     * Recipe {@code index} of the catalog, as the JSON body of a create request.
+     */
+    public Map<String, Object> recipe(long index) {
+        Random random = random(index);
+        boolean vegetarian = random.nextInt(10) < 4;
+
+        List<IngredientVocabulary.Entry> entries = ingredients(random, vegetarian);
+        List<Map<String, Object>> ingredients = new ArrayList<>(entries.size());
+        for (IngredientVocabulary.Entry entry : entries) {
+            Map<String, Object> ingredient = new LinkedHashMap<>();
+            ingredient.put("name", entry.spelling(random));
+            ingredient.put("amount", entry.amount(random));
+            ingredient.put("unit", entry.unit());
+            ingredients.add(ingredient);
+        }
+
+        IngredientVocabulary.Entry main = entries.get(0);
+        List<String> dishes = IngredientVocabulary.DISHES.get(main.kind());
+        String name = STYLES.get(random.nextInt(STYLES.size())) + " " + main.name() + " "
+                + dishes.get(random.nextInt(dishes.size()));
+
+        Map<String, Object> recipe = new LinkedHashMap<>();
+        recipe.put("name", name);
+        recipe.put("description", "A " + name.toLowerCase() + " with " + entries.get(1).name() + ".");
+        recipe.put("vegetarian", vegetarian);
+        recipe.put("servings", SERVINGS[random.nextInt(SERVINGS.length)]);
+        recipe.put("instructions", instructions(random, entries));
+        recipe.put("preparationTime", minutes(random, 15, 0.1));
+        recipe.put("cookingTime", minutes(random, 30, 0.15));
+        recipe.put("ingredients", ingredients);
+        return recipe;
+    }
+
+    /**
+     * An edit of recipe {@code index} as a user would make it: a new name and servings count, and one
+     * ingredient amount changed.
+     */
+    public Map<String, Object> edit(long index, int revision) {
+        Map<String, Object> recipe = recipe(index);
+        Random random = random(index * 31 + revision);
+        recipe.put("name", recipe.get("name") + " (v" + revision + ")");
+        recipe.put("servings", SERVINGS[random.nextInt(SERVINGS.length)]);
+        @SuppressWarnings("unchecked")
+        List<Map<String, Object>> ingredients = (List<Map<String, Object>>) recipe.get("ingredients");
+        ingredients.get(random.nextInt(ingredients.size())).put("amount", String.valueOf(1 + random.nextInt(500)));
+        return recipe;
+    }
+
+    /**
+     * An ingredient name to filter by, drawn with the same popularity the catalog was built with.
+     */
+    public String ingredient(Random random) {
+        return IngredientVocabulary.ENTRIES.get(popularity.sample(random)).name();
+    }
+
+    public String json(Map<String, Object> recipe) {
+        try {
+            return writer.writeValueAsString(recipe);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Writes recipes {@code 0..count-1} as NDJSON.
+     */
+    public void writeNdjson(long count, OutputStream out) throws IOException {
+        for (long index = 0; index < count; index++) {
+            out.write(json(recipe(index)).getBytes(StandardCharsets.UTF_8));
+            out.write('\n');
+        }
+        out.flush();
+    }
+
+    private List<IngredientVocabulary.Entry> ingredients(Random random, boolean vegetarian) {
+        int count = (int) Math.max(2, Math.min(20, Math.round(8 + random.nextGaussian() * 3)));
+        Set<IngredientVocabulary.Entry> picked = new LinkedHashSet<>();
+        if (!vegetarian) {
+            // Meat or fish leads the recipe and names the dish
+            IngredientVocabulary.Entry main;
+            do {
+                main = IngredientVocabulary.ENTRIES.get(popularity.sample(random));
+            } while (main.vegetarian());
+            picked.add(main);
+        }
+        while (picked.size() < count) {
+            IngredientVocabulary.Entry entry = IngredientVocabulary.ENTRIES.get(popularity.sample(random));
+            if (!vegetarian || entry.vegetarian()) {
+                picked.add(entry);
+            }
+        }
+        return new ArrayList<>(picked);
+    }
+
+    private static String instructions(Random random, List<IngredientVocabulary.Entry> entries) {
+        int steps = 3 + random.nextInt(6);
+        StringBuilder instructions = new StringBuilder();
+        for (int step = 1; step <= steps; step++) {
+            String ingredient = entries.get(random.nextInt(entries.size())).name();
+            String text = String.format(STEPS.get(random.nextInt(STEPS.size())), ingredient, 5 + random.nextInt(8) * 5);
+            instructions.append(step).append(". ").append(text).append(step < steps ? "\n" : "");
+        }
+        return instructions.toString();
+    }
+
+    // Log-normal around the median, in steps of 5 minutes; unset for a share of recipes
+    private static Integer minutes(Random random, int median, double unsetShare) {
+        if (random.nextDouble() < unsetShare) {
+            return null;
+        }
+        long minutes = Math.round(median * Math.exp(random.nextGaussian() * 0.6) / 5) * 5;
+        return (int) Math.max(5, Math.min(240, minutes));
+    }
+
+    private Random random(long index) {
+        return new Random(seed ^ (index * 0x9E3779B97F4A7C15L));
+    }
+
+    /**
+     * Writes a catalog file: {@code CatalogGenerator <recipes> <file> [seed]}.
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: CatalogGenerator <recipes> <file> [seed]");
+            System.exit(1);
+        }
+        long count = Long.parseLong(args[0]);
+        Path file = Path.of(args[1]);
+        long seed = args.length > 2 ? Long.parseLong(args[2]) : DEFAULT_SEED;
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(file))) {
+            new CatalogGenerator(seed).writeNdjson(count, out);
+        }
+        System.out.printf("Wrote %d recipes (seed %d) to %s%n", count, seed, file);
+    }
+}
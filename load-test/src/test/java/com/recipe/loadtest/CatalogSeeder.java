@@ -0,0 +1,161 @@
+package com.recipe.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Prepares the system under test through the api-gateway before a simulation starts: registers the
+ * admin and the load-test users, imports the synthetic catalog if it is not there yet, and collects
+ * the recipe ids that get-by-id requests pick from.
+ */
+final class CatalogSeeder {
+
+    static final String PASSWORD = "load-test-password";
+    static final String ADMIN = "loadadmin";
+
+    private static final int IMPORT_CHUNK = 5_000;
+    private static final int PAGE_SIZE = 100;
+
+    private final LoadTestSettings settings;
+    private final CatalogGenerator generator;
+    private final HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(10)).build();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    CatalogSeeder(LoadTestSettings settings, CatalogGenerator generator) {
+        this.settings = settings;
+        this.generator = generator;
+    }
+
+    static String userName(int index) {
+        return String.format("loaduser%04d", index);
+    }
+
+    List<Long> seed() {
+        register(ADMIN, true);
+        for (int index = 0; index < settings.loadUsers(); index++) {
+            register(userName(index), false);
+        }
+        String token = login(ADMIN);
+
+        long existing = send(get("/api/recipes/stats", token)).get("total").asLong();
+        if (existing < settings.recipes()) {
+            importCatalog(token, existing);
+        } else {
+            System.out.printf("Catalog already holds %d recipes, skipping the import%n", existing);
+        }
+        return recipeIds(token);
+    }
+
+    // Continues from the recipes already present, so an interrupted seed can be resumed
+    private void importCatalog(String token, long from) {
+        long start = System.nanoTime();
+        for (long chunk = from; chunk < settings.recipes(); chunk += IMPORT_CHUNK) {
+            ByteArrayOutputStream body = new ByteArrayOutputStream();
+            long end = Math.min(chunk + IMPORT_CHUNK, settings.recipes());
+            for (long index = chunk; index < end; index++) {
+                body.writeBytes(generator.json(generator.recipe(index)).getBytes(StandardCharsets.UTF_8));
+                body.write('\n');
+            }
+            JsonNode result = send(request("/api/recipes/import", token)
+                    .header("Content-Type", "application/x-ndjson")
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(body.toByteArray()))
+                    .build());
+            if (result.get("rejected").asLong() > 0) {
+                throw new IllegalStateException("Catalog import rejected recipes: " + result.get("errors"));
+            }
+        }
+        System.out.printf("Imported recipes %d to %d (seed %d) in %d ms%n", from, settings.recipes() - 1,
+                settings.seed(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private List<Long> recipeIds(String token) {
+        List<Long> ids = new ArrayList<>();
+        String cursor = null;
+        do {
+            String path = "/api/recipes?view=summary&size=" + PAGE_SIZE
+                    + (cursor != null ? "&cursor=" + URLEncoder.encode(cursor, StandardCharsets.UTF_8) : "");
+            JsonNode page = send(get(path, token));
+            page.get("content").forEach(recipe -> ids.add(recipe.get("id").asLong()));
+            cursor = page.hasNonNull("nextCursor") ? page.get("nextCursor").asText() : null;
+        } while (cursor != null);
+        if (ids.isEmpty()) {
+            throw new IllegalStateException("The catalog is empty");
+        }
+        return ids;
+    }
+
+    // Registration fails once the user exists, which is expected on every run after the first
+    private void register(String username, boolean admin) {
+        Map<String, Object> body = admin
+                ? Map.of("username", username, "email", username + "@load.test", "password", PASSWORD, "roles", List.of("admin"))
+                : Map.of("username", username, "email", username + "@load.test", "password", PASSWORD);
+        exchange(request("/api/auth/signup", null)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json(body)))
+                .build());
+    }
+
+    private String login(String username) {
+        return send(request("/api/auth/login", null)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json(Map.of("username", username, "password", PASSWORD))))
+                .build()).get("token").asText();
+    }
+
+    private HttpRequest get(String path, String token) {
+        return request(path, token).GET().build();
+    }
+
+    private HttpRequest.Builder request(String path, String token) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(settings.baseUrl() + path))
+                .timeout(Duration.ofMinutes(5))
+                .header("Accept", "application/json");
+        return token != null ? builder.header("Authorization", "Bearer " + token) : builder;
+    }
+
+    private JsonNode send(HttpRequest request) {
+        HttpResponse<String> response = exchange(request);
+        if (response.statusCode() / 100 != 2) {
+            throw new IllegalStateException(request.method() + " " + request.uri() + " returned "
+                    + response.statusCode() + ": " + response.body());
+        }
+        try {
+            return objectMapper.readTree(response.body());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private HttpResponse<String> exchange(HttpRequest request) {
+        try {
+            return client.send(request, HttpResponse.BodyHandlers.ofString());
+        } catch (IOException e) {
+            throw new UncheckedIOException(request.method() + " " + request.uri() + " failed", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private String json(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package com.recipe.loadtest;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Ingredients the synthetic catalog draws from, most used first. Popularity falls off with rank, so a
+ * few staples appear in most recipes while the long tail appears in a handful; some ingredients are
+ * written with the spellings users really type, which the service's dictionary folds together.
+ */
+final class IngredientVocabulary {
+
+    enum Kind { PLANT, DAIRY, MEAT, FISH }
+
+    record Entry(String name, Kind kind, String unit, int minAmount, int maxAmount, List<String> spellings) {
+
+        boolean vegetarian() {
+            return kind == Kind.PLANT || kind == Kind.DAIRY;
+        }
+
+        String spelling(Random random) {
+            // Three in four rows use the plain name
+            if (spellings.isEmpty() || random.nextInt(4) > 0) {
+                return name;
+            }
+            return spellings.get(random.nextInt(spellings.size()));
+        }
+
+        String amount(Random random) {
+            int amount = minAmount + random.nextInt(maxAmount - minAmount + 1);
+            if (maxAmount > 20) {
+                amount = Math.max(minAmount, amount / 10 * 10);
+            }
+            return String.valueOf(amount);
+        }
+    }
+
+    static final List<Entry> ENTRIES = List.of(
+            plant("salt", "tsp", 1, 2),
+            plant("olive oil", "tbsp", 1, 4),
+            plant("garlic", "cloves", 1, 6, "Garlic cloves", "cloves garlic"),
+            plant("onion", "pc", 1, 3, "onions", "Onions"),
+            dairy("butter", "g", 10, 120),
+            plant("black pepper", "tsp", 1, 2),
+            plant("sugar", "g", 10, 200),
+            plant("flour", "g", 50, 500, "plain flour", "all-purpose flour"),
+            dairy("egg", "pc", 1, 4, "eggs", "Eggs"),
+            plant("tomato", "pc", 1, 6, "tomatoes", "Tomatoes"),
+            dairy("milk", "ml", 50, 500),
+            plant("lemon", "pc", 1, 2, "lemons"),
+            plant("carrot", "pc", 1, 4, "carrots"),
+            plant("potato", "g", 200, 1000, "potatoes"),
+            meat("chicken breast", "g", 200, 800, "chicken breasts"),
+            plant("parsley", "tbsp", 1, 4),
+            dairy("parmesan", "g", 20, 100, "parmesan cheese"),
+            plant("red onion", "pc", 1, 2, "red onions"),
+            plant("bell pepper", "pc", 1, 3, "bell peppers", "peppers"),
+            plant("rice", "g", 100, 400),
+            plant("spring onion", "pc", 2, 6, "scallions", "spring onions", "green onions"),
+            plant("chili", "pc", 1, 3, "chilli", "chillies"),
+            plant("cumin", "tsp", 1, 2),
+            plant("paprika", "tsp", 1, 2),
+            meat("ground beef", "g", 250, 750, "minced beef"),
+            plant("mushroom", "g", 100, 400, "mushrooms"),
+            dairy("cream", "ml", 50, 300, "heavy cream"),
+            plant("soy sauce", "tbsp", 1, 4),
+            plant("ginger", "g", 10, 40),
+            plant("coriander leaves", "tbsp", 1, 4, "cilantro"),
+            plant("basil", "tbsp", 1, 4),
+            plant("spaghetti", "g", 200, 500),
+            plant("chickpea", "g", 200, 400, "chickpeas", "garbanzo beans"),
+            plant("zucchini", "pc", 1, 3, "courgette", "courgettes"),
+            plant("eggplant", "pc", 1, 2, "aubergine", "aubergines"),
+            plant("spinach", "g", 100, 300),
+            meat("bacon", "g", 100, 250),
+            fish("salmon fillet", "g", 200, 600, "salmon fillets"),
+            plant("lime", "pc", 1, 2, "limes"),
+            plant("honey", "tbsp", 1, 3),
+            dairy("yogurt", "g", 100, 400, "greek yogurt"),
+            plant("thyme", "tsp", 1, 2),
+            plant("rosemary", "tsp", 1, 2),
+            plant("vegetable stock", "ml", 250, 1000),
+            meat("chicken stock", "ml", 250, 1000),
+            plant("coconut milk", "ml", 200, 400),
+            dairy("mozzarella", "g", 100, 250),
+            plant("cinnamon", "tsp", 1, 2),
+            plant("lentils", "g", 150, 400, "red lentils"),
+            plant("sweet potato", "g", 300, 900, "sweet potatoes"),
+            fish("shrimp", "g", 200, 500, "prawns"),
+            meat("pork shoulder", "g", 500, 1500),
+            plant("cherry tomato", "g", 150, 400, "cherry tomatoes"),
+            plant("broccoli", "g", 200, 500),
+            plant("cauliflower", "pc", 1, 1),
+            dairy("feta", "g", 100, 200),
+            plant("avocado", "pc", 1, 3, "avocados"),
+            plant("black beans", "g", 200, 400),
+            plant("oregano", "tsp", 1, 2),
+            plant("turmeric", "tsp", 1, 2),
+            meat("lamb", "g", 400, 1200),
+            fish("cod", "g", 300, 700),
+            plant("peanut butter", "tbsp", 1, 4),
+            plant("quinoa", "g", 100, 300),
+            plant("kale", "g", 100, 250),
+            plant("tofu", "g", 200, 400),
+            meat("chorizo", "g", 100, 250),
+            plant("maple syrup", "tbsp", 1, 3),
+            plant("pine nuts", "g", 20, 60),
+            fish("tuna", "g", 150, 300),
+            plant("fennel", "pc", 1, 2),
+            plant("leek", "pc", 1, 2, "leeks"),
+            plant("celery", "stalks", 1, 3),
+            dairy("ricotta", "g", 100, 250),
+            plant("capers", "tbsp", 1, 2),
+            plant("saffron", "pinch", 1, 1),
+            meat("duck breast", "g", 300, 600),
+            plant("miso", "tbsp", 1, 2),
+            plant("tahini", "tbsp", 1, 3),
+            plant("pomegranate", "pc", 1, 1),
+            fish("mussels", "g", 500, 1000),
+            plant("polenta", "g", 150, 300),
+            plant("barley", "g", 100, 250),
+            plant("star anise", "pc", 1, 3),
+            dairy("gruyere", "g", 50, 150),
+            plant("artichoke", "pc", 2, 4, "artichokes"),
+            meat("veal", "g", 400, 800),
+            plant("okra", "g", 200, 400),
+            fish("anchovies", "pc", 4, 8),
+            plant("sumac", "tsp", 1, 2));
+
+    /** Dish names by the kind of a recipe's main ingredient. */
+    static final Map<Kind, List<String>> DISHES = Map.of(
+            Kind.PLANT, List.of("salad", "soup", "stew", "curry", "bowl", "tart", "risotto"),
+            Kind.DAIRY, List.of("gratin", "frittata", "bake", "pie"),
+            Kind.MEAT, List.of("roast", "stew", "skewers", "ragu", "pie"),
+            Kind.FISH, List.of("tacos", "parcels", "curry", "bake"));
+
+    private IngredientVocabulary() {
+    }
+
+    private static Entry plant(String name, String unit, int min, int max, String... spellings) {
+        return new Entry(name, Kind.PLANT, unit, min, max, List.of(spellings));
+    }
+
+    private static Entry dairy(String name, String unit, int min, int max, String... spellings) {
+        return new Entry(name, Kind.DAIRY, unit, min, max, List.of(spellings));
+    }
+
+    private static Entry meat(String name, String unit, int min, int max, String... spellings) {
+        return new Entry(name, Kind.MEAT, unit, min, max, List.of(spellings));
+    }
+
+    private static Entry fish(String name, String unit, int min, int max, String... spellings) {
+        return new Entry(name, Kind.FISH, unit, min, max, List.of(spellings));
+    }
+}
@@ -0,0 +1,40 @@
+package com.recipe.loadtest;
+
+import java.time.Duration;
+
+/**
+ * Load-test parameters, read from system properties so a run is described by its command line:
+ * {@code mvn -pl load-test gatling:test -Drecipes=50000 -DusersPerSecond=20}.
+ */
+record LoadTestSettings(
+        String baseUrl,
+        long recipes,
+        long seed,
+        int loadUsers,
+        double usersPerSecond,
+        Duration rampUp,
+        Duration duration,
+        int actionsPerUser,
+        Duration pause,
+        int getWeight,
+        int listWeight,
+        int filterWeight,
+        int writeWeight) {
+
+    static LoadTestSettings fromSystemProperties() {
+        return new LoadTestSettings(
+                System.getProperty("baseUrl", "http://localhost:8080"),
+                Long.getLong("recipes", 10_000),
+                Long.getLong("seed", CatalogGenerator.DEFAULT_SEED),
+                Integer.getInteger("loadUsers", 50),
+                Double.parseDouble(System.getProperty("usersPerSecond", "10")),
+                Duration.ofSeconds(Long.getLong("rampUpSeconds", 30)),
+                Duration.ofSeconds(Long.getLong("durationSeconds", 120)),
+                Integer.getInteger("actionsPerUser", 20),
+                Duration.ofMillis(Long.getLong("pauseMillis", 100)),
+                Integer.getInteger("mix.get", 50),
+                Integer.getInteger("mix.list", 20),
+                Integer.getInteger("mix.filter", 20),
+                Integer.getInteger("mix.write", 10));
+    }
+}
@@ -0,0 +1,107 @@
+package com.recipe.loadtest;
+
+import io.gatling.javaapi.core.ChainBuilder;
+import io.gatling.javaapi.core.Choice;
+import io.gatling.javaapi.core.OpenInjectionStep;
+import io.gatling.javaapi.core.ScenarioBuilder;
+import io.gatling.javaapi.core.Simulation;
+import io.gatling.javaapi.http.HttpProtocolBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static io.gatling.javaapi.core.CoreDsl.*;
+import static io.gatling.javaapi.http.HttpDsl.*;
+
+/**
+ * Mixed traffic through the api-gateway. Each arriving virtual user logs in as one of the load-test
+ * users, then performs {@code actionsPerUser} actions drawn from {@link RequestMix}: recipe reads by id,
+ * list pages, filters, and creating then updating a recipe of its own.
+ *
+ * <p>Requests are named after their route, so the report has throughput and latency percentiles per route.
+ */
+public class RecipeMixSimulation extends Simulation {
+
+    private final LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+    private final CatalogGenerator generator = new CatalogGenerator(settings.seed());
+    private final RequestMix mix = new RequestMix(settings, generator);
+
+    private final HttpProtocolBuilder httpProtocol = http
+            .baseUrl(settings.baseUrl())
+            .acceptHeader("application/json")
+            .acceptEncodingHeader("gzip")
+            .contentTypeHeader("application/json")
+            // Every read is a full one; with the cache on, revisits would be sent as If-None-Match revalidations
+            .disableCaching();
+
+    private final ChainBuilder login = feed(listFeeder(credentials()).circular())
+            .exec(http("POST /api/auth/login")
+                    .post("/api/auth/login")
+                    .body(StringBody("{\"username\":\"#{username}\",\"password\":\"#{password}\"}"))
+                    .check(status().is(200), jsonPath("$.token").saveAs("token")));
+
+    private final ChainBuilder getRecipe = exec(http("GET /api/recipes/{id}")
+            .get("/api/recipes/#{recipeId}")
+            .header("Authorization", "Bearer #{token}")
+            .check(status().is(200)));
+
+    private final ChainBuilder listRecipes = exec(http("GET /api/recipes")
+            .get("/api/recipes")
+            .queryParamMap(session -> session.getMap("listParams"))
+            .header("Authorization", "Bearer #{token}")
+            .check(status().is(200)));
+
+    private final ChainBuilder filterRecipes = exec(http("GET /api/recipes/filter")
+            .get("/api/recipes/filter")
+            .queryParamMap(session -> session.getMap("filterParams"))
+            .header("Authorization", "Bearer #{token}")
+            .check(status().is(200)));
+
+    private final ChainBuilder createAndUpdateRecipe = exec(http("POST /api/recipes")
+            .post("/api/recipes")
+            .header("Authorization", "Bearer #{token}")
+            .body(StringBody("#{createBody}"))
+            .check(status().is(201), jsonPath("$.id").saveAs("createdId")))
+            .exec(http("PUT /api/recipes/{id}")
+                    .put("/api/recipes/#{createdId}")
+                    .header("Authorization", "Bearer #{token}")
+                    .body(StringBody("#{updateBody}"))
+                    .check(status().is(200)));
+
+    private final ScenarioBuilder mixedTraffic = scenario("Mixed recipe traffic")
+            .exec(login)
+            .repeat(settings.actionsPerUser()).on(
+                    feed(mix)
+                            .doSwitch("#{action}").on(
+                                    Choice.withKey(RequestMix.GET, getRecipe),
+                                    Choice.withKey(RequestMix.LIST, listRecipes),
+                                    Choice.withKey(RequestMix.FILTER, filterRecipes),
+                                    Choice.withKey(RequestMix.WRITE, createAndUpdateRecipe))
+                            .pause(settings.pause()));
+
+    {
+        List<OpenInjectionStep> injection = new ArrayList<>();
+        if (!settings.rampUp().isZero()) {
+            injection.add(rampUsersPerSec(1).to(settings.usersPerSecond()).during(settings.rampUp()));
+        }
+        injection.add(constantUsersPerSec(settings.usersPerSecond()).during(settings.duration()));
+
+        setUp(mixedTraffic.injectOpen(injection).protocols(httpProtocol))
+                .assertions(global().failedRequests().percent().lt(1.0));
+    }
+
+    @Override
+    public void before() {
+        mix.useRecipeIds(new CatalogSeeder(settings, generator).seed());
+    }
+
+    private List<Map<String, Object>> credentials() {
+        return IntStream.range(0, settings.loadUsers())
+                .<Map<String, Object>>mapToObj(index -> Map.of(
+                        "username", CatalogSeeder.userName(index),
+                        "password", CatalogSeeder.PASSWORD))
+                .toList();
+    }
+}
@@ -0,0 +1,90 @@
+package com.recipe.loadtest;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Seeded sequence of the actions virtual users perform, with their parameters. Given the same settings
+ * and catalog, every run issues the same requests in the same order of arrival; only the interleaving
+ * between virtual users depends on timing.
+ *
+ * <p>Recipe reads favour a hot set of recipes and filters favour popular ingredients, as real traffic does.
+ */
+final class RequestMix implements Iterator<Map<String, Object>> {
+
+    static final String GET = "get";
+    static final String LIST = "list";
+    static final String FILTER = "filter";
+    static final String WRITE = "write";
+
+    private final LoadTestSettings settings;
+    private final CatalogGenerator generator;
+    private final Random random;
+    private final int totalWeight;
+
+    private List<Long> recipeIds;
+    private ZipfSampler hotRecipes;
+    private long writes;
+
+    RequestMix(LoadTestSettings settings, CatalogGenerator generator) {
+        this.settings = settings;
+        this.generator = generator;
+        this.random = new Random(settings.seed());
+        this.totalWeight = settings.getWeight() + settings.listWeight() + settings.filterWeight() + settings.writeWeight();
+    }
+
+    void useRecipeIds(List<Long> recipeIds) {
+        this.recipeIds = recipeIds;
+        this.hotRecipes = new ZipfSampler(recipeIds.size(), 0.8);
+    }
+
+    @Override
+    public boolean hasNext() {
+        return true;
+    }
+
+    @Override
+    public synchronized Map<String, Object> next() {
+        Map<String, Object> record = new HashMap<>();
+        int draw = random.nextInt(totalWeight);
+        if ((draw -= settings.getWeight()) < 0) {
+            record.put("action", GET);
+            record.put("recipeId", recipeIds.get(hotRecipes.sample(random)));
+        } else if ((draw -= settings.listWeight()) < 0) {
+            record.put("action", LIST);
+            record.put("listParams", random.nextBoolean() ? Map.of("size", 20) : Map.of("size", 20, "view", "summary"));
+        } else if (draw - settings.filterWeight() < 0) {
+            record.put("action", FILTER);
+            record.put("filterParams", filterParams());
+        } else {
+            // New recipes continue the catalog sequence, so a rerun creates the same recipes
+            long index = settings.recipes() + writes++;
+            record.put("action", WRITE);
+            record.put("createBody", generator.json(generator.recipe(index)));
+            record.put("updateBody", generator.json(generator.edit(index, 1)));
+        }
+        return record;
+    }
+
+    private Map<String, Object> filterParams() {
+        Map<String, Object> params = new LinkedHashMap<>();
+        if (random.nextInt(10) < 7) {
+            params.put("includeIngredient", generator.ingredient(random));
+        }
+        if (random.nextInt(10) < 3) {
+            params.put("vegetarian", true);
+        }
+        if (random.nextInt(10) < 2) {
+            params.put("servings", 2 + 2 * random.nextInt(2));
+        }
+        if (random.nextInt(10) < 1 || params.isEmpty()) {
+            params.put("excludeIngredient", generator.ingredient(random));
+        }
+        params.put("size", 20);
+        return params;
+    }
+}
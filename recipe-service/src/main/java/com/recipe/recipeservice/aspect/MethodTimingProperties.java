@@ -0,0 +1,38 @@
+package com.recipe.recipeservice.aspect;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Settings of {@link MetricsAspect}. Include and exclude take AspectJ pointcut expressions as a list,
+ * either a YAML list or indexed properties ({@code include[0]=...}), so an expression may contain commas,
+ * as in {@code execution(* *(String, int))}. A single comma-separated value is split on every comma.
+ */
+@Data
+@ConfigurationProperties(prefix = "app.metrics.method-timing")
+public class MethodTimingProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * Fraction of calls that are timed.
+     */
+    private double sampleRate = 1.0;
+
+    /**
+     * Methods to time; all when empty.
+     */
+    private List<String> include = new ArrayList<>();
+
+    /**
+     * Methods never to time, even when included.
+     */
+    private List<String> exclude = new ArrayList<>();
+
+    private boolean percentileHistogram;
+
+    private double[] percentiles = new double[0];
+}
@@ -6,19 +6,55 @@ import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.aop.aspectj.AspectJExpressionPointcut;
 import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
 
 import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
 
+/**
+ * Times controller, service and repository methods. Each target class and method resolves its
+ * timer once; afterwards an invocation costs a map lookup and, when sampled, two clock reads.
+ * <p>
+ * With a sample rate below 1 only that fraction of calls is recorded, so timer counts are scaled down
+ * while latency distributions stay representative. Which methods are timed is set by the include and
+ * exclude pointcut lists of {@link MethodTimingProperties}.
+ */
 @Aspect
 @Component
 public class MetricsAspect {
 
     private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final double sampleRate;
+    private final List<AspectJExpressionPointcut> includes;
+    private final List<AspectJExpressionPointcut> excludes;
+    private final boolean percentileHistogram;
+    private final double[] percentiles;
 
-    public MetricsAspect(MeterRegistry meterRegistry) {
+    // Resolved timers per target class; an empty Optional marks an excluded method
+    private final ClassValue<Map<Method, Optional<Timer>>> timers = new ClassValue<>() {
+        @Override
+        protected Map<Method, Optional<Timer>> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    public MetricsAspect(MeterRegistry meterRegistry, MethodTimingProperties properties) {
         this.meterRegistry = meterRegistry;
+        this.enabled = properties.isEnabled();
+        this.sampleRate = properties.getSampleRate();
+        this.includes = pointcuts(properties.getInclude());
+        this.excludes = pointcuts(properties.getExclude());
+        this.percentileHistogram = properties.isPercentileHistogram();
+        this.percentiles = properties.getPercentiles();
     }
 
     @Around("execution(* com.recipe.recipeservice.controller.*.*(..))")
@@ -37,27 +73,53 @@ public class MetricsAspect {
     }
 
     private Object measureExecutionTime(ProceedingJoinPoint pjp, String type) throws Throwable {
+        if (!enabled || (sampleRate < 1.0 && ThreadLocalRandom.current().nextDouble() >= sampleRate)) {
+            return pjp.proceed();
+        }
+
+        Class<?> targetClass = pjp.getTarget().getClass();
+        Method method = ((MethodSignature) pjp.getSignature()).getMethod();
+        Optional<Timer> timer = timers.get(targetClass).computeIfAbsent(method, m -> resolveTimer(targetClass, m, type));
+        if (timer.isEmpty()) {
+            return pjp.proceed();
+        }
+
         long start = System.nanoTime();
-        
-        Object result = pjp.proceed();
-        
-        long end = System.nanoTime();
-        long executionTime = end - start;
-        
-        MethodSignature signature = (MethodSignature) pjp.getSignature();
-        Method method = signature.getMethod();
-        String className = pjp.getTarget().getClass().getSimpleName();
-        String methodName = method.getName();
-        
-        // Record method execution time
-        Timer.builder("method.execution.time")
+        try {
+            return pjp.proceed();
+        } finally {
+            timer.get().record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private Optional<Timer> resolveTimer(Class<?> targetClass, Method method, String type) {
+        boolean included = includes.isEmpty() || includes.stream().anyMatch(p -> p.matches(method, targetClass));
+        boolean excluded = excludes.stream().anyMatch(p -> p.matches(method, targetClass));
+        if (!included || excluded) {
+            return Optional.empty();
+        }
+
+        String className = targetClass.getSimpleName();
+        return Optional.of(Timer.builder("method.execution.time")
                 .tag("type", type)
                 .tag("class", className)
-                .tag("method", methodName)
-                .description("Execution time of " + className + "." + methodName)
-                .register(meterRegistry)
-                .record(executionTime, TimeUnit.NANOSECONDS);
-        
-        return result;
+                .tag("method", method.getName())
+                .description("Execution time of " + className + "." + method.getName())
+                .publishPercentileHistogram(percentileHistogram)
+                .publishPercentiles(percentiles)
+                .minimumExpectedValue(Duration.ofMillis(1))
+                .maximumExpectedValue(Duration.ofSeconds(10))
+                .register(meterRegistry));
+    }
+
+    private static List<AspectJExpressionPointcut> pointcuts(List<String> expressions) {
+        return expressions.stream()
+                .filter(StringUtils::hasText)
+                .map(expression -> {
+                    AspectJExpressionPointcut pointcut = new AspectJExpressionPointcut();
+                    pointcut.setExpression(expression.trim());
+                    return pointcut;
+                })
+                .toList();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,44 @@
+package com.recipe.recipeservice.cache;
+
+import com.recipe.recipeservice.event.RecipeChangedEvent;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Monotonic counter of committed catalog writes. Results derived from the catalog can be
+ * tagged with the generation observed before they were computed and discarded once it moves on.
+ * The counter restarts with every process, so values handed to clients are qualified by {@link #epoch()}.
+ */
+@Component
+public class CatalogGeneration {
+
+    private final AtomicLong generation = new AtomicLong();
+    private final long epoch = System.currentTimeMillis();
+
+    public long current() {
+        return generation.get();
+    }
+
+    /**
+     * Identifies this process's counter; generations from different epochs are unrelated.
+     */
+    public long epoch() {
+        return epoch;
+    }
+
+    // Runs after the in-memory indexes have applied the change, so a new generation never sees stale indexes
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onRecipeChanged(RecipeChangedEvent event) {
+        advance();
+    }
+
+    public long advance() {
+        return generation.incrementAndGet();
+    }
+}
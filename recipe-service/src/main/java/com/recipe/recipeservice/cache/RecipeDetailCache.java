@@ -0,0 +1,131 @@
+package com.recipe.recipeservice.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.recipe.recipeservice.dto.RecipeDto;
+import com.recipe.recipeservice.event.RecipeChangedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Bounded read-through cache of mapped recipe details, evicted after every committed write.
+ * Cached DTOs are shared between requests and must not be mutated by callers.
+ */
+@Component
+public class RecipeDetailCache {
+
+    private final boolean enabled;
+    private final Cache<Long, RecipeDto> cache;
+
+    // Bumped on every invalidation so a load that raced with a write is not cached. A write can still
+    // land between the check and the put, so the generation is read again afterwards and the entry
+    // dropped if it moved; invalidations bump the generation before evicting, so one of the two wins
+    private final AtomicLong generation = new AtomicLong();
+
+    public RecipeDetailCache(MeterRegistry meterRegistry,
+                             @Value("${app.cache.recipe-detail.enabled:true}") boolean enabled,
+                             @Value("${app.cache.recipe-detail.maximum-size:10000}") long maximumSize,
+                             @Value("${app.cache.recipe-detail.expire-after-write:10m}") Duration expireAfterWrite) {
+        this.enabled = enabled;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "recipe.detail");
+    }
+
+    public RecipeDto get(Long id, Supplier<RecipeDto> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+
+        RecipeDto cached = cache.getIfPresent(id);
+        if (cached != null) {
+            return cached;
+        }
+
+        long generationBeforeLoad = generation.get();
+        RecipeDto loaded = loader.get();
+        if (generation.get() == generationBeforeLoad) {
+            cache.put(id, loaded);
+            if (generation.get() != generationBeforeLoad) {
+                cache.invalidate(id);
+            }
+        }
+        return loaded;
+    }
+
+    /**
+     * Returns the cached details without loading them, or null on a miss.
+     */
+    public RecipeDto getIfPresent(Long id) {
+        return enabled ? cache.getIfPresent(id) : null;
+    }
+
+    /**
+     * Returns the cached details for the given ids, loading all misses with one call to the loader.
+     * Ids the loader does not return are absent from the result.
+     */
+    public Map<Long, RecipeDto> getAll(List<Long> ids, Function<List<Long>, List<RecipeDto>> loader) {
+        if (!enabled) {
+            return index(loader.apply(ids));
+        }
+
+        Map<Long, RecipeDto> recipes = new HashMap<>(cache.getAllPresent(ids));
+        List<Long> missing = ids.stream()
+                .filter(id -> !recipes.containsKey(id))
+                .toList();
+        if (missing.isEmpty()) {
+            return recipes;
+        }
+
+        long generationBeforeLoad = generation.get();
+        Map<Long, RecipeDto> loaded = index(loader.apply(missing));
+        if (generation.get() == generationBeforeLoad) {
+            cache.putAll(loaded);
+            if (generation.get() != generationBeforeLoad) {
+                cache.invalidateAll(loaded.keySet());
+            }
+        }
+        recipes.putAll(loaded);
+        return recipes;
+    }
+
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onRecipeChanged(RecipeChangedEvent event) {
+        invalidate(event.getRecipeId());
+    }
+
+    public void invalidate(Long id) {
+        generation.incrementAndGet();
+        cache.invalidate(id);
+    }
+
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        cache.invalidateAll();
+    }
+
+    private static Map<Long, RecipeDto> index(List<RecipeDto> recipes) {
+        return recipes.stream()
+                .collect(Collectors.toMap(RecipeDto::getId, Function.identity()));
+    }
+}
@@ -0,0 +1,100 @@
+package com.recipe.recipeservice.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.recipe.recipeservice.dto.RecipeFilterDto;
+import com.recipe.recipeservice.repository.RecipeSort;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.function.IntFunction;
+
+/**
+ * Caches the ordered ids matching a filter. Keys carry the {@link CatalogGeneration} they were
+ * computed in, so a committed write invalidates every entry at once without scanning the cache.
+ */
+@Component
+public class RecipeFilterCache {
+
+    // Marks filters whose result exceeds the id limit, so they are not recomputed on every request
+    private static final List<Long> OVERSIZED = Collections.unmodifiableList(new ArrayList<>());
+
+    private final CatalogGeneration catalogGeneration;
+    private final boolean enabled;
+    private final int maxResultIds;
+    private final Cache<Key, List<Long>> cache;
+
+    public RecipeFilterCache(CatalogGeneration catalogGeneration,
+                             MeterRegistry meterRegistry,
+                             @Value("${app.cache.recipe-filter.enabled:true}") boolean enabled,
+                             @Value("${app.cache.recipe-filter.maximum-size:1000}") long maximumSize,
+                             @Value("${app.cache.recipe-filter.expire-after-write:5m}") Duration expireAfterWrite,
+                             @Value("${app.cache.recipe-filter.max-result-ids:1000}") int maxResultIds) {
+        this.catalogGeneration = catalogGeneration;
+        this.enabled = enabled;
+        this.maxResultIds = maxResultIds;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "recipe.filter");
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Returns every id matching the filter in the given order, loading them with at most
+     * {@code maxResultIds + 1} rows on a miss. Empty when the cache is disabled or the result is too large.
+     */
+    public Optional<List<Long>> get(RecipeFilterDto filterDto, RecipeSort sort, boolean descending,
+                                    IntFunction<List<Long>> loader) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+
+        Key key = Key.of(catalogGeneration.current(), filterDto, sort, descending);
+        List<Long> ids = cache.get(key, k -> {
+            List<Long> loaded = loader.apply(maxResultIds + 1);
+            return loaded.size() > maxResultIds ? OVERSIZED : List.copyOf(loaded);
+        });
+        return ids == OVERSIZED ? Optional.empty() : Optional.of(ids);
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    record Key(long generation, Boolean vegetarian, Integer servings, String includeIngredient,
+               String excludeIngredient, String instructionText, RecipeSort sort, boolean descending) {
+
+        static Key of(long generation, RecipeFilterDto filterDto, RecipeSort sort, boolean descending) {
+            return new Key(generation,
+                    filterDto.getVegetarian(),
+                    filterDto.getServings(),
+                    normalize(filterDto.getIncludeIngredient()),
+                    normalize(filterDto.getExcludeIngredient()),
+                    normalize(filterDto.getInstructionText()),
+                    sort,
+                    descending);
+        }
+
+        private static String normalize(String value) {
+            if (value == null || value.isBlank()) {
+                return null;
+            }
+            return value.trim().toLowerCase(Locale.ROOT);
+        }
+    }
+}
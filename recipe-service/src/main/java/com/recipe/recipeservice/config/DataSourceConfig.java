@@ -0,0 +1,57 @@
+package com.recipe.recipeservice.config;
+
+import com.recipe.recipeservice.datasource.WriteLimitingTransactionManager;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.transaction.TransactionManagerCustomizers;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+
+/**
+ * Declares the JDBC pool explicitly. Boot skips its own DataSource once an R2DBC ConnectionFactory
+ * exists, and the JPA services still need one next to the reactive read path.
+ */
+@Configuration
+@EnableConfigurationProperties(DataSourceProperties.class)
+public class DataSourceConfig {
+
+    // Hikari's pool size when maximum-pool-size is not set
+    private static final int DEFAULT_POOL_SIZE = 10;
+
+    // Pooled table generators (recipes, ingredients); each fetches its next id block on a second connection
+    // while the writer's transaction holds its first, and fetches are serialized per generator
+    private static final int ID_GENERATORS = 2;
+
+    /**
+     * The primary pool: {@code maximum-pool-size} connections for transactions plus one per id generator
+     * for block fetches, which {@link #transactionManager} keeps free of writers.
+     */
+    @Bean
+    public HikariDataSource dataSource(DataSourceProperties properties, Environment environment) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(dataSource));
+        int size = dataSource.getMaximumPoolSize() > 0 ? dataSource.getMaximumPoolSize() : DEFAULT_POOL_SIZE;
+        dataSource.setMaximumPoolSize(size + ID_GENERATORS);
+        return dataSource;
+    }
+
+    // Replaces Boot's JpaTransactionManager; writers wait for a slot as long as for a connection
+    @Bean
+    public PlatformTransactionManager transactionManager(HikariDataSource dataSource,
+                                                         ObjectProvider<TransactionManagerCustomizers> customizers) {
+        WriteLimitingTransactionManager transactionManager = new WriteLimitingTransactionManager(
+                dataSource.getMaximumPoolSize() - ID_GENERATORS, Duration.ofMillis(dataSource.getConnectionTimeout()));
+        customizers.ifAvailable(c -> c.customize(transactionManager));
+        return transactionManager;
+    }
+}
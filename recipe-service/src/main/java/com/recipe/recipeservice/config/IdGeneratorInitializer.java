@@ -0,0 +1,70 @@
+package com.recipe.recipeservice.config;
+
+import com.recipe.recipeservice.entity.IdGenerators;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Moves the id generators past rows that were inserted before they existed (for example with
+ * identity columns), so that the first pooled range never hands out an id that is already taken.
+ */
+@Component
+public class IdGeneratorInitializer {
+
+    private static final Logger logger = LoggerFactory.getLogger(IdGeneratorInitializer.class);
+
+    // Generator segment -> table whose ids it assigns
+    private static final Map<String, String> SEGMENTS = Map.of(
+            "recipes", "recipes",
+            "ingredients", "ingredients");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // Depends on the EntityManagerFactory so the schema exists before the generators are aligned
+    public IdGeneratorInitializer(JdbcTemplate jdbcTemplate, EntityManagerFactory entityManagerFactory) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @PostConstruct
+    public void alignWithExistingRows() {
+        SEGMENTS.forEach(this::align);
+    }
+
+    private void align(String segment, String table) {
+        Long maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM " + table, Long.class);
+        // A pooled generator hands out (value - allocationSize, value], so this keeps every new id above maxId
+        long floor = maxId + IdGenerators.ALLOCATION_SIZE;
+
+        int updated = jdbcTemplate.update(
+                "UPDATE " + IdGenerators.TABLE + " SET " + IdGenerators.VALUE_COLUMN + " = ?"
+                        + " WHERE " + IdGenerators.NAME_COLUMN + " = ? AND " + IdGenerators.VALUE_COLUMN + " < ?",
+                floor, segment, floor);
+        if (updated > 0) {
+            logger.info("Moved id generator '{}' past existing ids (max id {})", segment, maxId);
+            return;
+        }
+
+        Integer rows = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM " + IdGenerators.TABLE + " WHERE " + IdGenerators.NAME_COLUMN + " = ?",
+                Integer.class, segment);
+        if (rows == 0 && maxId > 0) {
+            try {
+                jdbcTemplate.update(
+                        "INSERT INTO " + IdGenerators.TABLE + " (" + IdGenerators.NAME_COLUMN + ", "
+                                + IdGenerators.VALUE_COLUMN + ") VALUES (?, ?)",
+                        segment, floor);
+                logger.info("Initialized id generator '{}' past existing ids (max id {})", segment, maxId);
+            } catch (DuplicateKeyException e) {
+                // Another instance initialized the generator concurrently; retry the alignment against its row
+                align(segment, table);
+            }
+        }
+    }
+}
@@ -1,12 +1,15 @@
 package com.recipe.recipeservice.config;
 
+import com.recipe.recipeservice.aspect.MethodTimingProperties;
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 @Configuration
+@EnableConfigurationProperties(MethodTimingProperties.class)
 public class MetricsConfig {
 
     @Bean
@@ -0,0 +1,116 @@
+package com.recipe.recipeservice.config;
+
+import com.recipe.recipeservice.dto.RecipeDto;
+import com.recipe.recipeservice.outbox.DatabasePollingTransport;
+import com.recipe.recipeservice.outbox.OutboxEventCodec;
+import com.recipe.recipeservice.outbox.OutboxRelay;
+import com.recipe.recipeservice.outbox.OutboxWriter;
+import com.recipe.recipeservice.outbox.RecipeChangeSubscriber;
+import com.recipe.recipeservice.outbox.RecipeChangeTransport;
+import com.recipe.recipeservice.repository.OutboxEventRepository;
+import com.recipe.recipeservice.repository.RecipeRepository;
+import com.recipe.recipeservice.service.RecipeMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Transactional outbox of recipe changes. Every write appends a row in the transaction that makes the
+ * change; a relay hands committed rows to the {@link RecipeChangeTransport} and every instance subscribes
+ * to apply the changes of the others. The default transport polls the shared database, which needs no
+ * relay; define another {@code RecipeChangeTransport} bean to use a broker instead.
+ */
+@Configuration
+public class OutboxConfig {
+
+    private static final Clock CLOCK = Clock.systemUTC();
+
+    private final String instanceId;
+
+    public OutboxConfig(@Value("${app.outbox.instance-id:}") String instanceId) {
+        this.instanceId = StringUtils.hasText(instanceId) ? instanceId : generatedInstanceId();
+    }
+
+    @Bean
+    public OutboxEventCodec outboxEventCodec() {
+        return new OutboxEventCodec();
+    }
+
+    @Bean
+    public OutboxWriter outboxWriter(OutboxEventRepository outboxEventRepository, OutboxEventCodec outboxEventCodec,
+                                     RecipeChangeTransport recipeChangeTransport, MeterRegistry meterRegistry) {
+        return new OutboxWriter(outboxEventRepository, outboxEventCodec, recipeChangeTransport, instanceId, CLOCK,
+                meterRegistry);
+    }
+
+    @Bean(destroyMethod = "close")
+    @ConditionalOnMissingBean(RecipeChangeTransport.class)
+    public DatabasePollingTransport databasePollingTransport(
+            OutboxEventRepository outboxEventRepository,
+            OutboxEventCodec outboxEventCodec,
+            PlatformTransactionManager transactionManager,
+            @Value("${app.outbox.poll-interval:500ms}") Duration pollInterval,
+            @Value("${app.outbox.lookback:5s}") Duration lookback,
+            @Value("${app.outbox.batch-size:500}") int batchSize) {
+        return new DatabasePollingTransport(outboxEventRepository, outboxEventCodec, transactionManager, instanceId,
+                pollInterval, lookback, batchSize, CLOCK);
+    }
+
+    @Bean(destroyMethod = "close")
+    public OutboxRelay outboxRelay(
+            OutboxEventRepository outboxEventRepository,
+            OutboxEventCodec outboxEventCodec,
+            RecipeChangeTransport recipeChangeTransport,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${app.outbox.delivery.enabled:true}") boolean enabled,
+            @Value("${app.outbox.poll-interval:500ms}") Duration pollInterval,
+            @Value("${app.outbox.retention:1h}") Duration retention,
+            @Value("${app.outbox.batch-size:500}") int batchSize) {
+        return new OutboxRelay(outboxEventRepository, outboxEventCodec, recipeChangeTransport, transactionManager,
+                CLOCK, enabled, pollInterval, retention, batchSize, meterRegistry);
+    }
+
+    // Remembered ids must outlive the polling lookback, or a re-read row would be applied twice.
+    // Recipes are read back in a read-write transaction, so from the primary rather than a lagging replica.
+    @Bean
+    public RecipeChangeSubscriber recipeChangeSubscriber(
+            RecipeChangeTransport recipeChangeTransport,
+            RecipeRepository recipeRepository,
+            RecipeMapper recipeMapper,
+            PlatformTransactionManager transactionManager,
+            ApplicationEventPublisher eventPublisher,
+            MeterRegistry meterRegistry,
+            @Value("${app.outbox.delivery.enabled:true}") boolean enabled,
+            @Value("${app.outbox.lookback:5s}") Duration lookback) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        Function<Long, Optional<RecipeDto>> recipeLoader = id -> transactionTemplate.execute(status ->
+                recipeRepository.findById(id).map(recipeMapper::toDto));
+        return new RecipeChangeSubscriber(recipeChangeTransport, recipeLoader, eventPublisher, instanceId, CLOCK,
+                enabled, lookback.multipliedBy(4), meterRegistry);
+    }
+
+    private static String generatedInstanceId() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            host = "unknown";
+        }
+        return host + "-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+}
@@ -0,0 +1,102 @@
+package com.recipe.recipeservice.config;
+
+import com.recipe.recipeservice.cache.CatalogGeneration;
+import com.recipe.recipeservice.cache.RecipeDetailCache;
+import com.recipe.recipeservice.datasource.ReadYourWritesWindow;
+import com.recipe.recipeservice.datasource.ReplicaCacheFence;
+import com.recipe.recipeservice.datasource.ReplicaLagMonitor;
+import com.recipe.recipeservice.datasource.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Routes read-only transactions to MySQL replicas when {@code app.datasource.replicas.enabled} is true.
+ * The primary pool from {@link DataSourceConfig} keeps its settings; each replica gets a read-only pool
+ * of the same size. Replicas are probed with {@code SHOW REPLICA STATUS}, which needs the
+ * REPLICATION CLIENT privilege; set {@code lag-query} and {@code lag-column} for other setups.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.datasource.replicas.enabled", havingValue = "true")
+public class ReplicaDataSourceConfig {
+
+    @Bean(destroyMethod = "close")
+    public ReplicaRoutingDataSource replicaRoutingDataSource(HikariDataSource dataSource,
+                                                             ReadYourWritesWindow readYourWritesWindow,
+                                                             ReplicaLagMonitor replicaLagMonitor,
+                                                             MeterRegistry meterRegistry) {
+        return new ReplicaRoutingDataSource(dataSource, replicaLagMonitor.getReplicas(), readYourWritesWindow,
+                replicaLagMonitor, meterRegistry);
+    }
+
+    // The lazy proxy defers the physical connection to the first statement, when the read-only flag is known
+    @Bean
+    @Primary
+    public DataSource routingDataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+
+    @Bean(initMethod = "start", destroyMethod = "close")
+    public ReplicaLagMonitor replicaLagMonitor(
+            HikariDataSource dataSource,
+            MeterRegistry meterRegistry,
+            @Value("${app.datasource.replicas.urls}") List<String> urls,
+            @Value("${app.datasource.replicas.username:${spring.datasource.username}}") String username,
+            @Value("${app.datasource.replicas.password:${spring.datasource.password}}") String password,
+            @Value("${app.datasource.replicas.lag-query:SHOW REPLICA STATUS}") String lagQuery,
+            @Value("${app.datasource.replicas.lag-column:Seconds_Behind_Source}") String lagColumn,
+            @Value("${app.datasource.replicas.max-lag:3s}") Duration maxLag,
+            @Value("${app.datasource.replicas.lag-probe-interval:2s}") Duration probeInterval) {
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        for (String url : urls) {
+            if (!StringUtils.hasText(url)) {
+                continue;
+            }
+            String name = "replica-" + replicas.size();
+            HikariDataSource replica = new HikariDataSource();
+            replica.setPoolName(name);
+            replica.setJdbcUrl(url.trim());
+            replica.setUsername(username);
+            replica.setPassword(password);
+            replica.setDriverClassName(dataSource.getDriverClassName());
+            // Unset (-1) until the primary pool starts, in which case both use Hikari's default
+            if (dataSource.getMaximumPoolSize() > 0) {
+                replica.setMaximumPoolSize(dataSource.getMaximumPoolSize());
+            }
+            replica.setReadOnly(true);
+            replica.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+            replicas.put(name, replica);
+        }
+        return new ReplicaLagMonitor(replicas, lagQuery, lagColumn, maxLag, probeInterval, meterRegistry);
+    }
+
+    @Bean
+    public ReadYourWritesWindow readYourWritesWindow(
+            @Value("${app.datasource.read-your-writes.window:5s}") Duration window,
+            @Value("${app.datasource.read-your-writes.maximum-users:100000}") long maximumUsers) {
+        return new ReadYourWritesWindow(window, maximumUsers);
+    }
+
+    // A replica may serve reads up to max-lag behind, measured at most one probe interval ago
+    @Bean(destroyMethod = "close")
+    public ReplicaCacheFence replicaCacheFence(
+            RecipeDetailCache recipeDetailCache,
+            CatalogGeneration catalogGeneration,
+            @Value("${app.datasource.replicas.max-lag:3s}") Duration maxLag,
+            @Value("${app.datasource.replicas.lag-probe-interval:2s}") Duration probeInterval) {
+        return new ReplicaCacheFence(recipeDetailCache, catalogGeneration, maxLag.plus(probeInterval));
+    }
+}
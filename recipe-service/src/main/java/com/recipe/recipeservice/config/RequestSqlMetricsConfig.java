@@ -0,0 +1,60 @@
+package com.recipe.recipeservice.config;
+
+import com.recipe.recipeservice.metrics.RequestSqlInterceptor;
+import com.recipe.recipeservice.metrics.RequestStatementCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.time.Duration;
+
+/**
+ * Counts the SQL statements of each request per controller method and logs requests over budget.
+ * Hibernate's own statistics reach Prometheus as {@code hibernate_*} through Boot's binder once
+ * {@code hibernate.generate_statistics} is on; queries slower than {@code slow-query-threshold} are
+ * logged with their SQL under {@code org.hibernate.SQL_SLOW}.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.metrics.request-sql.enabled", havingValue = "true", matchIfMissing = true)
+public class RequestSqlMetricsConfig {
+
+    @Bean
+    public RequestStatementCounter requestStatementCounter() {
+        return new RequestStatementCounter();
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer requestStatementCounterCustomizer(
+            RequestStatementCounter requestStatementCounter,
+            @Value("${app.metrics.request-sql.slow-query-threshold:200ms}") Duration slowQueryThreshold) {
+        return properties -> {
+            properties.put(AvailableSettings.STATEMENT_INSPECTOR, requestStatementCounter);
+            properties.put(AvailableSettings.LOG_SLOW_QUERY, slowQueryThreshold.toMillis());
+            // Statistics would otherwise log a summary of every session
+            properties.put(AvailableSettings.LOG_SESSION_METRICS, false);
+        };
+    }
+
+    // Declared as a bean rather than implemented here, so MVC test slices without a MeterRegistry skip it
+    @Bean
+    public WebMvcConfigurer requestSqlInterceptorConfigurer(
+            RequestStatementCounter requestStatementCounter,
+            MeterRegistry meterRegistry,
+            @Value("${app.metrics.request-sql.statement-budget:20}") long statementBudget,
+            @Value("${app.metrics.request-sql.time-budget:1s}") Duration timeBudget) {
+        RequestSqlInterceptor interceptor = new RequestSqlInterceptor(requestStatementCounter, meterRegistry,
+                statementBudget, timeBudget);
+        return new WebMvcConfigurer() {
+            @Override
+            public void addInterceptors(InterceptorRegistry registry) {
+                registry.addInterceptor(interceptor);
+            }
+        };
+    }
+}
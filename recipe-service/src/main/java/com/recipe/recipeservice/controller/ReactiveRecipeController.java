@@ -0,0 +1,54 @@
+package com.recipe.recipeservice.controller;
+
+import com.recipe.recipeservice.dto.CursorPageDto;
+import com.recipe.recipeservice.dto.PageRequestDto;
+import com.recipe.recipeservice.dto.RecipeDto;
+import com.recipe.recipeservice.dto.RecipeFilterDto;
+import com.recipe.recipeservice.service.ReactiveRecipeService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springdoc.core.annotations.ParameterObject;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking reads backed by R2DBC. The request thread is released while the database
+ * works and the response is written when the {@link Mono} completes.
+ */
+@RestController
+@RequestMapping("/recipes/reactive")
+@Tag(name = "Recipes (reactive)", description = "Non-blocking recipe read API")
+@SecurityRequirement(name = "bearerAuth")
+public class ReactiveRecipeController {
+
+    private final ReactiveRecipeService reactiveRecipeService;
+
+    public ReactiveRecipeController(ReactiveRecipeService reactiveRecipeService) {
+        this.reactiveRecipeService = reactiveRecipeService;
+    }
+
+    @GetMapping
+    @Operation(summary = "Get a page of recipes without blocking a request thread")
+    public Mono<CursorPageDto<RecipeDto>> getAllRecipes(@ParameterObject PageRequestDto pageRequest) {
+        return reactiveRecipeService.getAllRecipes(pageRequest);
+    }
+
+    @GetMapping("/{id}")
+    @Operation(summary = "Get recipe by ID without blocking a request thread")
+    public Mono<RecipeDto> getRecipeById(@PathVariable Long id) {
+        return reactiveRecipeService.getRecipeById(id);
+    }
+
+    @PostMapping("/filter")
+    @Operation(summary = "Filter recipes without blocking a request thread")
+    public Mono<CursorPageDto<RecipeDto>> filterRecipes(@RequestBody RecipeFilterDto filterDto,
+                                                        @ParameterObject PageRequestDto pageRequest) {
+        return reactiveRecipeService.filterRecipes(filterDto, pageRequest);
+    }
+}
@@ -1,18 +1,45 @@
 package com.recipe.recipeservice.controller;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.recipe.recipeservice.cache.CatalogGeneration;
+import com.recipe.recipeservice.dto.CursorPageDto;
+import com.recipe.recipeservice.dto.PageRequestDto;
+import com.recipe.recipeservice.dto.RecipeFacetsDto;
 import com.recipe.recipeservice.dto.RecipeDto;
 import com.recipe.recipeservice.dto.RecipeFilterDto;
+import com.recipe.recipeservice.dto.RecipeImportResultDto;
+import com.recipe.recipeservice.dto.RecipeSearchHitDto;
+import com.recipe.recipeservice.dto.RecipeStatsDto;
+import com.recipe.recipeservice.service.RecipeImportFormat;
+import com.recipe.recipeservice.service.RecipeImportService;
+import com.recipe.recipeservice.service.RecipeMergePatcher;
+import com.recipe.recipeservice.service.RecipeProjection;
 import com.recipe.recipeservice.service.RecipeService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
+import org.springdoc.core.annotations.ParameterObject;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.WebAsyncTask;
 
-import java.util.List;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.security.Principal;
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 @RestController
 @RequestMapping("/recipes")
@@ -21,39 +48,131 @@ import java.util.List;
 public class RecipeController {
 
     private final RecipeService recipeService;
+    private final RecipeImportService recipeImportService;
+    private final ObjectMapper objectMapper;
+    private final CatalogGeneration catalogGeneration;
+    private final Duration exportTimeout;
 
-    public RecipeController(RecipeService recipeService) {
+    public RecipeController(RecipeService recipeService, RecipeImportService recipeImportService,
+                            ObjectMapper objectMapper, CatalogGeneration catalogGeneration,
+                            @Value("${app.export.timeout:30m}") Duration exportTimeout) {
         this.recipeService = recipeService;
+        this.recipeImportService = recipeImportService;
+        this.objectMapper = objectMapper;
+        this.catalogGeneration = catalogGeneration;
+        this.exportTimeout = exportTimeout;
     }
 
     @GetMapping
-    @Operation(summary = "Get all recipes")
-    public ResponseEntity<List<RecipeDto>> getAllRecipes() {
-        return ResponseEntity.ok(recipeService.getAllRecipes());
+    @Operation(summary = "Get a page of recipes; view=summary or fields=name,servings,... read only those columns")
+    public ResponseEntity<CursorPageDto<?>> getAllRecipes(@ParameterObject PageRequestDto pageRequest,
+                                                         @RequestParam(required = false) String view,
+                                                         @RequestParam(required = false) String fields,
+                                                         @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+                                                         @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        String etag = RecipeETags.weak(catalogGeneration.epoch(), catalogGeneration.current(), accept);
+        return listResponse(etag, ifNoneMatch, view, fields,
+                () -> recipeService.getAllRecipes(pageRequest),
+                projection -> recipeService.getAllRecipes(pageRequest, projection));
     }
 
     @GetMapping("/my-recipes")
-    @Operation(summary = "Get recipes created by the authenticated user")
-    public ResponseEntity<List<RecipeDto>> getMyRecipes() {
-        return ResponseEntity.ok(recipeService.getMyRecipes());
+    @Operation(summary = "Get a page of recipes created by the authenticated user; supports view and fields like the full list")
+    public ResponseEntity<CursorPageDto<?>> getMyRecipes(@ParameterObject PageRequestDto pageRequest,
+                                                        @RequestParam(required = false) String view,
+                                                        @RequestParam(required = false) String fields,
+                                                        @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+                                                        @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+                                                        Principal principal) {
+        // The page depends on who asks, so the tag does too
+        String etag = RecipeETags.weak(catalogGeneration.epoch(), catalogGeneration.current(), principal.getName(), accept);
+        return listResponse(etag, ifNoneMatch, view, fields,
+                () -> recipeService.getMyRecipes(pageRequest),
+                projection -> recipeService.getMyRecipes(pageRequest, projection));
+    }
+
+    @GetMapping("/stats")
+    @Operation(summary = "Get catalog statistics: total, vegetarian and per-owner recipe counts")
+    public ResponseEntity<RecipeStatsDto> getStatistics() {
+        return ResponseEntity.ok(recipeService.getStatistics());
+    }
+
+    @GetMapping("/facets")
+    @Operation(summary = "Get facet counts (vegetarian, servings, preparation time, top ingredients) for an optional filter")
+    public ResponseEntity<RecipeFacetsDto> getFacets(@ParameterObject RecipeFilterDto filterDto,
+                                                     @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+                                                     @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        String etag = RecipeETags.weak(catalogGeneration.epoch(), catalogGeneration.current(), accept);
+        return taggedResponse(etag, ifNoneMatch, () -> recipeService.getFacets(filterDto));
+    }
+
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Stream the whole recipe catalog as newline-delimited JSON")
+    public WebAsyncTask<Void> exportRecipes(HttpServletResponse response) {
+        // Set before the task starts, so the request thread's filters and the task never both write headers
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        Callable<Void> export = () -> {
+            try (JsonGenerator generator = objectMapper.createGenerator(response.getOutputStream())) {
+                generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+                recipeService.exportRecipes(recipe -> {
+                    try {
+                        generator.writeObject(recipe);
+                        generator.writeRaw('\n');
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            }
+            return null;
+        };
+        // A full export outlasts the default async request timeout, which other endpoints keep
+        return new WebAsyncTask<>(exportTimeout.toMillis(), export);
+    }
+
+    @PostMapping(value = "/import", consumes = {MediaType.APPLICATION_NDJSON_VALUE, RecipeImportFormat.CSV_VALUE})
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Bulk import recipes from an NDJSON or CSV request body")
+    public ResponseEntity<RecipeImportResultDto> importRecipes(@RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+                                                               InputStream body) {
+        return ResponseEntity.ok(recipeImportService.importRecipes(body, RecipeImportFormat.fromContentType(contentType)));
     }
 
     @GetMapping("/{id}")
     @Operation(summary = "Get recipe by ID")
-    public ResponseEntity<RecipeDto> getRecipeById(@PathVariable Long id) {
-        return ResponseEntity.ok(recipeService.getRecipeById(id));
+    public ResponseEntity<RecipeDto> getRecipeById(@PathVariable Long id,
+                                                   @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+                                                   @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        // Revalidation needs only the version, so an unchanged recipe is never loaded or serialized
+        if (ifNoneMatch != null) {
+            String etag = RecipeETags.strong(recipeService.getRecipeVersion(id), accept);
+            if (RecipeETags.matchesAny(ifNoneMatch, etag)) {
+                return notModified(etag);
+            }
+        }
+        return recipeResponse(HttpStatus.OK, recipeService.getRecipeById(id), accept);
     }
 
     @PostMapping
     @Operation(summary = "Create a new recipe")
-    public ResponseEntity<RecipeDto> createRecipe(@Valid @RequestBody RecipeDto recipeDto) {
-        return new ResponseEntity<>(recipeService.createRecipe(recipeDto), HttpStatus.CREATED);
+    public ResponseEntity<RecipeDto> createRecipe(@Valid @RequestBody RecipeDto recipeDto,
+                                                  @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        return recipeResponse(HttpStatus.CREATED, recipeService.createRecipe(recipeDto), accept);
     }
 
     @PutMapping("/{id}")
-    @Operation(summary = "Update an existing recipe")
-    public ResponseEntity<RecipeDto> updateRecipe(@PathVariable Long id, @Valid @RequestBody RecipeDto recipeDto) {
-        return ResponseEntity.ok(recipeService.updateRecipe(id, recipeDto));
+    @Operation(summary = "Update an existing recipe; with If-Match, only if it still has the given version")
+    public ResponseEntity<RecipeDto> updateRecipe(@PathVariable Long id, @Valid @RequestBody RecipeDto recipeDto,
+                                                  @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+                                                  @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        return recipeResponse(HttpStatus.OK, recipeService.updateRecipe(id, recipeDto, RecipeETags.parseVersion(ifMatch)), accept);
+    }
+
+    @PatchMapping(value = "/{id}", consumes = {RecipeMergePatcher.MEDIA_TYPE, MediaType.APPLICATION_JSON_VALUE})
+    @Operation(summary = "Partially update a recipe with a JSON Merge Patch; with If-Match, only if it still has the given version")
+    public ResponseEntity<RecipeDto> patchRecipe(@PathVariable Long id, @RequestBody JsonNode mergePatch,
+                                                 @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+                                                 @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        return recipeResponse(HttpStatus.OK, recipeService.patchRecipe(id, mergePatch, RecipeETags.parseVersion(ifMatch)), accept);
     }
 
     @DeleteMapping("/{id}")
@@ -65,7 +184,68 @@ public class RecipeController {
 
     @PostMapping("/filter")
     @Operation(summary = "Filter recipes based on criteria")
-    public ResponseEntity<List<RecipeDto>> filterRecipes(@RequestBody RecipeFilterDto filterDto) {
-        return ResponseEntity.ok(recipeService.filterRecipes(filterDto));
+    public ResponseEntity<CursorPageDto<?>> filterRecipes(@RequestBody RecipeFilterDto filterDto,
+                                                         @ParameterObject PageRequestDto pageRequest,
+                                                         @RequestParam(required = false) String view,
+                                                         @RequestParam(required = false) String fields) {
+        RecipeProjection<?> projection = RecipeProjection.parse(view, fields);
+        return ResponseEntity.ok(projection == null
+                ? recipeService.filterRecipes(filterDto, pageRequest)
+                : recipeService.filterRecipes(filterDto, pageRequest, projection));
+    }
+
+    @GetMapping("/filter")
+    @Operation(summary = "Filter recipes based on query parameters; cacheable and revalidated with If-None-Match")
+    public ResponseEntity<CursorPageDto<?>> filterRecipesByQuery(@ParameterObject RecipeFilterDto filterDto,
+                                                                @ParameterObject PageRequestDto pageRequest,
+                                                                @RequestParam(required = false) String view,
+                                                                @RequestParam(required = false) String fields,
+                                                                @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+                                                                @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        String etag = RecipeETags.weak(catalogGeneration.epoch(), catalogGeneration.current(), accept);
+        return listResponse(etag, ifNoneMatch, view, fields,
+                () -> recipeService.filterRecipes(filterDto, pageRequest),
+                projection -> recipeService.filterRecipes(filterDto, pageRequest, projection));
+    }
+
+    @GetMapping("/search")
+    @Operation(summary = "Full-text search over recipe name, description and instructions, ranked by relevance")
+    public ResponseEntity<CursorPageDto<RecipeSearchHitDto>> searchRecipes(@RequestParam("q") String query,
+                                                                          @ParameterObject PageRequestDto pageRequest) {
+        return ResponseEntity.ok(recipeService.searchRecipes(query, pageRequest));
+    }
+
+    /**
+     * Answers a collection request from its catalog generation tag alone when the client's copy is current.
+     * The generation is read before the body is computed, so a concurrent write can only make the tag
+     * older than the body, never newer.
+     */
+    private static <T> ResponseEntity<T> taggedResponse(String etag, String ifNoneMatch, Supplier<T> body) {
+        if (RecipeETags.matchesAny(ifNoneMatch, etag)) {
+            return notModified(etag);
+        }
+        return ResponseEntity.ok().eTag(etag).varyBy(RecipeETags.VARY).body(body.get());
+    }
+
+    /**
+     * A catalog response in the representation chosen by the {@code view} and {@code fields} parameters.
+     */
+    private static ResponseEntity<CursorPageDto<?>> listResponse(String etag, String ifNoneMatch, String view, String fields,
+                                                                 Supplier<CursorPageDto<RecipeDto>> full,
+                                                                 Function<RecipeProjection<?>, CursorPageDto<?>> projected) {
+        RecipeProjection<?> projection = RecipeProjection.parse(view, fields);
+        return taggedResponse(etag, ifNoneMatch, () -> projection == null ? full.get() : projected.apply(projection));
+    }
+
+    private static ResponseEntity<RecipeDto> recipeResponse(HttpStatus status, RecipeDto recipe, String accept) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.status(status);
+        if (recipe.getVersion() != null) {
+            response.eTag(RecipeETags.strong(recipe.getVersion(), accept)).varyBy(RecipeETags.VARY);
+        }
+        return response.body(recipe);
+    }
+
+    private static <T> ResponseEntity<T> notModified(String etag) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).varyBy(RecipeETags.VARY).build();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,124 @@
+package com.recipe.recipeservice.controller;
+
+import com.recipe.recipeservice.exception.PreconditionFailedException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.util.MimeTypeUtils;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Entity tags for recipe responses. A single recipe gets a strong tag from its version column;
+ * collections get a weak tag from the catalog generation, valid only within one process epoch.
+ * JSON tags are the bare value; CBOR and Smile bodies differ byte for byte, so their tags carry
+ * the encoding as a suffix, and every tagged response varies by the headers that select it.
+ */
+final class RecipeETags {
+
+    static final String[] VARY = {HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_ENCODING};
+
+    private static final String WEAK_PREFIX = "W/";
+    private static final MediaType SMILE = MediaType.parseMediaType("application/x-jackson-smile");
+
+    private RecipeETags() {
+    }
+
+    static String strong(long version, String accept) {
+        return "\"" + version + encodingSuffix(accept) + "\"";
+    }
+
+    static String weak(long epoch, long generation, String accept) {
+        return WEAK_PREFIX + "\"" + Long.toString(epoch, 36) + "-" + generation + encodingSuffix(accept) + "\"";
+    }
+
+    /**
+     * A collection tag for a response that only {@code principal} may see, so a client that switches
+     * users never revalidates one user's page with another's tag.
+     */
+    static String weak(long epoch, long generation, String principal, String accept) {
+        return WEAK_PREFIX + "\"" + Long.toString(epoch, 36) + "-" + generation + "-" + digest(principal)
+                + encodingSuffix(accept) + "\"";
+    }
+
+    /**
+     * Weak comparison of an If-None-Match header against a tag, as used for conditional GETs.
+     */
+    static boolean matchesAny(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        String opaque = opaque(etag);
+        return Arrays.stream(ifNoneMatch.split(","))
+                .map(String::trim)
+                .anyMatch(candidate -> candidate.equals("*") || opaque(candidate).equals(opaque));
+    }
+
+    /**
+     * Version named by a strong If-Match tag, null for {@code *} or no header. A tag this service
+     * could not have issued never matches, so it fails the precondition outright.
+     */
+    static Long parseVersion(String ifMatch) {
+        if (ifMatch == null || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String tag = ifMatch.trim();
+        if (tag.length() > 2 && tag.startsWith("\"") && tag.endsWith("\"")) {
+            String opaque = tag.substring(1, tag.length() - 1);
+            int suffix = opaque.indexOf('+');
+            try {
+                return Long.valueOf(suffix < 0 ? opaque : opaque.substring(0, suffix));
+            } catch (NumberFormatException e) {
+                // Falls through to the precondition failure below
+            }
+        }
+        throw new PreconditionFailedException("If-Match does not name a current version of the recipe: " + ifMatch);
+    }
+
+    /**
+     * The tag suffix of the representation the message converters will pick for the Accept header,
+     * which prefer JSON whenever it is acceptable.
+     */
+    private static String encodingSuffix(String accept) {
+        if (accept == null) {
+            return "";
+        }
+        List<MediaType> accepted;
+        try {
+            accepted = MediaType.parseMediaTypes(accept);
+            MimeTypeUtils.sortBySpecificity(accepted);
+        } catch (IllegalArgumentException e) {
+            // Negotiation rejects the header with 406 before any tag is used
+            return "";
+        }
+        for (MediaType mediaType : accepted) {
+            if (mediaType.includes(MediaType.APPLICATION_JSON)) {
+                return "";
+            }
+            if (mediaType.includes(MediaType.APPLICATION_CBOR)) {
+                return "+cbor";
+            }
+            if (mediaType.includes(SMILE)) {
+                return "+smile";
+            }
+        }
+        return "";
+    }
+
+    private static String digest(String principal) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(principal.getBytes(StandardCharsets.UTF_8));
+            return Long.toString(ByteBuffer.wrap(hash).getLong() & Long.MAX_VALUE, 36);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private static String opaque(String etag) {
+        return etag.startsWith(WEAK_PREFIX) ? etag.substring(WEAK_PREFIX.length()) : etag;
+    }
+}
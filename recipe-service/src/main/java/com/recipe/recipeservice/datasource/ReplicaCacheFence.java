@@ -0,0 +1,50 @@
+package com.recipe.recipeservice.datasource;
+
+import com.recipe.recipeservice.cache.CatalogGeneration;
+import com.recipe.recipeservice.cache.RecipeDetailCache;
+import com.recipe.recipeservice.event.RecipeChangedEvent;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Invalidates a changed recipe a second time once every readable replica must have applied the change.
+ * Between the commit and that point a read routed to a replica can still return the old row and put
+ * it back into the detail cache, or tag a list with the new catalog generation; the second
+ * invalidation drops both.
+ */
+public class ReplicaCacheFence implements AutoCloseable {
+
+    private final RecipeDetailCache recipeDetailCache;
+    private final CatalogGeneration catalogGeneration;
+    private final Duration delay;
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("replica-cache-fence").daemon().factory());
+
+    public ReplicaCacheFence(RecipeDetailCache recipeDetailCache, CatalogGeneration catalogGeneration, Duration delay) {
+        this.recipeDetailCache = recipeDetailCache;
+        this.catalogGeneration = catalogGeneration;
+        this.delay = delay;
+    }
+
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onRecipeChanged(RecipeChangedEvent event) {
+        Long recipeId = event.getRecipeId();
+        scheduler.schedule(() -> {
+            recipeDetailCache.invalidate(recipeId);
+            catalogGeneration.advance();
+        }, delay.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+    }
+}
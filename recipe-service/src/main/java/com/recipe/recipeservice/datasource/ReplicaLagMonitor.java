@@ -0,0 +1,108 @@
+package com.recipe.recipeservice.datasource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Polls every replica for its replication lag. A replica is readable only while its last probe
+ * succeeded and reported a lag within the limit; until the first probe, or when the lag is unknown
+ * (replication stopped, probe failed), reads fall back to the primary.
+ */
+public class ReplicaLagMonitor implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReplicaLagMonitor.class);
+
+    private final Map<String, DataSource> replicas;
+    private final String lagQuery;
+    private final String lagColumn;
+    private final double maxLagSeconds;
+    private final Duration probeInterval;
+    private final Map<String, Double> lagSeconds = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("replica-lag-probe").daemon().factory());
+
+    public ReplicaLagMonitor(Map<String, DataSource> replicas, String lagQuery, String lagColumn,
+                             Duration maxLag, Duration probeInterval, MeterRegistry meterRegistry) {
+        this.replicas = replicas;
+        this.lagQuery = lagQuery;
+        this.lagColumn = lagColumn;
+        this.maxLagSeconds = maxLag.toMillis() / 1000.0;
+        this.probeInterval = probeInterval;
+
+        replicas.keySet().forEach(replica -> {
+            Gauge.builder("recipe.datasource.replica.lag", () -> lagSeconds.getOrDefault(replica, Double.NaN))
+                    .description("Replication lag reported by the last probe, NaN when unknown")
+                    .baseUnit("seconds")
+                    .tag("replica", replica)
+                    .register(meterRegistry);
+            Gauge.builder("recipe.datasource.replica.available", () -> isAvailable(replica) ? 1 : 0)
+                    .description("Whether reads are currently routed to the replica")
+                    .tag("replica", replica)
+                    .register(meterRegistry);
+        });
+    }
+
+    /**
+     * Probes once before returning, so routing starts from measured lags, then keeps probing in the background.
+     */
+    public void start() {
+        probe();
+        scheduler.scheduleWithFixedDelay(this::probe, probeInterval.toMillis(), probeInterval.toMillis(),
+                TimeUnit.MILLISECONDS);
+    }
+
+    public Map<String, DataSource> getReplicas() {
+        return replicas;
+    }
+
+    public boolean isAvailable(String replica) {
+        Double lag = lagSeconds.get(replica);
+        return lag != null && lag <= maxLagSeconds;
+    }
+
+    void probe() {
+        replicas.forEach((replica, dataSource) -> {
+            Double lag = measure(replica, dataSource);
+            if (lag == null) {
+                lagSeconds.remove(replica);
+            } else {
+                lagSeconds.put(replica, lag);
+            }
+        });
+    }
+
+    private Double measure(String replica, DataSource dataSource) {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(lagQuery)) {
+            if (!resultSet.next()) {
+                logger.warn("Replica {} reports no replication status", replica);
+                return null;
+            }
+            double lag = resultSet.getDouble(lagColumn);
+            return resultSet.wasNull() ? null : lag;
+        } catch (SQLException e) {
+            logger.warn("Could not probe replication lag of replica {}: {}", replica, e.getMessage());
+            return null;
+        }
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+    }
+}
@@ -0,0 +1,81 @@
+package com.recipe.recipeservice.datasource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Sends read-only transactions to the replicas in turn and everything else to the primary. Reads stay
+ * on the primary for users inside their read-your-writes window and when no replica is within the lag
+ * limit. Must sit behind a {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}:
+ * the transaction manager opens its connection before the read-only flag of the transaction is set.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements AutoCloseable {
+
+    static final String PRIMARY = "primary";
+
+    private final Map<String, DataSource> replicas;
+    private final List<String> replicaNames;
+    private final ReadYourWritesWindow readYourWritesWindow;
+    private final ReplicaLagMonitor replicaLagMonitor;
+    private final MeterRegistry meterRegistry;
+    private final AtomicInteger next = new AtomicInteger();
+
+    public ReplicaRoutingDataSource(DataSource primary, Map<String, DataSource> replicas,
+                                    ReadYourWritesWindow readYourWritesWindow, ReplicaLagMonitor replicaLagMonitor,
+                                    MeterRegistry meterRegistry) {
+        this.replicas = replicas;
+        this.replicaNames = List.copyOf(replicas.keySet());
+        this.readYourWritesWindow = readYourWritesWindow;
+        this.replicaLagMonitor = replicaLagMonitor;
+        this.meterRegistry = meterRegistry;
+
+        Map<Object, Object> targets = new HashMap<>(replicas);
+        targets.put(PRIMARY, primary);
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return route(PRIMARY, "write");
+        }
+        if (readYourWritesWindow.isPinned()) {
+            return route(PRIMARY, "read-your-writes");
+        }
+        String replica = nextAvailableReplica();
+        return replica != null ? route(replica, "read") : route(PRIMARY, "replica-unavailable");
+    }
+
+    private String nextAvailableReplica() {
+        int start = Math.floorMod(next.getAndIncrement(), replicaNames.size());
+        for (int i = 0; i < replicaNames.size(); i++) {
+            String replica = replicaNames.get((start + i) % replicaNames.size());
+            if (replicaLagMonitor.isAvailable(replica)) {
+                return replica;
+            }
+        }
+        return null;
+    }
+
+    private String route(String target, String reason) {
+        meterRegistry.counter("recipe.datasource.routing", "target", target, "reason", reason).increment();
+        return target;
+    }
+
+    @Override
+    public void close() throws Exception {
+        for (DataSource replica : replicas.values()) {
+            if (replica instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.recipe.recipeservice.datasource;
+
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.TransactionDefinition;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Admits at most a fixed number of read-write transactions at a time. A writer that fetches an id block
+ * needs a second connection while the other writers of that generator wait for it holding theirs; with
+ * one pool connection per generator beyond this limit, that fetch always finds a connection instead of
+ * waiting for the writers that wait for it. Read-only transactions are not limited. A write transaction
+ * must not start another one ({@code REQUIRES_NEW}) on the same thread, which would need a second permit.
+ */
+public class WriteLimitingTransactionManager extends JpaTransactionManager {
+
+    private final Semaphore writers;
+    private final Duration timeout;
+    private final Set<Object> admitted = Collections.newSetFromMap(new ConcurrentHashMap<>());
+
+    public WriteLimitingTransactionManager(int maxWriters, Duration timeout) {
+        this.writers = new Semaphore(maxWriters, true);
+        this.timeout = timeout;
+    }
+
+    @Override
+    protected void doBegin(Object transaction, TransactionDefinition definition) {
+        if (definition.isReadOnly()) {
+            super.doBegin(transaction, definition);
+            return;
+        }
+
+        admit();
+        admitted.add(transaction);
+        try {
+            super.doBegin(transaction, definition);
+        } catch (RuntimeException | Error e) {
+            release(transaction);
+            throw e;
+        }
+    }
+
+    @Override
+    protected void doCleanupAfterCompletion(Object transaction) {
+        try {
+            super.doCleanupAfterCompletion(transaction);
+        } finally {
+            release(transaction);
+        }
+    }
+
+    private void admit() {
+        try {
+            if (!writers.tryAcquire(timeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                throw new CannotCreateTransactionException(
+                        "No write transaction slot available within " + timeout.toMillis() + " ms");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CannotCreateTransactionException("Interrupted while waiting for a write transaction slot", e);
+        }
+    }
+
+    private void release(Object transaction) {
+        if (admitted.remove(transaction)) {
+            writers.release();
+        }
+    }
+}
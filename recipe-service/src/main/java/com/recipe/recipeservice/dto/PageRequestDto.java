@@ -0,0 +1,18 @@
+package com.recipe.recipeservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PageRequestDto {
+
+    private String cursor;
+    private Integer size;
+    private String sort;
+    private String direction;
+}
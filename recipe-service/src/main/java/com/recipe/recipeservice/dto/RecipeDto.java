@@ -13,7 +13,7 @@ import lombok.NoArgsConstructor;
 import java.util.List;
 
 @Data
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 public class RecipeDto {
@@ -44,4 +44,6 @@ public class RecipeDto {
     private List<IngredientDto> ingredients;
 
     private String createdBy;
+
+    private Long version;
 }
\ No newline at end of file
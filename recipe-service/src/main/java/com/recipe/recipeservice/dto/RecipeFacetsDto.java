@@ -0,0 +1,21 @@
+package com.recipe.recipeservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RecipeFacetsDto {
+
+    private long total;
+    private Map<String, Long> vegetarian;
+    private Map<String, Long> servings;
+    private Map<String, Long> preparationTime;
+    private Map<String, Long> topIngredients;
+}
@@ -0,0 +1,22 @@
+package com.recipe.recipeservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RecipeImportResultDto {
+
+    private long imported;
+    private long rejected;
+    private int batches;
+    private long elapsedMillis;
+    private double recipesPerSecond;
+    private List<String> errors;
+}
@@ -0,0 +1,21 @@
+package com.recipe.recipeservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RecipeStatsDto {
+
+    private long total;
+    private long vegetarian;
+    private long nonVegetarian;
+    private int owners;
+    private Map<String, Long> topOwners;
+}
@@ -0,0 +1,24 @@
+package com.recipe.recipeservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * The columns a recipe list shows, read with a constructor expression instead of loading the recipe,
+ * its long text columns and its ingredients.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RecipeSummaryDto {
+
+    private Long id;
+    private String name;
+    private Boolean vegetarian;
+    private Integer servings;
+    private Integer preparationTime;
+    private Integer cookingTime;
+}
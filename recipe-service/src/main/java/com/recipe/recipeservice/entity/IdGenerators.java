@@ -0,0 +1,16 @@
+package com.recipe.recipeservice.entity;
+
+/**
+ * Shared settings of the table-backed, pooled id generators. Unlike identity columns they let
+ * Hibernate assign ids before inserting, so inserts can be sent in JDBC batches.
+ */
+public final class IdGenerators {
+
+    public static final String TABLE = "id_generators";
+    public static final String NAME_COLUMN = "sequence_name";
+    public static final String VALUE_COLUMN = "next_val";
+    public static final int ALLOCATION_SIZE = 50;
+
+    private IdGenerators() {
+    }
+}
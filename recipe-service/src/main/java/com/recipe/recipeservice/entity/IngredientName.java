@@ -0,0 +1,28 @@
+package com.recipe.recipeservice.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Entry of the ingredient dictionary: one row per canonical ingredient name (see {@link IngredientNames}),
+ * referenced by every ingredient row that uses it. Entries are never updated or deleted.
+ */
+@Entity
+@Table(name = "ingredient_names")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class IngredientName {
+
+    // Inserted one at a time by IngredientDictionary, so an identity column costs no batching
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, unique = true)
+    private String name;
+}
@@ -0,0 +1,81 @@
+package com.recipe.recipeservice.entity;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Canonical form of ingredient names, shared by the ingredient dictionary, the filters and the
+ * in-memory indexes: trimmed, inner whitespace collapsed, lower-cased, then mapped through the
+ * synonyms in {@value #SYNONYMS_RESOURCE} (for example "tomatoes" to "tomato").
+ */
+public final class IngredientNames {
+
+    static final String SYNONYMS_RESOURCE = "/ingredient-synonyms.csv";
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Map<String, String> SYNONYMS = loadSynonyms();
+    private static final Map<String, Set<String>> ALIASES = aliasesByCanonical();
+
+    private IngredientNames() {
+    }
+
+    public static String normalize(String name) {
+        String folded = fold(name);
+        return SYNONYMS.getOrDefault(folded, folded);
+    }
+
+    /**
+     * Every folded spelling that normalizes to the same name as the given one, the canonical name included.
+     */
+    public static Set<String> spellings(String name) {
+        String canonical = normalize(name);
+        Set<String> spellings = new HashSet<>(ALIASES.getOrDefault(canonical, Set.of()));
+        spellings.add(canonical);
+        return spellings;
+    }
+
+    private static String fold(String name) {
+        return WHITESPACE.matcher(name.trim()).replaceAll(" ").toLowerCase(Locale.ROOT);
+    }
+
+    // One "alias,canonical" pair per line; blank lines and lines starting with # are skipped
+    private static Map<String, String> loadSynonyms() {
+        Map<String, String> synonyms = new HashMap<>();
+        InputStream resource = IngredientNames.class.getResourceAsStream(SYNONYMS_RESOURCE);
+        if (resource == null) {
+            return synonyms;
+        }
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(resource, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank() || line.startsWith("#")) {
+                    continue;
+                }
+                String[] pair = line.split(",", 2);
+                if (pair.length != 2) {
+                    throw new IllegalStateException("Invalid ingredient synonym line: " + line);
+                }
+                synonyms.put(fold(pair[0]), fold(pair[1]));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return synonyms;
+    }
+
+    private static Map<String, Set<String>> aliasesByCanonical() {
+        Map<String, Set<String>> aliases = new HashMap<>();
+        SYNONYMS.forEach((alias, canonical) -> aliases.computeIfAbsent(canonical, k -> new HashSet<>()).add(alias));
+        return aliases;
+    }
+}
@@ -0,0 +1,54 @@
+package com.recipe.recipeservice.entity;
+
+import com.recipe.recipeservice.event.RecipeChangedEvent;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * A recipe change appended to the outbox in the transaction that made it. Other instances read it to
+ * bring their in-process caches and indexes up to date. It names the change only; the recipe itself is
+ * read back from the recipes table. UUID ids need no generator round trip and stay unique across
+ * instances; rows are ordered by {@code createdAt}.
+ */
+@Entity
+@Table(name = "recipe_outbox", indexes = {
+        @Index(name = "idx_recipe_outbox_published_at_created_at", columnList = "published_at, created_at"),
+        @Index(name = "idx_recipe_outbox_created_at_id", columnList = "created_at, id")
+})
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OutboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    // Instance that made the change; it has already applied the change locally
+    @Column(nullable = false, length = 100)
+    private String origin;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private RecipeChangedEvent.Type type;
+
+    @Column(name = "recipe_id", nullable = false)
+    private Long recipeId;
+
+    // Version the change left the recipe at; for a deletion, the version deleted
+    @Column(name = "recipe_version")
+    private Long version;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+
+    @Column(name = "published_at")
+    private Instant publishedAt;
+}
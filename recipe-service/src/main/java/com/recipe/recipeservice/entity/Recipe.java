@@ -10,15 +10,24 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "recipes")
+@NamedEntityGraph(name = Recipe.WITH_INGREDIENTS, attributeNodes = @NamedAttributeNode("ingredients"))
+@Table(name = "recipes", indexes = {
+        @Index(name = "idx_recipes_name_id", columnList = "name, id"),
+        @Index(name = "idx_recipes_created_by_id", columnList = "created_by, id")
+})
 @Data
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
 public class Recipe {
 
+    public static final String WITH_INGREDIENTS = "Recipe.withIngredients";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "recipe_id")
+    @TableGenerator(name = "recipe_id", table = IdGenerators.TABLE, pkColumnName = IdGenerators.NAME_COLUMN,
+            valueColumnName = IdGenerators.VALUE_COLUMN, pkColumnValue = "recipes",
+            allocationSize = IdGenerators.ALLOCATION_SIZE)
     private Long id;
 
     @Column(nullable = false)
@@ -43,11 +52,16 @@ public class Recipe {
     private Integer cookingTime;
 
     @OneToMany(mappedBy = "recipe", cascade = CascadeType.ALL, orphanRemoval = true)
+    @Builder.Default
     private List<Ingredient> ingredients = new ArrayList<>();
 
     @Column(name = "created_by", nullable = false)
     private String createdBy;
 
+    @Version
+    @Column(nullable = false)
+    private long version;
+
     public void addIngredient(Ingredient ingredient) {
         ingredients.add(ingredient);
         ingredient.setRecipe(this);
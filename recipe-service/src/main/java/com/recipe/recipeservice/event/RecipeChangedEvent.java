@@ -0,0 +1,68 @@
+package com.recipe.recipeservice.event;
+
+import com.recipe.recipeservice.dto.RecipeDto;
+import lombok.Getter;
+
+import java.time.Instant;
+
+/**
+ * Published by {@code RecipeService} for every recipe write. Carries the mapped state
+ * before and after the change; {@code before} is null for creations and {@code after}
+ * is null for deletions. Changes made by other instances are replayed locally as
+ * {@linkplain #isRemote() remote} events, which carry no {@code before}.
+ */
+@Getter
+public class RecipeChangedEvent {
+
+    public enum Type {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+
+    private final Type type;
+    private final Long recipeId;
+    private final RecipeDto before;
+    private final RecipeDto after;
+    private final boolean remote;
+    // When the other instance wrote a remote change; null for local changes
+    private final Instant createdAt;
+
+    private RecipeChangedEvent(Type type, Long recipeId, RecipeDto before, RecipeDto after, boolean remote,
+                               Instant createdAt) {
+        this.type = type;
+        this.recipeId = recipeId;
+        this.before = before;
+        this.after = after;
+        this.remote = remote;
+        this.createdAt = createdAt;
+    }
+
+    public static RecipeChangedEvent created(RecipeDto recipe) {
+        return new RecipeChangedEvent(Type.CREATED, recipe.getId(), null, recipe, false, null);
+    }
+
+    public static RecipeChangedEvent updated(RecipeDto before, RecipeDto after) {
+        return new RecipeChangedEvent(Type.UPDATED, after.getId(), before, after, false, null);
+    }
+
+    public static RecipeChangedEvent deleted(RecipeDto recipe) {
+        return new RecipeChangedEvent(Type.DELETED, recipe.getId(), recipe, null, false, null);
+    }
+
+    /**
+     * A change another instance committed, already present in the database. {@code after} is the recipe
+     * as read back from it, which may already include later changes.
+     */
+    public static RecipeChangedEvent remote(Type type, Long recipeId, RecipeDto after, Instant createdAt) {
+        return new RecipeChangedEvent(type, recipeId, null, after, true, createdAt);
+    }
+
+    /**
+     * Whether this is a remote change written before {@code instant}. A read of the database made at
+     * that instant already reflects it, unless its transaction was still open.
+     */
+    public boolean isRemoteBefore(Instant instant) {
+        return remote && createdAt.isBefore(instant);
+    }
+}
@@ -0,0 +1,173 @@
+package com.recipe.recipeservice.index;
+
+import com.recipe.recipeservice.dto.RecipeDto;
+import com.recipe.recipeservice.event.RecipeChangedEvent;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Catalog-wide counts held in memory: loaded from the database at startup, then kept current by
+ * applying every committed local change as a delta, so reading them never queries. Remote changes carry
+ * no state before the change to subtract, so the first one schedules a recount {@code recountDelay}
+ * later, which the others arriving meanwhile share. Subclasses define what is counted, how the counts
+ * are loaded and how one recipe contributes to them.
+ *
+ * <p>
+ * Public because javac gives the subclasses of a package-private class bridge methods for its public
+ * methods, and Spring may then not register the inherited listener in every application context.
+ *
+ * @param <C> the mutable counts
+ */
+public abstract class CatalogCounts<C> {
+
+    private static final Logger logger = LoggerFactory.getLogger(CatalogCounts.class);
+
+    private final Duration recountDelay;
+    private final AtomicBoolean recountScheduled = new AtomicBoolean();
+    private final ScheduledExecutorService scheduler;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private volatile C counts;
+    // Local changes committed while a recount loads; applied again on top of its result
+    private Queue<RecipeChangedEvent> pendingChanges;
+
+    // Remote changes written before this are already in the counts; polling replays them from a lookback
+    private volatile Instant seededAt = Instant.MIN;
+
+    protected CatalogCounts(Duration recountDelay) {
+        this.recountDelay = recountDelay;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name(getClass().getSimpleName() + "-recount").daemon().factory());
+    }
+
+    // A @PostConstruct runs before the web server starts, so no local write can be both loaded and applied
+    @PostConstruct
+    public void seed() {
+        long start = System.nanoTime();
+        seededAt = Instant.now();
+        counts = load();
+        logger.info("Seeded {} in {} ms", describe(counts), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onRecipeChanged(RecipeChangedEvent event) {
+        if (event.isRemoteBefore(seededAt)) {
+            return;
+        }
+        if (event.isRemote()) {
+            scheduleRecount();
+            return;
+        }
+        lock.readLock().lock();
+        try {
+            // Applied right away so the change reads back, and kept for the counts a recount is loading
+            apply(counts, event);
+            if (pendingChanges != null) {
+                pendingChanges.add(event);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Reloads the counts while the application runs. A local change committed while the load query
+     * runs may be both loaded and applied, or neither, until the next recount.
+     */
+    public void recount() {
+        lock.writeLock().lock();
+        try {
+            pendingChanges = new ConcurrentLinkedQueue<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        long start = System.nanoTime();
+        Instant loadedAt = Instant.now();
+        C loaded = null;
+        try {
+            loaded = load();
+        } finally {
+            lock.writeLock().lock();
+            try {
+                if (loaded != null) {
+                    for (RecipeChangedEvent event : pendingChanges) {
+                        apply(loaded, event);
+                    }
+                    counts = loaded;
+                    seededAt = loadedAt;
+                }
+                pendingChanges = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+        logger.debug("Recounted {} in {} ms", describe(loaded), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    @PreDestroy
+    public void close() {
+        scheduler.shutdownNow();
+    }
+
+    protected C counts() {
+        return counts;
+    }
+
+    /**
+     * Reads the counts of the whole catalog from the database.
+     */
+    protected abstract C load();
+
+    /**
+     * Adds {@code delta} for every value the recipe contributes to.
+     */
+    protected abstract void count(C counts, RecipeDto recipe, int delta);
+
+    /**
+     * What was loaded, for the log.
+     */
+    protected abstract String describe(C counts);
+
+    private void apply(C target, RecipeChangedEvent event) {
+        if (event.getBefore() != null) {
+            count(target, event.getBefore(), -1);
+        }
+        if (event.getAfter() != null) {
+            count(target, event.getAfter(), 1);
+        }
+    }
+
+    private void scheduleRecount() {
+        if (recountScheduled.compareAndSet(false, true)) {
+            scheduler.schedule(() -> {
+                // Cleared first, so a remote change committed during the load schedules another recount
+                recountScheduled.set(false);
+                try {
+                    recount();
+                } catch (RuntimeException e) {
+                    logger.warn("Could not recount {}, retrying: {}", getClass().getSimpleName(), e.getMessage());
+                    scheduleRecount();
+                }
+            }, recountDelay.toMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+}
@@ -0,0 +1,369 @@
+package com.recipe.recipeservice.index;
+
+import com.recipe.recipeservice.dto.IngredientDto;
+import com.recipe.recipeservice.dto.RecipeDto;
+import com.recipe.recipeservice.dto.RecipeFilterDto;
+import com.recipe.recipeservice.entity.IngredientNames;
+import com.recipe.recipeservice.event.RecipeChangedEvent;
+import com.recipe.recipeservice.repository.RecipeCursor;
+import com.recipe.recipeservice.repository.RecipeRepository;
+import com.recipe.recipeservice.repository.RecipeSort;
+import com.recipe.recipeservice.service.RecipeMapper;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.roaringbitmap.IntIterator;
+import org.roaringbitmap.RoaringBitmap;
+import org.roaringbitmap.longlong.Roaring64Bitmap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.StringUtils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Optional in-process columnar copy of the filterable recipe attributes. Recipes are keyed
+ * by dense ordinals: vegetarian is a bitmap, servings and times are int columns, and every
+ * normalized ingredient name maps to a compressed bitmap of the recipes that use it.
+ * Filters are evaluated as bitmap AND/ANDNOT operations and only the resulting page of ids
+ * is loaded from the database.
+ *
+ * <p>Each ordinal keeps the version of the recipe it holds, so an upsert older than the indexed
+ * state (a change replayed over a newer rebuild snapshot, or a remote change arriving late) is
+ * ignored. Deleted ids are kept as tombstones so a late upsert cannot bring them back, and their
+ * ordinals are reused by later inserts.
+ */
+@Component
+public class RecipeCatalogIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(RecipeCatalogIndex.class);
+
+    private static final int BUILD_BATCH_SIZE = 1000;
+
+    private final RecipeRepository recipeRepository;
+    private final RecipeMapper recipeMapper;
+    private final boolean enabled;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private Columns columns = new Columns();
+    private List<RecipeChangedEvent> pendingChanges;
+    private volatile boolean ready;
+
+    public RecipeCatalogIndex(RecipeRepository recipeRepository,
+                              RecipeMapper recipeMapper,
+                              MeterRegistry meterRegistry,
+                              @Value("${app.catalog-index.enabled:false}") boolean enabled) {
+        this.recipeRepository = recipeRepository;
+        this.recipeMapper = recipeMapper;
+        this.enabled = enabled;
+
+        Gauge.builder("recipe.catalog.index.size", this, RecipeCatalogIndex::size)
+                .description("Number of recipes held in the in-memory catalog index")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (enabled) {
+            rebuild();
+        }
+    }
+
+    /**
+     * Reloads the index from the database in keyset batches. Changes committed while the
+     * rebuild runs are buffered and replayed on top of the new snapshot.
+     */
+    public void rebuild() {
+        lock.writeLock().lock();
+        try {
+            ready = false;
+            pendingChanges = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        long start = System.nanoTime();
+        Columns rebuilt = new Columns();
+        recipeRepository.forEachBatch(BUILD_BATCH_SIZE, batch -> batch.forEach(recipe ->
+                rebuilt.upsert(recipeMapper.toDto(recipe))));
+
+        lock.writeLock().lock();
+        try {
+            pendingChanges.forEach(rebuilt::apply);
+            pendingChanges = null;
+            columns = rebuilt;
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        logger.info("Built recipe catalog index with {} recipes in {} ms",
+                size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onRecipeChanged(RecipeChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            if (pendingChanges != null) {
+                pendingChanges.add(event);
+            } else if (ready) {
+                columns.apply(event);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Whether the index can answer the filter. Instruction text is not indexed, and name
+     * ordering is left to the database so pages follow its collation.
+     */
+    public boolean canServe(RecipeFilterDto filterDto, RecipeCursor cursor) {
+        return enabled && ready
+                && !StringUtils.hasText(filterDto.getInstructionText())
+                && cursor.getSort() != RecipeSort.NAME;
+    }
+
+    /**
+     * Returns the ids of at most {@code limit} recipes matching the filter that sort after
+     * the cursor position, in cursor order.
+     */
+    public List<Long> findPage(RecipeFilterDto filterDto, RecipeCursor cursor, int limit) {
+        lock.readLock().lock();
+        try {
+            return columns.page(columns.match(filterDto), filterDto.getServings(), cursor, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return columns.live.getCardinality();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static final class Columns {
+
+        private static final int INITIAL_CAPACITY = 1024;
+        private static final long NO_VERSION = -1;
+
+        private long[] ids = new long[INITIAL_CAPACITY];
+        private long[] versions = new long[INITIAL_CAPACITY];
+        private int[] servings = new int[INITIAL_CAPACITY];
+        private int[] preparationTimes = new int[INITIAL_CAPACITY];
+        private int[] cookingTimes = new int[INITIAL_CAPACITY];
+        private String[][] ingredientKeys = new String[INITIAL_CAPACITY][];
+        private int size;
+
+        private final Map<Long, Integer> ordinals = new HashMap<>();
+        private final RoaringBitmap live = new RoaringBitmap();
+        private final RoaringBitmap free = new RoaringBitmap();
+        // Ids are never reused by the database, so a deleted id stays deleted
+        private final Roaring64Bitmap deleted = new Roaring64Bitmap();
+        private final RoaringBitmap vegetarian = new RoaringBitmap();
+        private final Map<String, RoaringBitmap> ingredients = new HashMap<>();
+
+        void apply(RecipeChangedEvent event) {
+            if (event.getType() == RecipeChangedEvent.Type.DELETED) {
+                remove(event.getRecipeId());
+            } else {
+                upsert(event.getAfter());
+            }
+        }
+
+        void upsert(RecipeDto recipe) {
+            if (deleted.contains(recipe.getId())) {
+                return;
+            }
+            long version = recipe.getVersion() != null ? recipe.getVersion() : NO_VERSION;
+            Integer existing = ordinals.get(recipe.getId());
+            int ordinal;
+            if (existing != null) {
+                ordinal = existing;
+                if (version != NO_VERSION && version <= versions[ordinal]) {
+                    return;
+                }
+                unindexIngredients(ordinal);
+            } else if (!free.isEmpty()) {
+                ordinal = free.first();
+                free.remove(ordinal);
+                ordinals.put(recipe.getId(), ordinal);
+                ids[ordinal] = recipe.getId();
+            } else {
+                ordinal = size++;
+                ensureCapacity(size);
+                ordinals.put(recipe.getId(), ordinal);
+                ids[ordinal] = recipe.getId();
+            }
+
+            versions[ordinal] = version;
+            servings[ordinal] = valueOrZero(recipe.getServings());
+            preparationTimes[ordinal] = valueOrZero(recipe.getPreparationTime());
+            cookingTimes[ordinal] = valueOrZero(recipe.getCookingTime());
+
+            if (Boolean.TRUE.equals(recipe.getVegetarian())) {
+                vegetarian.add(ordinal);
+            } else {
+                vegetarian.remove(ordinal);
+            }
+
+            String[] keys = recipe.getIngredients() == null ? new String[0] : recipe.getIngredients().stream()
+                    .map(IngredientDto::getName)
+                    .filter(Objects::nonNull)
+                    .map(IngredientNames::normalize)
+                    .distinct()
+                    .toArray(String[]::new);
+            for (String key : keys) {
+                ingredients.computeIfAbsent(key, k -> new RoaringBitmap()).add(ordinal);
+            }
+            ingredientKeys[ordinal] = keys;
+
+            live.add(ordinal);
+        }
+
+        void remove(Long id) {
+            deleted.addLong(id);
+            Integer ordinal = ordinals.remove(id);
+            if (ordinal == null) {
+                return;
+            }
+            unindexIngredients(ordinal);
+            vegetarian.remove(ordinal);
+            live.remove(ordinal);
+            free.add(ordinal);
+        }
+
+        RoaringBitmap match(RecipeFilterDto filterDto) {
+            RoaringBitmap result = live.clone();
+            if (filterDto.getVegetarian() != null) {
+                if (filterDto.getVegetarian()) {
+                    result.and(vegetarian);
+                } else {
+                    result.andNot(vegetarian);
+                }
+            }
+            if (StringUtils.hasText(filterDto.getIncludeIngredient())) {
+                result.and(ingredientsNamed(filterDto.getIncludeIngredient()));
+            }
+            if (StringUtils.hasText(filterDto.getExcludeIngredient())) {
+                result.andNot(ingredientsNamed(filterDto.getExcludeIngredient()));
+            }
+            return result;
+        }
+
+        List<Long> page(RoaringBitmap candidates, Integer servingsFilter, RecipeCursor cursor, int limit) {
+            Comparator<Integer> order = cursor.getSort() == RecipeSort.TOTAL_TIME
+                    ? Comparator.<Integer>comparingInt(this::totalTime).thenComparingLong(ordinal -> ids[ordinal])
+                    : Comparator.<Integer>comparingLong(ordinal -> ids[ordinal]);
+            if (cursor.isDescending()) {
+                order = order.reversed();
+            }
+
+            // Bounded heap whose head is the worst of the best "limit" ordinals seen so far
+            PriorityQueue<Integer> best = new PriorityQueue<>(limit + 1, order.reversed());
+            int lastTotalTime = cursor.hasPosition() && cursor.getSort() == RecipeSort.TOTAL_TIME
+                    ? Integer.parseInt(cursor.getLastValue())
+                    : 0;
+            IntIterator iterator = candidates.getIntIterator();
+            while (iterator.hasNext()) {
+                int ordinal = iterator.next();
+                if (servingsFilter != null && servings[ordinal] != servingsFilter) {
+                    continue;
+                }
+                if (cursor.hasPosition() && !isAfter(ordinal, cursor, lastTotalTime)) {
+                    continue;
+                }
+                best.offer(ordinal);
+                if (best.size() > limit) {
+                    best.poll();
+                }
+            }
+
+            List<Integer> ordered = new ArrayList<>(best);
+            ordered.sort(order);
+            return ordered.stream()
+                    .map(ordinal -> ids[ordinal])
+                    .toList();
+        }
+
+        private boolean isAfter(int ordinal, RecipeCursor cursor, int lastTotalTime) {
+            int comparison = 0;
+            if (cursor.getSort() == RecipeSort.TOTAL_TIME) {
+                comparison = Integer.compare(totalTime(ordinal), lastTotalTime);
+            }
+            if (comparison == 0) {
+                comparison = Long.compare(ids[ordinal], cursor.getLastId());
+            }
+            return cursor.isDescending() ? comparison < 0 : comparison > 0;
+        }
+
+        private int totalTime(int ordinal) {
+            return preparationTimes[ordinal] + cookingTimes[ordinal];
+        }
+
+        private RoaringBitmap ingredientsNamed(String text) {
+            // Same equality on the normalized name as the SQL filter
+            RoaringBitmap recipes = ingredients.get(IngredientNames.normalize(text));
+            return recipes == null ? new RoaringBitmap() : recipes;
+        }
+
+        private void unindexIngredients(int ordinal) {
+            String[] keys = ingredientKeys[ordinal];
+            if (keys == null) {
+                return;
+            }
+            for (String key : keys) {
+                RoaringBitmap bitmap = ingredients.get(key);
+                if (bitmap != null) {
+                    bitmap.remove(ordinal);
+                    if (bitmap.isEmpty()) {
+                        ingredients.remove(key);
+                    }
+                }
+            }
+            ingredientKeys[ordinal] = null;
+        }
+
+        private void ensureCapacity(int capacity) {
+            if (capacity <= ids.length) {
+                return;
+            }
+            int newCapacity = Math.max(capacity, ids.length * 2);
+            ids = Arrays.copyOf(ids, newCapacity);
+            versions = Arrays.copyOf(versions, newCapacity);
+            servings = Arrays.copyOf(servings, newCapacity);
+            preparationTimes = Arrays.copyOf(preparationTimes, newCapacity);
+            cookingTimes = Arrays.copyOf(cookingTimes, newCapacity);
+            ingredientKeys = Arrays.copyOf(ingredientKeys, newCapacity);
+        }
+
+        private static int valueOrZero(Integer value) {
+            return value != null ? value : 0;
+        }
+    }
+}
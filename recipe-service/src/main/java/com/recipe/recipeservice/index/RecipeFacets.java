@@ -0,0 +1,196 @@
+package com.recipe.recipeservice.index;
+
+import com.recipe.recipeservice.dto.IngredientDto;
+import com.recipe.recipeservice.dto.RecipeDto;
+import com.recipe.recipeservice.dto.RecipeFacetsDto;
+import com.recipe.recipeservice.entity.IngredientNames;
+import com.recipe.recipeservice.entity.Recipe;
+import com.recipe.recipeservice.repository.IngredientCountRow;
+import com.recipe.recipeservice.repository.RecipeFacetRow;
+import com.recipe.recipeservice.repository.RecipeRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * Facet counts for the search UI: vegetarian flag, servings buckets, preparation time ranges and
+ * the most used ingredients. Counts over the whole catalog are seeded at startup and kept current
+ * from committed changes as {@link CatalogCounts}; counts under a filter come from one grouped
+ * query per facet family instead of a filter execution per facet value.
+ */
+@Component
+public class RecipeFacets extends CatalogCounts<RecipeFacets.Counts> {
+
+    static final String NO_PREPARATION_TIME = "unknown";
+
+    private static final List<String> DIET_BUCKETS = List.of("true", "false");
+    private static final List<String> SERVINGS_BUCKETS = List.of("1-2", "3-4", "5-6", "7+");
+    private static final List<String> PREPARATION_BUCKETS = List.of("0-15", "16-30", "31-60", "61+", NO_PREPARATION_TIME);
+
+    private final RecipeRepository recipeRepository;
+    private final int topIngredients;
+
+    public RecipeFacets(RecipeRepository recipeRepository,
+                        @Value("${app.facets.top-ingredients:10}") int topIngredients,
+                        @Value("${app.outbox.recount-delay:5s}") Duration recountDelay) {
+        super(recountDelay);
+        this.recipeRepository = recipeRepository;
+        this.topIngredients = topIngredients;
+    }
+
+    /**
+     * Facet counts over the whole catalog, answered from memory.
+     */
+    public RecipeFacetsDto snapshot() {
+        Counts counts = counts();
+        Map<String, Long> top = new LinkedHashMap<>();
+        counts.ingredients.entrySet().stream()
+                .map(entry -> Map.entry(entry.getKey(), entry.getValue().sum()))
+                .filter(entry -> entry.getValue() > 0)
+                .sorted(Map.Entry.<String, Long>comparingByValue(Comparator.reverseOrder())
+                        .thenComparing(Map.Entry.comparingByKey()))
+                .limit(topIngredients)
+                .forEach(entry -> top.put(entry.getKey(), entry.getValue()));
+
+        return RecipeFacetsDto.builder()
+                .total(counts.diet.values().stream().mapToLong(LongAdder::sum).sum())
+                .vegetarian(sums(counts.diet))
+                .servings(sums(counts.servings))
+                .preparationTime(sums(counts.preparationTime))
+                .topIngredients(top)
+                .build();
+    }
+
+    /**
+     * Facet counts over the recipes matching the specification, from two grouped queries: one over the
+     * recipe columns and one over the ingredient rows.
+     */
+    public RecipeFacetsDto count(Specification<Recipe> specification) {
+        Map<String, Long> dietCounts = zeros(DIET_BUCKETS);
+        Map<String, Long> servingsCounts = zeros(SERVINGS_BUCKETS);
+        Map<String, Long> preparationCounts = zeros(PREPARATION_BUCKETS);
+        long total = 0;
+        for (RecipeFacetRow row : recipeRepository.countFacets(specification)) {
+            dietCounts.merge(String.valueOf(row.vegetarian()), row.recipes(), Long::sum);
+            servingsCounts.merge(servingsBucket(row.servings()), row.recipes(), Long::sum);
+            preparationCounts.merge(preparationBucket(row.preparationTime()), row.recipes(), Long::sum);
+            total += row.recipes();
+        }
+
+        Map<String, Long> top = new LinkedHashMap<>();
+        if (total > 0) {
+            recipeRepository.countIngredients(specification, topIngredients)
+                    .forEach(row -> top.put(row.ingredient(), row.recipes()));
+        }
+
+        return RecipeFacetsDto.builder()
+                .total(total)
+                .vegetarian(dietCounts)
+                .servings(servingsCounts)
+                .preparationTime(preparationCounts)
+                .topIngredients(top)
+                .build();
+    }
+
+    static String servingsBucket(int servings) {
+        if (servings <= 2) {
+            return "1-2";
+        }
+        if (servings <= 4) {
+            return "3-4";
+        }
+        return servings <= 6 ? "5-6" : "7+";
+    }
+
+    static String preparationBucket(Integer minutes) {
+        if (minutes == null) {
+            return NO_PREPARATION_TIME;
+        }
+        if (minutes <= 15) {
+            return "0-15";
+        }
+        if (minutes <= 30) {
+            return "16-30";
+        }
+        return minutes <= 60 ? "31-60" : "61+";
+    }
+
+    @Override
+    protected Counts load() {
+        Counts counts = new Counts();
+        for (RecipeFacetRow row : recipeRepository.countFacets(null)) {
+            counts.add(row.vegetarian(), row.servings(), row.preparationTime(), row.recipes());
+        }
+        // Rows the backfill has not linked yet are grouped by raw name, so fold them onto their dictionary name
+        for (IngredientCountRow row : recipeRepository.countIngredients(null, Integer.MAX_VALUE)) {
+            counts.ingredient(IngredientNames.normalize(row.ingredient())).add(row.recipes());
+        }
+        return counts;
+    }
+
+    @Override
+    protected void count(Counts counts, RecipeDto recipe, int delta) {
+        counts.add(Boolean.TRUE.equals(recipe.getVegetarian()),
+                recipe.getServings() != null ? recipe.getServings() : 0, recipe.getPreparationTime(), delta);
+
+        // Matches the grouped seed query: each recipe counts once per distinct dictionary name
+        Set<String> names = recipe.getIngredients() == null ? Set.of() : recipe.getIngredients().stream()
+                .map(IngredientDto::getName)
+                .filter(StringUtils::hasText)
+                .map(IngredientNames::normalize)
+                .collect(Collectors.toSet());
+        names.forEach(name -> counts.ingredient(name).add(delta));
+    }
+
+    @Override
+    protected String describe(Counts counts) {
+        return "recipe facets with " + counts.ingredients.size() + " ingredients";
+    }
+
+    private static Map<String, LongAdder> adders(List<String> buckets) {
+        Map<String, LongAdder> adders = new LinkedHashMap<>();
+        buckets.forEach(bucket -> adders.put(bucket, new LongAdder()));
+        return adders;
+    }
+
+    private static Map<String, Long> zeros(List<String> buckets) {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        buckets.forEach(bucket -> counts.put(bucket, 0L));
+        return counts;
+    }
+
+    private static Map<String, Long> sums(Map<String, LongAdder> adders) {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        adders.forEach((bucket, adder) -> counts.put(bucket, adder.sum()));
+        return counts;
+    }
+
+    static final class Counts {
+
+        private final Map<String, LongAdder> diet = adders(DIET_BUCKETS);
+        private final Map<String, LongAdder> servings = adders(SERVINGS_BUCKETS);
+        private final Map<String, LongAdder> preparationTime = adders(PREPARATION_BUCKETS);
+        private final Map<String, LongAdder> ingredients = new ConcurrentHashMap<>();
+
+        void add(boolean vegetarian, int servingsValue, Integer preparationMinutes, long delta) {
+            diet.get(String.valueOf(vegetarian)).add(delta);
+            servings.get(servingsBucket(servingsValue)).add(delta);
+            preparationTime.get(preparationBucket(preparationMinutes)).add(delta);
+        }
+
+        LongAdder ingredient(String name) {
+            return ingredients.computeIfAbsent(name, key -> new LongAdder());
+        }
+    }
+}
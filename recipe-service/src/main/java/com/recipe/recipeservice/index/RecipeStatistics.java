@@ -0,0 +1,115 @@
+package com.recipe.recipeservice.index;
+
+import com.recipe.recipeservice.dto.RecipeDto;
+import com.recipe.recipeservice.dto.RecipeStatsDto;
+import com.recipe.recipeservice.repository.RecipeCountRow;
+import com.recipe.recipeservice.repository.RecipeRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Catalog counts seeded with one grouped query at startup and kept current from committed
+ * changes, so writes never pay for a COUNT and the gauges always report live values.
+ * Per-owner counts are only served by {@link #snapshot(int)}; as gauge tags they would be unbounded.
+ */
+@Component
+public class RecipeStatistics extends CatalogCounts<RecipeStatistics.Counts> {
+
+    private final RecipeRepository recipeRepository;
+
+    public RecipeStatistics(RecipeRepository recipeRepository, MeterRegistry meterRegistry,
+                            @Value("${app.outbox.recount-delay:5s}") Duration recountDelay) {
+        super(recountDelay);
+        this.recipeRepository = recipeRepository;
+
+        Gauge.builder("recipe.count", this, RecipeStatistics::total)
+                .description("Number of recipes in the catalog")
+                .register(meterRegistry);
+        Gauge.builder("recipe.count.by.diet", this, statistics -> statistics.counts().vegetarian.sum())
+                .description("Number of recipes by vegetarian flag")
+                .tag("vegetarian", "true")
+                .register(meterRegistry);
+        Gauge.builder("recipe.count.by.diet", this, statistics -> statistics.counts().nonVegetarian.sum())
+                .description("Number of recipes by vegetarian flag")
+                .tag("vegetarian", "false")
+                .register(meterRegistry);
+        Gauge.builder("recipe.owners", this, RecipeStatistics::ownerCount)
+                .description("Number of users owning at least one recipe")
+                .register(meterRegistry);
+    }
+
+    public long total() {
+        return counts().total();
+    }
+
+    public RecipeStatsDto snapshot(int topOwners) {
+        Counts counts = counts();
+        Map<String, Long> top = new LinkedHashMap<>();
+        counts.owners.entrySet().stream()
+                .map(entry -> Map.entry(entry.getKey(), entry.getValue().sum()))
+                .filter(entry -> entry.getValue() > 0)
+                .sorted(Map.Entry.<String, Long>comparingByValue(Comparator.reverseOrder())
+                        .thenComparing(Map.Entry.comparingByKey()))
+                .limit(topOwners)
+                .forEach(entry -> top.put(entry.getKey(), entry.getValue()));
+
+        return RecipeStatsDto.builder()
+                .total(counts.total())
+                .vegetarian(counts.vegetarian.sum())
+                .nonVegetarian(counts.nonVegetarian.sum())
+                .owners(counts.ownerCount())
+                .topOwners(top)
+                .build();
+    }
+
+    @Override
+    protected Counts load() {
+        Counts counts = new Counts();
+        for (RecipeCountRow row : recipeRepository.countByOwnerAndVegetarian()) {
+            (row.isVegetarian() ? counts.vegetarian : counts.nonVegetarian).add(row.getRecipes());
+            counts.owners.computeIfAbsent(row.getCreatedBy(), owner -> new LongAdder()).add(row.getRecipes());
+        }
+        return counts;
+    }
+
+    @Override
+    protected void count(Counts counts, RecipeDto recipe, int delta) {
+        (Boolean.TRUE.equals(recipe.getVegetarian()) ? counts.vegetarian : counts.nonVegetarian).add(delta);
+        counts.owners.computeIfAbsent(recipe.getCreatedBy(), owner -> new LongAdder()).add(delta);
+    }
+
+    @Override
+    protected String describe(Counts counts) {
+        return "recipe statistics with " + counts.total() + " recipes";
+    }
+
+    private int ownerCount() {
+        return counts().ownerCount();
+    }
+
+    static final class Counts {
+
+        private final LongAdder vegetarian = new LongAdder();
+        private final LongAdder nonVegetarian = new LongAdder();
+        private final Map<String, LongAdder> owners = new ConcurrentHashMap<>();
+
+        long total() {
+            return vegetarian.sum() + nonVegetarian.sum();
+        }
+
+        int ownerCount() {
+            return (int) owners.values().stream()
+                    .filter(count -> count.sum() > 0)
+                    .count();
+        }
+    }
+}
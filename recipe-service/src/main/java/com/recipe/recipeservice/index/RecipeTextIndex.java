@@ -0,0 +1,300 @@
+package com.recipe.recipeservice.index;
+
+import com.recipe.recipeservice.dto.RecipeDto;
+import com.recipe.recipeservice.event.RecipeChangedEvent;
+import com.recipe.recipeservice.repository.RecipeRepository;
+import com.recipe.recipeservice.service.RecipeMapper;
+import jakarta.annotation.PreDestroy;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.en.EnglishAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.NumericDocValuesField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.DocValues;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.NumericDocValues;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.queryparser.simple.SimpleQueryParser;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.MatchNoDocsQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.ScoreMode;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.SimpleCollector;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Embedded Lucene index over recipe name, description and instructions. Queries use the
+ * simple query syntax ("phrases", +/- terms, | for OR, prefix*), all terms required by
+ * default, and hits are ranked with Lucene's default BM25 similarity.
+ */
+@Component
+public class RecipeTextIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(RecipeTextIndex.class);
+
+    private static final int BUILD_BATCH_SIZE = 1000;
+
+    private static final String ID = "id";
+    private static final String NAME = "name";
+    private static final String DESCRIPTION = "description";
+    private static final String INSTRUCTIONS = "instructions";
+
+    private static final Map<String, Float> SEARCH_FIELDS = Map.of(NAME, 3.0f, DESCRIPTION, 1.5f, INSTRUCTIONS, 1.0f);
+    private static final Map<String, Float> INSTRUCTION_FIELDS = Map.of(INSTRUCTIONS, 1.0f);
+
+    public record Hit(Long recipeId, float score) {
+    }
+
+    public record Hits(List<Hit> hits, long totalHits) {
+    }
+
+    private final RecipeRepository recipeRepository;
+    private final RecipeMapper recipeMapper;
+    private final boolean enabled;
+
+    private final Analyzer analyzer = new EnglishAnalyzer();
+    private final IndexWriter writer;
+    private final SearcherManager searcherManager;
+
+    // Not a monitor: index writes and refreshes block on I/O under it, which would pin a virtual thread
+    private final Lock rebuildLock = new ReentrantLock();
+    private List<RecipeChangedEvent> pendingChanges;
+    private volatile boolean ready;
+
+    private final AtomicLong appliedChanges = new AtomicLong();
+    private volatile long refreshedChanges;
+
+    public RecipeTextIndex(RecipeRepository recipeRepository,
+                           RecipeMapper recipeMapper,
+                           @Value("${app.text-index.enabled:true}") boolean enabled) throws IOException {
+        this.recipeRepository = recipeRepository;
+        this.recipeMapper = recipeMapper;
+        this.enabled = enabled;
+        this.writer = new IndexWriter(new ByteBuffersDirectory(), new IndexWriterConfig(analyzer));
+        this.searcherManager = new SearcherManager(writer, null);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (enabled) {
+            rebuild();
+        }
+    }
+
+    /**
+     * Re-indexes the whole catalog. Changes committed while the rebuild runs are buffered
+     * and replayed afterwards so a stale batch cannot overwrite a newer document.
+     */
+    public void rebuild() {
+        rebuildLock.lock();
+        try {
+            ready = false;
+            pendingChanges = new ArrayList<>();
+        } finally {
+            rebuildLock.unlock();
+        }
+
+        long start = System.nanoTime();
+        try {
+            writer.deleteAll();
+            recipeRepository.forEachBatch(BUILD_BATCH_SIZE, batch -> batch.forEach(recipe ->
+                    index(recipeMapper.toDto(recipe))));
+
+            rebuildLock.lock();
+            try {
+                pendingChanges.forEach(this::apply);
+                pendingChanges = null;
+                searcherManager.maybeRefresh();
+                ready = true;
+            } finally {
+                rebuildLock.unlock();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to build recipe text index", e);
+        }
+
+        logger.info("Built recipe text index with {} documents in {} ms",
+                writer.getDocStats().numDocs, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onRecipeChanged(RecipeChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        rebuildLock.lock();
+        try {
+            if (pendingChanges != null) {
+                pendingChanges.add(event);
+                return;
+            }
+            apply(event);
+        } finally {
+            rebuildLock.unlock();
+        }
+        // The searcher is reopened lazily by the next search, so bursts of writes share one refresh
+        appliedChanges.incrementAndGet();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public boolean isReady() {
+        return enabled && ready;
+    }
+
+    /**
+     * Ranked search over name, description and instructions.
+     */
+    public Hits search(String queryText, int offset, int limit) {
+        return search(parse(queryText, SEARCH_FIELDS), offset, limit);
+    }
+
+    /**
+     * Ids of all recipes whose instructions match the query, in ascending order, however many there are.
+     * A query without searchable terms (only stopwords, say) matches nothing, as it does in {@link #search}.
+     */
+    public List<Long> findInstructionMatches(String queryText) {
+        Query query = parse(queryText, INSTRUCTION_FIELDS);
+        if (query instanceof MatchNoDocsQuery) {
+            return List.of();
+        }
+        try {
+            refreshIfStale();
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                IdCollector collector = new IdCollector();
+                searcher.search(query, collector);
+                return collector.ids.stream().sorted().toList();
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to search recipe text index", e);
+        }
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        searcherManager.close();
+        writer.close();
+    }
+
+    private Hits search(Query query, int offset, int limit) {
+        try {
+            refreshIfStale();
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                TopDocs topDocs = searcher.search(query, offset + limit);
+                List<Hit> hits = new ArrayList<>();
+                ScoreDoc[] scoreDocs = topDocs.scoreDocs;
+                for (int i = offset; i < scoreDocs.length; i++) {
+                    Document document = searcher.storedFields().document(scoreDocs[i].doc);
+                    hits.add(new Hit(Long.valueOf(document.get(ID)), scoreDocs[i].score));
+                }
+                return new Hits(hits, topDocs.totalHits.value);
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to search recipe text index", e);
+        }
+    }
+
+    private void refreshIfStale() throws IOException {
+        long applied = appliedChanges.get();
+        if (refreshedChanges < applied) {
+            searcherManager.maybeRefreshBlocking();
+            refreshedChanges = applied;
+        }
+    }
+
+    private Query parse(String queryText, Map<String, Float> fields) {
+        SimpleQueryParser parser = new SimpleQueryParser(analyzer, fields);
+        parser.setDefaultOperator(BooleanClause.Occur.MUST);
+        return parser.parse(queryText);
+    }
+
+    private void apply(RecipeChangedEvent event) {
+        if (event.getType() == RecipeChangedEvent.Type.DELETED) {
+            try {
+                writer.deleteDocuments(new Term(ID, String.valueOf(event.getRecipeId())));
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to update recipe text index", e);
+            }
+        } else {
+            index(event.getAfter());
+        }
+    }
+
+    private void index(RecipeDto recipe) {
+        Document document = new Document();
+        document.add(new StringField(ID, String.valueOf(recipe.getId()), Field.Store.YES));
+        document.add(new NumericDocValuesField(ID, recipe.getId()));
+        document.add(new TextField(NAME, valueOrEmpty(recipe.getName()), Field.Store.NO));
+        document.add(new TextField(DESCRIPTION, valueOrEmpty(recipe.getDescription()), Field.Store.NO));
+        document.add(new TextField(INSTRUCTIONS, valueOrEmpty(recipe.getInstructions()), Field.Store.NO));
+        try {
+            writer.updateDocument(new Term(ID, String.valueOf(recipe.getId())), document);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to update recipe text index", e);
+        }
+    }
+
+    private static String valueOrEmpty(String value) {
+        return value != null ? value : "";
+    }
+
+    // Reads ids from doc values rather than stored fields, so collecting every hit stays cheap
+    private static final class IdCollector extends SimpleCollector {
+
+        private final List<Long> ids = new ArrayList<>();
+        private NumericDocValues values;
+
+        @Override
+        protected void doSetNextReader(LeafReaderContext context) throws IOException {
+            values = DocValues.getNumeric(context.reader(), ID);
+        }
+
+        @Override
+        public void collect(int doc) throws IOException {
+            if (values.advanceExact(doc)) {
+                ids.add(values.longValue());
+            }
+        }
+
+        @Override
+        public ScoreMode scoreMode() {
+            return ScoreMode.COMPLETE_NO_SCORES;
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.recipe.recipeservice.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Records how many SQL statements each controller method issues, and logs requests over the statement
+ * or time budget as {@code key=value} events.
+ * <p>
+ * Counting covers the request thread from the handler call to the end of response rendering. For async
+ * results, such as exports, it stops when the handler returns; statements on the async thread are not counted.
+ */
+public class RequestSqlInterceptor implements AsyncHandlerInterceptor {
+
+    private static final Logger logger = LoggerFactory.getLogger(RequestSqlInterceptor.class);
+    private static final String START_ATTRIBUTE = RequestSqlInterceptor.class.getName() + ".start";
+
+    private final RequestStatementCounter statementCounter;
+    private final MeterRegistry meterRegistry;
+    private final long statementBudget;
+    private final Duration timeBudget;
+    private final Map<Method, HandlerMeters> meters = new ConcurrentHashMap<>();
+
+    public RequestSqlInterceptor(RequestStatementCounter statementCounter, MeterRegistry meterRegistry,
+                                 long statementBudget, Duration timeBudget) {
+        this.statementCounter = statementCounter;
+        this.meterRegistry = meterRegistry;
+        this.statementBudget = statementBudget;
+        this.timeBudget = timeBudget;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        // An async dispatch belongs to a request that was already counted
+        if (handler instanceof HandlerMethod && request.getDispatcherType() == DispatcherType.REQUEST) {
+            request.setAttribute(START_ATTRIBUTE, System.nanoTime());
+            statementCounter.open();
+        }
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response,
+                                               Object handler) {
+        finish(request, handler);
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        finish(request, handler);
+    }
+
+    private void finish(HttpServletRequest request, Object handler) {
+        if (!(request.getAttribute(START_ATTRIBUTE) instanceof Long start)) {
+            return;
+        }
+        request.removeAttribute(START_ATTRIBUTE);
+        long statements = statementCounter.close();
+        long durationNanos = System.nanoTime() - start;
+
+        HandlerMethod handlerMethod = (HandlerMethod) handler;
+        HandlerMeters handlerMeters = meters.computeIfAbsent(handlerMethod.getMethod(),
+                method -> new HandlerMeters(handlerMethod));
+        handlerMeters.statements.record(statements);
+
+        boolean overStatements = statements > statementBudget;
+        boolean overTime = durationNanos > timeBudget.toNanos();
+        if (overStatements) {
+            handlerMeters.overStatements.increment();
+        }
+        if (overTime) {
+            handlerMeters.overTime.increment();
+        }
+        if (overStatements || overTime) {
+            logger.warn("Slow request: event=slow_request controller={} method={} http_method={} uri={} "
+                            + "statements={} statement_budget={} duration_ms={} time_budget_ms={}",
+                    handlerMethod.getBeanType().getSimpleName(), handlerMethod.getMethod().getName(),
+                    request.getMethod(), request.getRequestURI(), statements, statementBudget,
+                    durationNanos / 1_000_000, timeBudget.toMillis());
+        }
+    }
+
+    private final class HandlerMeters {
+
+        private final DistributionSummary statements;
+        private final Counter overStatements;
+        private final Counter overTime;
+
+        private HandlerMeters(HandlerMethod handlerMethod) {
+            String controller = handlerMethod.getBeanType().getSimpleName();
+            String method = handlerMethod.getMethod().getName();
+            this.statements = DistributionSummary.builder("recipe.request.sql.statements")
+                    .description("SQL statements Hibernate prepared per request")
+                    .tag("controller", controller)
+                    .tag("method", method)
+                    .publishPercentileHistogram()
+                    .minimumExpectedValue(1.0)
+                    .maximumExpectedValue(1000.0)
+                    .register(meterRegistry);
+            this.overStatements = slowRequests(controller, method, "statements");
+            this.overTime = slowRequests(controller, method, "time");
+        }
+
+        private Counter slowRequests(String controller, String method, String budget) {
+            return Counter.builder("recipe.request.slow")
+                    .description("Requests over their SQL statement or time budget")
+                    .tag("controller", controller)
+                    .tag("method", method)
+                    .tag("budget", budget)
+                    .register(meterRegistry);
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.recipe.recipeservice.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Counts the SQL statements Hibernate prepares on the current thread while a request is open. As the
+ * session factory's statement inspector it sees flushes, lazy loads and batch fetches as well as queries;
+ * batched inserts count once per batch. Plain JDBC and the R2DBC read path are not counted.
+ */
+public class RequestStatementCounter implements StatementInspector {
+
+    private final transient ThreadLocal<long[]> statements = new ThreadLocal<>();
+
+    public void open() {
+        statements.set(new long[1]);
+    }
+
+    /**
+     * Ends counting on this thread and returns the number of statements since {@link #open()}.
+     */
+    public long close() {
+        long[] count = statements.get();
+        statements.remove();
+        return count == null ? 0 : count[0];
+    }
+
+    @Override
+    public String inspect(String sql) {
+        long[] count = statements.get();
+        if (count != null) {
+            count[0]++;
+        }
+        return sql;
+    }
+}
@@ -0,0 +1,130 @@
+package com.recipe.recipeservice.outbox;
+
+import com.recipe.recipeservice.entity.OutboxEvent;
+import com.recipe.recipeservice.repository.OutboxEventRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Transport for instances that share a database and nothing else: the outbox table is the message log.
+ * Committed rows are already visible, so nothing is published and the relay does not run; each
+ * subscriber polls for rows written by other instances.
+ * <p>
+ * Rows become visible in commit order, not in {@code createdAt} order, so every poll starts
+ * {@code lookback} before the newest row seen and relies on subscribers to drop repeats. A transaction
+ * that stays open longer than the lookback can be missed; the lag bound is roughly the poll interval.
+ * <p>
+ * The first poll also replays the lookback before startup. Aggregates seeded from the database already
+ * count those rows, so they skip remote changes written before their seed
+ * ({@link com.recipe.recipeservice.event.RecipeChangedEvent#isRemoteBefore}).
+ */
+public class DatabasePollingTransport implements RecipeChangeTransport, AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(DatabasePollingTransport.class);
+
+    // Databases compare UUIDs as unsigned bytes, so all zeros sorts first
+    private static final UUID MIN_ID = new UUID(0L, 0L);
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final OutboxEventCodec codec;
+    private final TransactionTemplate transactionTemplate;
+    private final String origin;
+    private final Duration pollInterval;
+    private final Duration lookback;
+    private final int batchSize;
+    private final List<Consumer<RecipeChangeMessage>> subscribers = new CopyOnWriteArrayList<>();
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("outbox-poller").daemon().factory());
+
+    private volatile Instant newestSeen;
+
+    public DatabasePollingTransport(OutboxEventRepository outboxEventRepository, OutboxEventCodec codec,
+                                    PlatformTransactionManager transactionManager, String origin,
+                                    Duration pollInterval, Duration lookback, int batchSize, Clock clock) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.codec = codec;
+        // Not read-only, so the poll goes to the primary: a replica would add its lag to every event
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.origin = origin;
+        this.pollInterval = pollInterval;
+        this.lookback = lookback;
+        this.batchSize = batchSize;
+        // Indexes are seeded from the database at startup, so older changes are already reflected
+        this.newestSeen = clock.instant();
+    }
+
+    @Override
+    public void publish(List<RecipeChangeMessage> messages) {
+    }
+
+    @Override
+    public boolean readsOutbox() {
+        return true;
+    }
+
+    @Override
+    public void subscribe(Consumer<RecipeChangeMessage> subscriber) {
+        boolean first = subscribers.isEmpty();
+        subscribers.add(subscriber);
+        if (first) {
+            scheduler.scheduleWithFixedDelay(this::pollQuietly, pollInterval.toMillis(), pollInterval.toMillis(),
+                    TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @Override
+    public String name() {
+        return "database";
+    }
+
+    /**
+     * Delivers the rows of other instances written since the previous poll, minus the lookback.
+     */
+    void poll() {
+        Instant after = newestSeen.minus(lookback);
+        UUID afterId = MIN_ID;
+        List<OutboxEvent> rows;
+        do {
+            Instant from = after;
+            UUID fromId = afterId;
+            rows = transactionTemplate.execute(status -> outboxEventRepository.findForeignAfter(
+                    origin, from, fromId, PageRequest.of(0, batchSize)));
+            for (OutboxEvent row : rows) {
+                RecipeChangeMessage message = codec.decode(row);
+                subscribers.forEach(subscriber -> subscriber.accept(message));
+                after = row.getCreatedAt();
+                afterId = row.getId();
+            }
+            if (after.isAfter(newestSeen)) {
+                newestSeen = after;
+            }
+        } while (rows.size() == batchSize);
+    }
+
+    private void pollQuietly() {
+        try {
+            poll();
+        } catch (RuntimeException e) {
+            logger.warn("Could not poll the recipe outbox: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+    }
+}
@@ -0,0 +1,30 @@
+package com.recipe.recipeservice.outbox;
+
+import com.recipe.recipeservice.dto.RecipeDto;
+import com.recipe.recipeservice.entity.OutboxEvent;
+import com.recipe.recipeservice.event.RecipeChangedEvent;
+
+import java.time.Instant;
+
+/**
+ * Converts between recipe change events, outbox rows and transport messages. Rows and messages carry
+ * the recipe id, change type and version, not the recipe, so they stay small whatever the recipe holds.
+ */
+public class OutboxEventCodec {
+
+    public OutboxEvent encode(RecipeChangedEvent event, String origin, Instant createdAt) {
+        RecipeDto recipe = event.getAfter() != null ? event.getAfter() : event.getBefore();
+        return OutboxEvent.builder()
+                .origin(origin)
+                .type(event.getType())
+                .recipeId(event.getRecipeId())
+                .version(recipe.getVersion())
+                .createdAt(createdAt)
+                .build();
+    }
+
+    public RecipeChangeMessage decode(OutboxEvent event) {
+        return new RecipeChangeMessage(event.getId(), event.getOrigin(), event.getType(), event.getRecipeId(),
+                event.getVersion(), event.getCreatedAt());
+    }
+}
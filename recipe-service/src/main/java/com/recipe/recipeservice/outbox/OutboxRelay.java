@@ -0,0 +1,138 @@
+package com.recipe.recipeservice.outbox;
+
+import com.recipe.recipeservice.entity.OutboxEvent;
+import com.recipe.recipeservice.repository.OutboxEventRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Hands committed outbox rows to the transport and marks them published, in the transaction that
+ * locked them, so a crash between the two only causes a repeat. Published rows are kept for the
+ * retention period, then purged. When the transport {@linkplain RecipeChangeTransport#readsOutbox()
+ * reads the outbox} there is nothing to hand over, and rows are purged once older than the retention.
+ */
+public class OutboxRelay implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(OutboxRelay.class);
+
+    private static final Duration PURGE_INTERVAL = Duration.ofMinutes(1);
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final OutboxEventCodec codec;
+    private final RecipeChangeTransport transport;
+    private final TransactionTemplate transactionTemplate;
+    private final Clock clock;
+    private final boolean enabled;
+    private final Duration pollInterval;
+    private final Duration retention;
+    private final int batchSize;
+    private final Counter publishedCounter;
+    private final Timer publishLag;
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("outbox-relay").daemon().factory());
+
+    public OutboxRelay(OutboxEventRepository outboxEventRepository, OutboxEventCodec codec,
+                       RecipeChangeTransport transport, PlatformTransactionManager transactionManager, Clock clock,
+                       boolean enabled, Duration pollInterval, Duration retention, int batchSize,
+                       MeterRegistry meterRegistry) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.codec = codec;
+        this.transport = transport;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.clock = clock;
+        this.enabled = enabled;
+        this.pollInterval = pollInterval;
+        this.retention = retention;
+        this.batchSize = batchSize;
+        this.publishedCounter = Counter.builder("recipe.outbox.events")
+                .description("Number of recipe change events passing through the outbox")
+                .tag("stage", "published")
+                .tag("transport", transport.name())
+                .register(meterRegistry);
+        this.publishLag = Timer.builder("recipe.outbox.lag")
+                .description("Time from writing a recipe change to the outbox until it reaches a stage")
+                .tag("stage", "published")
+                .tag("transport", transport.name())
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        if (!transport.readsOutbox()) {
+            scheduler.scheduleWithFixedDelay(() -> quietly("relay", this::relay),
+                    pollInterval.toMillis(), pollInterval.toMillis(), TimeUnit.MILLISECONDS);
+        }
+        scheduler.scheduleWithFixedDelay(() -> quietly("purge", this::purge),
+                PURGE_INTERVAL.toMillis(), PURGE_INTERVAL.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Publishes every pending row and returns how many were published.
+     */
+    public int relay() {
+        int published = 0;
+        int batch;
+        do {
+            batch = transactionTemplate.execute(status -> publishBatch());
+            published += batch;
+        } while (batch == batchSize);
+        return published;
+    }
+
+    /**
+     * Deletes rows published longer ago than the retention period, or written longer ago when the
+     * transport reads the outbox.
+     */
+    public int purge() {
+        Instant cutoff = clock.instant().minus(retention);
+        return transactionTemplate.execute(status -> transport.readsOutbox()
+                ? outboxEventRepository.deleteCreatedBefore(cutoff)
+                : outboxEventRepository.deletePublishedBefore(cutoff));
+    }
+
+    private int publishBatch() {
+        List<OutboxEvent> rows = outboxEventRepository.findUnpublished(PageRequest.of(0, batchSize));
+        if (rows.isEmpty()) {
+            return 0;
+        }
+        transport.publish(rows.stream().map(codec::decode).toList());
+
+        Instant now = clock.instant();
+        outboxEventRepository.markPublished(rows.stream().map(OutboxEvent::getId).toList(), now);
+        rows.forEach(row -> publishLag.record(Duration.between(row.getCreatedAt(), now)));
+        publishedCounter.increment(rows.size());
+        return rows.size();
+    }
+
+    private static void quietly(String task, Runnable action) {
+        try {
+            action.run();
+        } catch (RuntimeException e) {
+            logger.warn("Outbox {} failed: {}", task, e.getMessage());
+        }
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+    }
+}
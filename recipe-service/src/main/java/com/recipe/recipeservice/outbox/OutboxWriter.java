@@ -0,0 +1,45 @@
+package com.recipe.recipeservice.outbox;
+
+import com.recipe.recipeservice.event.RecipeChangedEvent;
+import com.recipe.recipeservice.repository.OutboxEventRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.event.EventListener;
+
+import java.time.Clock;
+
+/**
+ * Appends every local recipe change to the outbox. Runs synchronously while the event is published,
+ * so the row is written in the same transaction as the change and exists if and only if it commits.
+ * Replayed remote changes are not written again.
+ */
+public class OutboxWriter {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final OutboxEventCodec codec;
+    private final String origin;
+    private final Clock clock;
+    private final Counter writtenCounter;
+
+    public OutboxWriter(OutboxEventRepository outboxEventRepository, OutboxEventCodec codec,
+                        RecipeChangeTransport transport, String origin, Clock clock, MeterRegistry meterRegistry) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.codec = codec;
+        this.origin = origin;
+        this.clock = clock;
+        this.writtenCounter = Counter.builder("recipe.outbox.events")
+                .description("Number of recipe change events passing through the outbox")
+                .tag("stage", "written")
+                .tag("transport", transport.name())
+                .register(meterRegistry);
+    }
+
+    @EventListener
+    public void onRecipeChanged(RecipeChangedEvent event) {
+        if (event.isRemote()) {
+            return;
+        }
+        outboxEventRepository.save(codec.encode(event, origin, clock.instant()));
+        writtenCounter.increment();
+    }
+}
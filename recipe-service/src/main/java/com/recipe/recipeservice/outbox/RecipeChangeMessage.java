@@ -0,0 +1,22 @@
+package com.recipe.recipeservice.outbox;
+
+import com.recipe.recipeservice.dto.RecipeDto;
+import com.recipe.recipeservice.event.RecipeChangedEvent;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * A committed recipe change as carried by a {@link RecipeChangeTransport}. {@code version} is the version
+ * the change left the recipe at, or the version deleted.
+ */
+public record RecipeChangeMessage(UUID id, String origin, RecipeChangedEvent.Type type, Long recipeId,
+                                  Long version, Instant createdAt) {
+
+    /**
+     * The change as a remote event, with the recipe as read back after it; null for deletions.
+     */
+    public RecipeChangedEvent toEvent(RecipeDto after) {
+        return RecipeChangedEvent.remote(type, recipeId, after, createdAt);
+    }
+}
@@ -0,0 +1,104 @@
+package com.recipe.recipeservice.outbox;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.recipe.recipeservice.dto.RecipeDto;
+import com.recipe.recipeservice.event.RecipeChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Applies the changes of other instances to this instance's caches and indexes by replaying them as
+ * remote {@code RecipeChangedEvent}s, which the local listeners handle like their own writes. Messages
+ * carry no recipe state, so a created or updated recipe is read back first; one deleted again since has
+ * nothing to apply, and its deletion follows. Messages are deduplicated by id, because the transports
+ * deliver at least once.
+ */
+public class RecipeChangeSubscriber {
+
+    private final RecipeChangeTransport transport;
+    private final Function<Long, Optional<RecipeDto>> recipeLoader;
+    private final ApplicationEventPublisher eventPublisher;
+    private final String origin;
+    private final Clock clock;
+    private final boolean enabled;
+    private final Cache<UUID, Boolean> applied;
+    private final Counter appliedCounter;
+    private final Counter duplicateCounter;
+    private final Timer applyLag;
+
+    public RecipeChangeSubscriber(RecipeChangeTransport transport, Function<Long, Optional<RecipeDto>> recipeLoader,
+                                  ApplicationEventPublisher eventPublisher, String origin, Clock clock,
+                                  boolean enabled, Duration dedupeWindow, MeterRegistry meterRegistry) {
+        this.transport = transport;
+        this.recipeLoader = recipeLoader;
+        this.eventPublisher = eventPublisher;
+        this.origin = origin;
+        this.clock = clock;
+        this.enabled = enabled;
+        this.applied = Caffeine.newBuilder()
+                .expireAfterWrite(dedupeWindow)
+                .build();
+        this.appliedCounter = Counter.builder("recipe.outbox.events")
+                .description("Number of recipe change events passing through the outbox")
+                .tag("stage", "applied")
+                .tag("transport", transport.name())
+                .register(meterRegistry);
+        this.duplicateCounter = Counter.builder("recipe.outbox.events")
+                .description("Number of recipe change events passing through the outbox")
+                .tag("stage", "duplicate")
+                .tag("transport", transport.name())
+                .register(meterRegistry);
+        this.applyLag = Timer.builder("recipe.outbox.lag")
+                .description("Time from writing a recipe change to the outbox until it reaches a stage")
+                .tag("stage", "applied")
+                .tag("transport", transport.name())
+                .register(meterRegistry);
+    }
+
+    // After startup, so the indexes have been seeded before remote changes are applied to them
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (enabled) {
+            transport.subscribe(this::apply);
+        }
+    }
+
+    public void apply(RecipeChangeMessage message) {
+        if (origin.equals(message.origin())) {
+            return;
+        }
+        if (applied.asMap().putIfAbsent(message.id(), Boolean.TRUE) != null) {
+            duplicateCounter.increment();
+            return;
+        }
+        RecipeDto after = null;
+        if (message.type() != RecipeChangedEvent.Type.DELETED) {
+            try {
+                after = recipeLoader.apply(message.recipeId()).orElse(null);
+            } catch (RuntimeException e) {
+                // Not applied, so a redelivery is not taken for a duplicate
+                applied.invalidate(message.id());
+                throw e;
+            }
+            if (after == null) {
+                return;
+            }
+        }
+        eventPublisher.publishEvent(message.toEvent(after));
+        appliedCounter.increment();
+        // Clocks of different instances may disagree slightly; a negative lag is recorded as none
+        Duration lag = Duration.between(message.createdAt(), clock.instant());
+        applyLag.record(lag.isNegative() ? Duration.ZERO : lag);
+    }
+}
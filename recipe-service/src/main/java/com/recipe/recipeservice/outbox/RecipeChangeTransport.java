@@ -0,0 +1,31 @@
+package com.recipe.recipeservice.outbox;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Carries outbox messages from the relay to every instance. Delivery is at least once and the
+ * order is only per publisher; subscribers deduplicate by message id.
+ */
+public interface RecipeChangeTransport {
+
+    /**
+     * Hands a batch to the transport; returns once it is durably accepted.
+     */
+    void publish(List<RecipeChangeMessage> messages);
+
+    void subscribe(Consumer<RecipeChangeMessage> subscriber);
+
+    /**
+     * Whether subscribers read the outbox table itself. Committed rows are then already delivered, so
+     * the relay neither publishes nor marks them, and they are purged by age.
+     */
+    default boolean readsOutbox() {
+        return false;
+    }
+
+    /**
+     * Name used to tag metrics.
+     */
+    String name();
+}
@@ -0,0 +1,7 @@
+package com.recipe.recipeservice.repository;
+
+/**
+ * Number of recipes using an ingredient, by dictionary name.
+ */
+public record IngredientCountRow(String ingredient, long recipes) {
+}
@@ -0,0 +1,24 @@
+package com.recipe.recipeservice.repository;
+
+import com.recipe.recipeservice.entity.IngredientName;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface IngredientNameRepository extends JpaRepository<IngredientName, Long> {
+
+    /**
+     * Locking read, so it sees an entry committed after this transaction's snapshot was taken.
+     */
+    @Lock(LockModeType.PESSIMISTIC_READ)
+    @Query("SELECT n FROM IngredientName n WHERE n.name = :name")
+    Optional<IngredientName> findSharedByName(@Param("name") String name);
+
+    List<IngredientName> findByNameIn(Collection<String> names);
+}
@@ -1,10 +1,31 @@
 package com.recipe.recipeservice.repository;
 
 import com.recipe.recipeservice.entity.Ingredient;
+import com.recipe.recipeservice.entity.IngredientName;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface IngredientRepository extends JpaRepository<Ingredient, Long> {
     List<Ingredient> findByRecipeId(Long recipeId);
-}
\ No newline at end of file
+
+    /**
+     * Ingredients without a dictionary entry, in id order after the given id.
+     */
+    @Query("SELECT i.id AS id, i.name AS name FROM Ingredient i WHERE i.canonicalName IS NULL AND i.id > :after ORDER BY i.id")
+    List<UnresolvedIngredientRow> findUnresolved(@Param("after") long after, Pageable pageable);
+
+    /**
+     * Points the given rows at a dictionary entry, skipping rows that were resolved or renamed meanwhile.
+     */
+    @Modifying
+    @Query("UPDATE Ingredient i SET i.canonicalName = :canonicalName "
+            + "WHERE i.id IN :ids AND i.canonicalName IS NULL AND i.name = :name")
+    int resolve(@Param("ids") Collection<Long> ids, @Param("name") String name,
+                @Param("canonicalName") IngredientName canonicalName);
+}
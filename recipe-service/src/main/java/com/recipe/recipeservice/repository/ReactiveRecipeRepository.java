@@ -0,0 +1,223 @@
+package com.recipe.recipeservice.repository;
+
+import com.recipe.recipeservice.dto.IngredientDto;
+import com.recipe.recipeservice.dto.RecipeDto;
+import com.recipe.recipeservice.dto.RecipeFilterDto;
+import com.recipe.recipeservice.entity.IngredientNames;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.Readable;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Non-blocking reads of recipes over R2DBC, mapped straight to DTOs. Filter and keyset semantics
+ * match {@link RecipeSpecifications} and {@link RecipeRepositoryCustomImpl}, given the same instruction
+ * text matches from the text index; ingredients are loaded per batch of recipes with one IN query,
+ * so a page costs two statements.
+ */
+@Repository
+public class ReactiveRecipeRepository {
+
+    private static final String SELECT_RECIPES = "SELECT r.id, r.name, r.description, r.vegetarian, r.servings, "
+            + "r.instructions, r.preparation_time, r.cooking_time, r.created_by, r.version FROM recipes r";
+    private static final String SELECT_INGREDIENTS = "SELECT i.id, i.recipe_id, i.name, i.amount, i.unit "
+            + "FROM ingredients i WHERE i.recipe_id IN (:ids) ORDER BY i.recipe_id, i.id";
+    private static final String TOTAL_TIME = "(COALESCE(r.preparation_time, 0) + COALESCE(r.cooking_time, 0))";
+
+    // '!' rather than a backslash, which MySQL and H2 treat differently inside string literals
+    private static final String LIKE_ESCAPE = "!";
+    // Same shape as RecipeSpecifications: equality on the dictionary name drives the unique name index and
+    // then (name_id, recipe_id); rows the backfill has not linked yet are matched on any spelling of the name
+    private static final String INGREDIENT_NAMED = "r.id IN (SELECT i.recipe_id FROM ingredients i "
+            + "WHERE i.recipe_id IS NOT NULL AND i.name_id IN (SELECT n.id FROM ingredient_names n WHERE n.name = :%1$s))";
+    private static final String UNLINKED_INGREDIENT_NAMED = "r.id IN (SELECT i.recipe_id FROM ingredients i "
+            + "WHERE i.recipe_id IS NOT NULL AND i.name_id IS NULL AND LOWER(TRIM(i.name)) IN (:%1$sSpellings))";
+
+    private final DatabaseClient databaseClient;
+    private final int ingredientBatchSize;
+    private final int maxBoundIds;
+
+    public ReactiveRecipeRepository(ConnectionFactory connectionFactory,
+                                    @Value("${app.reactive.ingredient-batch-size:100}") int ingredientBatchSize,
+                                    @Value("${app.text-index.max-bound-ids:1000}") int maxBoundIds) {
+        this.databaseClient = DatabaseClient.create(connectionFactory);
+        this.ingredientBatchSize = ingredientBatchSize;
+        this.maxBoundIds = maxBoundIds;
+    }
+
+    public Mono<RecipeDto> findById(Long id) {
+        return withIngredients(databaseClient.sql(SELECT_RECIPES + " WHERE r.id = :id")
+                .bind("id", id)
+                .map(this::toRecipe)
+                .all())
+                .next();
+    }
+
+    /**
+     * Recipes matching the filter (null for the whole catalog) after the cursor position, in cursor order.
+     * {@code ids}, when not null, restricts the page to those recipes, such as the text index matches for
+     * the instruction text; {@code matchUnlinkedNames} also matches ingredient rows not yet linked to the
+     * dictionary.
+     */
+    public Flux<RecipeDto> findPage(RecipeFilterDto filterDto, Collection<Long> ids, boolean matchUnlinkedNames,
+                                    RecipeCursor cursor, int limit) {
+        List<String> predicates = new ArrayList<>();
+        Map<String, Object> parameters = new LinkedHashMap<>();
+        if (filterDto != null) {
+            addFilterPredicates(filterDto, matchUnlinkedNames, predicates, parameters);
+        }
+        if (ids != null) {
+            predicates.add(idPredicate(ids, parameters));
+        }
+        if (cursor.hasPosition()) {
+            predicates.add(keysetPredicate(cursor, parameters));
+        }
+
+        String direction = cursor.isDescending() ? " DESC" : " ASC";
+        String sql = SELECT_RECIPES
+                + (predicates.isEmpty() ? "" : " WHERE " + String.join(" AND ", predicates))
+                + " ORDER BY " + sortKey(cursor.getSort()) + direction + ", r.id" + direction
+                + " LIMIT " + limit;
+
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(sql);
+        for (Map.Entry<String, Object> parameter : parameters.entrySet()) {
+            spec = spec.bind(parameter.getKey(), parameter.getValue());
+        }
+        return withIngredients(spec.map(this::toRecipe).all());
+    }
+
+    private void addFilterPredicates(RecipeFilterDto filterDto, boolean matchUnlinkedNames,
+                                     List<String> predicates, Map<String, Object> parameters) {
+        if (filterDto.getVegetarian() != null) {
+            predicates.add("r.vegetarian = :vegetarian");
+            parameters.put("vegetarian", filterDto.getVegetarian());
+        }
+        if (filterDto.getServings() != null) {
+            predicates.add("r.servings = :servings");
+            parameters.put("servings", filterDto.getServings());
+        }
+        if (hasText(filterDto.getIncludeIngredient())) {
+            predicates.add(ingredientNamed("includeIngredient", filterDto.getIncludeIngredient(), matchUnlinkedNames, parameters));
+        }
+        if (hasText(filterDto.getExcludeIngredient())) {
+            predicates.add("NOT " + ingredientNamed("excludeIngredient", filterDto.getExcludeIngredient(), matchUnlinkedNames, parameters));
+        }
+        if (hasText(filterDto.getInstructionText())) {
+            predicates.add("LOWER(r.instructions) LIKE :instructionText ESCAPE '" + LIKE_ESCAPE + "'");
+            parameters.put("instructionText", containsPattern(filterDto.getInstructionText().trim()));
+        }
+    }
+
+    // Same as RecipeSpecifications.idIn and idInLiterals: large sets are written into the SQL, as drivers
+    // cap the number of bound parameters
+    private String idPredicate(Collection<Long> ids, Map<String, Object> parameters) {
+        if (ids.isEmpty()) {
+            return "1 = 0";
+        }
+        if (ids.size() <= maxBoundIds) {
+            parameters.put("ids", List.copyOf(ids));
+            return "r.id IN (:ids)";
+        }
+        return ids.stream()
+                .map(String::valueOf)
+                .collect(Collectors.joining(",", "r.id IN (", ")"));
+    }
+
+    private String ingredientNamed(String parameter, String ingredient, boolean matchUnlinkedNames,
+                                   Map<String, Object> parameters) {
+        parameters.put(parameter, IngredientNames.normalize(ingredient));
+        if (!matchUnlinkedNames) {
+            return INGREDIENT_NAMED.formatted(parameter);
+        }
+        parameters.put(parameter + "Spellings", List.copyOf(IngredientNames.spellings(ingredient)));
+        return "(" + INGREDIENT_NAMED.formatted(parameter) + " OR " + UNLINKED_INGREDIENT_NAMED.formatted(parameter) + ")";
+    }
+
+    private String keysetPredicate(RecipeCursor cursor, Map<String, Object> parameters) {
+        String beyond = cursor.isDescending() ? " < " : " > ";
+        parameters.put("lastId", cursor.getLastId());
+        if (cursor.getSort() == RecipeSort.ID) {
+            return "r.id" + beyond + ":lastId";
+        }
+
+        String key = sortKey(cursor.getSort());
+        parameters.put("lastValue", cursor.getSort() == RecipeSort.TOTAL_TIME
+                ? Integer.valueOf(cursor.getLastValue())
+                : cursor.getLastValue());
+        return "(" + key + beyond + ":lastValue OR (" + key + " = :lastValue AND r.id" + beyond + ":lastId))";
+    }
+
+    private String sortKey(RecipeSort sort) {
+        return switch (sort) {
+            case ID -> "r.id";
+            case NAME -> "r.name";
+            case TOTAL_TIME -> TOTAL_TIME;
+        };
+    }
+
+    /**
+     * Attaches ingredients to each batch of recipes as it arrives, keeping the recipe order
+     * and requesting further rows only as downstream demand allows.
+     */
+    private Flux<RecipeDto> withIngredients(Flux<RecipeDto> recipes) {
+        return recipes.buffer(ingredientBatchSize).concatMap(batch -> {
+            Map<Long, RecipeDto> byId = batch.stream()
+                    .collect(Collectors.toMap(RecipeDto::getId, Function.identity(), (a, b) -> a, LinkedHashMap::new));
+            return databaseClient.sql(SELECT_INGREDIENTS)
+                    .bind("ids", List.copyOf(byId.keySet()))
+                    .map(row -> Map.entry(row.get("recipe_id", Long.class), toIngredient(row)))
+                    .all()
+                    .doOnNext(entry -> byId.get(entry.getKey()).getIngredients().add(entry.getValue()))
+                    .thenMany(Flux.fromIterable(batch));
+        });
+    }
+
+    private RecipeDto toRecipe(Readable row) {
+        return RecipeDto.builder()
+                .id(row.get("id", Long.class))
+                .name(row.get("name", String.class))
+                .description(row.get("description", String.class))
+                .vegetarian(row.get("vegetarian", Boolean.class))
+                .servings(row.get("servings", Integer.class))
+                .instructions(row.get("instructions", String.class))
+                .preparationTime(row.get("preparation_time", Integer.class))
+                .cookingTime(row.get("cooking_time", Integer.class))
+                .ingredients(new ArrayList<>())
+                .createdBy(row.get("created_by", String.class))
+                .version(row.get("version", Long.class))
+                .build();
+    }
+
+    private IngredientDto toIngredient(Readable row) {
+        return IngredientDto.builder()
+                .id(row.get("id", Long.class))
+                .name(row.get("name", String.class))
+                .amount(row.get("amount", String.class))
+                .unit(row.get("unit", String.class))
+                .build();
+    }
+
+    private static String containsPattern(String text) {
+        String escaped = text.toLowerCase(Locale.ROOT)
+                .replace(LIKE_ESCAPE, LIKE_ESCAPE + LIKE_ESCAPE)
+                .replace("%", LIKE_ESCAPE + "%")
+                .replace("_", LIKE_ESCAPE + "_");
+        return "%" + escaped + "%";
+    }
+
+    private static boolean hasText(String value) {
+        return value != null && !value.trim().isEmpty();
+    }
+}
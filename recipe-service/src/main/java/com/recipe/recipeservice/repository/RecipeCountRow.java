@@ -0,0 +1,13 @@
+package com.recipe.recipeservice.repository;
+
+/**
+ * Number of recipes per owner and vegetarian flag.
+ */
+public interface RecipeCountRow {
+
+    String getCreatedBy();
+
+    boolean isVegetarian();
+
+    long getRecipes();
+}
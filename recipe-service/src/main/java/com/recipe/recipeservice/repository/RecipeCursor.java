@@ -0,0 +1,113 @@
+package com.recipe.recipeservice.repository;
+
+import com.recipe.recipeservice.dto.RecipeDto;
+import com.recipe.recipeservice.entity.Recipe;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Keyset position within a sorted recipe listing. A cursor without a position
+ * denotes the first page; {@link #encode()} produces the opaque token handed to clients.
+ */
+public final class RecipeCursor {
+
+    private static final String SEPARATOR = ":";
+
+    private final RecipeSort sort;
+    private final boolean descending;
+    private final Long lastId;
+    private final String lastValue;
+
+    private RecipeCursor(RecipeSort sort, boolean descending, Long lastId, String lastValue) {
+        this.sort = sort;
+        this.descending = descending;
+        this.lastId = lastId;
+        this.lastValue = lastValue;
+    }
+
+    public static RecipeCursor start(RecipeSort sort, boolean descending) {
+        return new RecipeCursor(sort, descending, null, null);
+    }
+
+    /**
+     * Resolves the cursor for a page request. A cursor token carries its own sort order,
+     * so the sort key and direction only apply to the first page.
+     */
+    public static RecipeCursor resolve(String token, String sortKey, String direction) {
+        if (token != null && !token.isBlank()) {
+            return decode(token);
+        }
+        RecipeSort sort = sortKey != null ? RecipeSort.fromKey(sortKey) : RecipeSort.ID;
+        return start(sort, isDescending(direction));
+    }
+
+    public static RecipeCursor decode(String token) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = decoded.split(SEPARATOR, 4);
+            if (parts.length != 4) {
+                throw new IllegalArgumentException("Malformed cursor");
+            }
+            RecipeSort sort = RecipeSort.fromKey(parts[0]);
+            boolean descending = Boolean.parseBoolean(parts[1]);
+            Long lastId = Long.valueOf(parts[2]);
+            if (sort == RecipeSort.TOTAL_TIME) {
+                Integer.parseInt(parts[3]);
+            }
+            return new RecipeCursor(sort, descending, lastId, parts[3]);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + token, e);
+        }
+    }
+
+    public RecipeCursor after(Recipe recipe) {
+        return new RecipeCursor(sort, descending, recipe.getId(), sort.keyOf(recipe));
+    }
+
+    public RecipeCursor after(RecipeDto recipe) {
+        return new RecipeCursor(sort, descending, recipe.getId(), sort.keyOf(recipe));
+    }
+
+    /**
+     * Position after a projected row; only the columns of the cursor's sort key need to be present.
+     */
+    public RecipeCursor after(Long id, String name, Integer preparationTime, Integer cookingTime) {
+        return new RecipeCursor(sort, descending, id, sort.keyOf(name, preparationTime, cookingTime));
+    }
+
+    private static boolean isDescending(String direction) {
+        if (direction == null || direction.equalsIgnoreCase("asc")) {
+            return false;
+        }
+        if (direction.equalsIgnoreCase("desc")) {
+            return true;
+        }
+        throw new IllegalArgumentException("Unsupported sort direction: " + direction);
+    }
+
+    public String encode() {
+        String raw = sort.getKey() + SEPARATOR + descending + SEPARATOR + lastId + SEPARATOR + lastValue;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public boolean hasPosition() {
+        return lastId != null;
+    }
+
+    public RecipeSort getSort() {
+        return sort;
+    }
+
+    public boolean isDescending() {
+        return descending;
+    }
+
+    public Long getLastId() {
+        return lastId;
+    }
+
+    public String getLastValue() {
+        return lastValue;
+    }
+}
@@ -0,0 +1,7 @@
+package com.recipe.recipeservice.repository;
+
+/**
+ * Number of recipes sharing a vegetarian flag, servings and preparation time.
+ */
+public record RecipeFacetRow(boolean vegetarian, int servings, Integer preparationTime, long recipes) {
+}
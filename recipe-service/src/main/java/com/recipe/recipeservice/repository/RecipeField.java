@@ -0,0 +1,68 @@
+package com.recipe.recipeservice.repository;
+
+import com.recipe.recipeservice.dto.RecipeDto;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Recipe properties that can be requested one by one in a sparse fieldset. Keys are the JSON
+ * property names of {@link RecipeDto} and, except for ingredients, the entity attribute names.
+ */
+public enum RecipeField {
+
+    ID("id", RecipeDto::getId),
+    NAME("name", RecipeDto::getName),
+    DESCRIPTION("description", RecipeDto::getDescription),
+    VEGETARIAN("vegetarian", RecipeDto::getVegetarian),
+    SERVINGS("servings", RecipeDto::getServings),
+    INSTRUCTIONS("instructions", RecipeDto::getInstructions),
+    PREPARATION_TIME("preparationTime", RecipeDto::getPreparationTime),
+    COOKING_TIME("cookingTime", RecipeDto::getCookingTime),
+    INGREDIENTS("ingredients", RecipeDto::getIngredients),
+    CREATED_BY("createdBy", RecipeDto::getCreatedBy),
+    VERSION("version", RecipeDto::getVersion);
+
+    private final String key;
+    private final Function<RecipeDto, Object> accessor;
+
+    RecipeField(String key, Function<RecipeDto, Object> accessor) {
+        this.key = key;
+        this.accessor = accessor;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    /**
+     * Whether the field is a column of the recipes table; ingredients live in their own table.
+     */
+    public boolean isColumn() {
+        return this != INGREDIENTS;
+    }
+
+    public Object valueOf(RecipeDto recipe) {
+        return accessor.apply(recipe);
+    }
+
+    public static RecipeField fromKey(String key) {
+        return Arrays.stream(values())
+                .filter(field -> field.key.equals(key))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unsupported field: " + key));
+    }
+
+    /**
+     * The fields a cursor for the given sort order is built from.
+     */
+    public static Set<RecipeField> cursorFields(RecipeSort sort) {
+        return switch (sort) {
+            case ID -> EnumSet.of(ID);
+            case NAME -> EnumSet.of(ID, NAME);
+            case TOTAL_TIME -> EnumSet.of(ID, PREPARATION_TIME, COOKING_TIME);
+        };
+    }
+}
@@ -1,38 +1,88 @@
 package com.recipe.recipeservice.repository;
 
 import com.recipe.recipeservice.entity.Recipe;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
 
-public interface RecipeRepository extends JpaRepository<Recipe, Long> {
+public interface RecipeRepository extends JpaRepository<Recipe, Long>, RecipeRepositoryCustom {
 
+    // A query rather than em.find, which batch-loads the collection and ignores the entity graph
+    @Override
+    @EntityGraph(Recipe.WITH_INGREDIENTS)
+    @Query("SELECT r FROM Recipe r WHERE r.id = :id")
+    Optional<Recipe> findById(@Param("id") Long id);
+
+    @Override
+    @EntityGraph(Recipe.WITH_INGREDIENTS)
+    List<Recipe> findAll();
+
+    @EntityGraph(Recipe.WITH_INGREDIENTS)
+    List<Recipe> findByIdIn(Collection<Long> ids);
+
+    @EntityGraph(Recipe.WITH_INGREDIENTS)
     List<Recipe> findByVegetarian(boolean vegetarian);
 
+    @EntityGraph(Recipe.WITH_INGREDIENTS)
     List<Recipe> findByServings(int servings);
 
+    @EntityGraph(Recipe.WITH_INGREDIENTS)
     @Query("SELECT r FROM Recipe r JOIN r.ingredients i WHERE i.name LIKE %:ingredient%")
     List<Recipe> findByIngredientNameContaining(@Param("ingredient") String ingredient);
 
+    @EntityGraph(Recipe.WITH_INGREDIENTS)
     @Query("SELECT r FROM Recipe r JOIN r.ingredients i WHERE i.name NOT LIKE %:ingredient%")
     List<Recipe> findByIngredientNameNotContaining(@Param("ingredient") String ingredient);
 
+    @EntityGraph(Recipe.WITH_INGREDIENTS)
     @Query("SELECT r FROM Recipe r WHERE r.instructions LIKE %:text%")
     List<Recipe> findByInstructionsContaining(@Param("text") String text);
 
+    @EntityGraph(Recipe.WITH_INGREDIENTS)
     @Query("SELECT r FROM Recipe r WHERE r.vegetarian = :vegetarian AND r.servings = :servings")
     List<Recipe> findByVegetarianAndServings(@Param("vegetarian") boolean vegetarian, @Param("servings") int servings);
 
+    @EntityGraph(Recipe.WITH_INGREDIENTS)
     @Query("SELECT r FROM Recipe r JOIN r.ingredients i WHERE r.vegetarian = :vegetarian AND i.name LIKE %:ingredient%")
     List<Recipe> findByVegetarianAndIngredient(@Param("vegetarian") boolean vegetarian, @Param("ingredient") String ingredient);
 
+    @EntityGraph(Recipe.WITH_INGREDIENTS)
     @Query("SELECT r FROM Recipe r JOIN r.ingredients i WHERE r.servings = :servings AND i.name LIKE %:ingredient%")
     List<Recipe> findByServingsAndIngredient(@Param("servings") int servings, @Param("ingredient") String ingredient);
 
+    @EntityGraph(Recipe.WITH_INGREDIENTS)
     @Query("SELECT r FROM Recipe r WHERE r.instructions LIKE %:text% AND r.vegetarian = :vegetarian")
     List<Recipe> findByInstructionsContainingAndVegetarian(@Param("text") String text, @Param("vegetarian") boolean vegetarian);
 
+    @EntityGraph(Recipe.WITH_INGREDIENTS)
     List<Recipe> findByCreatedBy(String username);
-}
\ No newline at end of file
+
+    @Query("SELECT r.version FROM Recipe r WHERE r.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
+
+    @Query("SELECT r.createdBy AS createdBy, r.vegetarian AS vegetarian, COUNT(r) AS recipes "
+            + "FROM Recipe r GROUP BY r.createdBy, r.vegetarian")
+    List<RecipeCountRow> countByOwnerAndVegetarian();
+
+    /**
+     * Walks the whole catalog in id order, handing each keyset batch (with ingredients loaded)
+     * to the consumer. Used to build in-process indexes without materializing the table.
+     */
+    default void forEachBatch(int batchSize, Consumer<List<Recipe>> consumer) {
+        RecipeCursor cursor = RecipeCursor.start(RecipeSort.ID, false);
+        List<Recipe> batch;
+        do {
+            batch = findPage(null, cursor, batchSize);
+            if (!batch.isEmpty()) {
+                consumer.accept(batch);
+                cursor = cursor.after(batch.get(batch.size() - 1));
+            }
+        } while (batch.size() == batchSize);
+    }
+}
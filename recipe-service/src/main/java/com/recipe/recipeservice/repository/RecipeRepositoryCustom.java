@@ -0,0 +1,60 @@
+package com.recipe.recipeservice.repository;
+
+import com.recipe.recipeservice.dto.RecipeSummaryDto;
+import com.recipe.recipeservice.entity.Recipe;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+public interface RecipeRepositoryCustom {
+
+    /**
+     * Returns at most {@code limit} recipes matching the specification that sort strictly
+     * after the cursor position, ordered by the cursor's sort key with the id as tie-breaker.
+     */
+    List<Recipe> findPage(Specification<Recipe> specification, RecipeCursor cursor, int limit);
+
+    /**
+     * Same as {@link #findPage} but reads only the summary columns, straight into DTOs.
+     */
+    List<RecipeSummaryDto> findSummaryPage(Specification<Recipe> specification, RecipeCursor cursor, int limit);
+
+    /**
+     * Same as {@link #findPage} but reads only the requested fields, returned as one map per recipe
+     * keyed by {@link RecipeField#getKey()} in field order. Ingredients, if requested, take one more
+     * query; the fields must then include {@link RecipeField#ID}.
+     */
+    List<Map<String, Object>> findFieldPage(Specification<Recipe> specification, RecipeCursor cursor, int limit,
+                                            Set<RecipeField> fields);
+
+    /**
+     * Counts the recipes matching the specification (null for all) in one grouped query,
+     * per vegetarian flag, servings and preparation time.
+     */
+    List<RecipeFacetRow> countFacets(Specification<Recipe> specification);
+
+    /**
+     * The {@code limit} ingredients used by most recipes matching the specification (null for all),
+     * most used first, by dictionary name. A recipe listing an ingredient twice counts once.
+     */
+    List<IngredientCountRow> countIngredients(Specification<Recipe> specification, int limit);
+
+    /**
+     * Same as {@link #findPage} but selects only the recipe ids, without loading any entities.
+     */
+    List<Long> findIds(Specification<Recipe> specification, RecipeCursor cursor, int limit);
+
+    /**
+     * Streams the whole catalog in id order, with ingredients, over a forward-only cursor that
+     * fetches {@code fetchSize} rows at a time. Must be consumed and closed inside the caller's transaction.
+     */
+    Stream<Recipe> streamAll(int fetchSize);
+
+    /**
+     * Evicts a streamed recipe and its ingredients from the persistence context.
+     */
+    void detach(Recipe recipe);
+}
@@ -0,0 +1,263 @@
+package com.recipe.recipeservice.repository;
+
+import com.recipe.recipeservice.dto.IngredientDto;
+import com.recipe.recipeservice.dto.RecipeSummaryDto;
+import com.recipe.recipeservice.entity.Ingredient;
+import com.recipe.recipeservice.entity.IngredientName;
+import com.recipe.recipeservice.entity.Recipe;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+@Transactional(readOnly = true)
+public class RecipeRepositoryCustomImpl implements RecipeRepositoryCustom {
+
+    private static final String FETCH_GRAPH_HINT = "jakarta.persistence.fetchgraph";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<Recipe> findPage(Specification<Recipe> specification, RecipeCursor cursor, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Recipe> query = cb.createQuery(Recipe.class);
+        Root<Recipe> root = query.from(Recipe.class);
+        query.select(root);
+
+        List<Recipe> recipes = entityManager.createQuery(ordered(query, root, cb, specification, cursor))
+                .setMaxResults(limit)
+                .getResultList();
+        fetchIngredients(recipes);
+        return recipes;
+    }
+
+    @Override
+    public List<RecipeSummaryDto> findSummaryPage(Specification<Recipe> specification, RecipeCursor cursor, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<RecipeSummaryDto> query = cb.createQuery(RecipeSummaryDto.class);
+        Root<Recipe> root = query.from(Recipe.class);
+        query.select(cb.construct(RecipeSummaryDto.class,
+                root.get("id"), root.get("name"), root.get("vegetarian"),
+                root.get("servings"), root.get("preparationTime"), root.get("cookingTime")));
+
+        return entityManager.createQuery(ordered(query, root, cb, specification, cursor))
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    public List<Map<String, Object>> findFieldPage(Specification<Recipe> specification, RecipeCursor cursor, int limit,
+                                                   Set<RecipeField> fields) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Recipe> root = query.from(Recipe.class);
+        query.multiselect(fields.stream()
+                .filter(RecipeField::isColumn)
+                .<Selection<?>>map(field -> root.get(field.getKey()).alias(field.getKey()))
+                .toList());
+
+        List<Map<String, Object>> rows = entityManager.createQuery(ordered(query, root, cb, specification, cursor))
+                .setMaxResults(limit)
+                .getResultStream()
+                .map(tuple -> {
+                    Map<String, Object> row = new LinkedHashMap<>();
+                    fields.forEach(field -> row.put(field.getKey(), field.isColumn() ? tuple.get(field.getKey()) : null));
+                    return row;
+                })
+                .toList();
+        if (fields.contains(RecipeField.INGREDIENTS)) {
+            fetchIngredientFields(rows);
+        }
+        return rows;
+    }
+
+    @Override
+    public List<RecipeFacetRow> countFacets(Specification<Recipe> specification) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<RecipeFacetRow> query = cb.createQuery(RecipeFacetRow.class);
+        Root<Recipe> root = query.from(Recipe.class);
+        Path<Boolean> vegetarian = root.get("vegetarian");
+        Path<Integer> servings = root.get("servings");
+        Path<Integer> preparationTime = root.get("preparationTime");
+        query.select(cb.construct(RecipeFacetRow.class, vegetarian, servings, preparationTime, cb.count(root)))
+                .groupBy(vegetarian, servings, preparationTime);
+        restrict(query, root, cb, specification);
+
+        return entityManager.createQuery(query).getResultList();
+    }
+
+    @Override
+    public List<IngredientCountRow> countIngredients(Specification<Recipe> specification, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<IngredientCountRow> query = cb.createQuery(IngredientCountRow.class);
+        Root<Recipe> root = query.from(Recipe.class);
+        Join<Recipe, Ingredient> ingredient = root.join("ingredients");
+        // Rows the backfill has not linked yet are grouped by their case-folded raw name
+        Join<Ingredient, IngredientName> canonicalName = ingredient.join("canonicalName", JoinType.LEFT);
+        Expression<String> name = cb.coalesce(canonicalName.get("name"), cb.lower(cb.trim(ingredient.get("name"))));
+        Expression<Long> recipes = cb.countDistinct(root);
+        query.select(cb.construct(IngredientCountRow.class, name, recipes))
+                .groupBy(name)
+                .orderBy(cb.desc(recipes), cb.asc(name));
+        restrict(query, root, cb, specification);
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    public List<Long> findIds(Specification<Recipe> specification, RecipeCursor cursor, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Recipe> root = query.from(Recipe.class);
+        query.select(root.get("id"));
+
+        return entityManager.createQuery(ordered(query, root, cb, specification, cursor))
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    public Stream<Recipe> streamAll(int fetchSize) {
+        return entityManager.createQuery(
+                        "SELECT r FROM Recipe r LEFT JOIN FETCH r.ingredients ORDER BY r.id", Recipe.class)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream();
+    }
+
+    @Override
+    public void detach(Recipe recipe) {
+        entityManager.detach(recipe);
+    }
+
+    /**
+     * Restricts the query to the specification and the rows after the cursor, in cursor order.
+     */
+    private <T> CriteriaQuery<T> ordered(CriteriaQuery<T> query, Root<Recipe> root, CriteriaBuilder cb,
+                                         Specification<Recipe> specification, RecipeCursor cursor) {
+        List<Predicate> predicates = new ArrayList<>();
+        if (specification != null) {
+            Predicate predicate = specification.toPredicate(root, query, cb);
+            if (predicate != null) {
+                predicates.add(predicate);
+            }
+        }
+        if (cursor.hasPosition()) {
+            predicates.add(keysetPredicate(root, cb, cursor));
+        }
+
+        Expression<?> sortKey = sortKey(root, cb, cursor.getSort());
+        Path<Long> id = root.get("id");
+        return query.where(predicates.toArray(new Predicate[0]))
+                .orderBy(cursor.isDescending()
+                        ? List.of(cb.desc(sortKey), cb.desc(id))
+                        : List.of(cb.asc(sortKey), cb.asc(id)));
+    }
+
+    private void restrict(CriteriaQuery<?> query, Root<Recipe> root, CriteriaBuilder cb,
+                          Specification<Recipe> specification) {
+        Predicate predicate = specification != null ? specification.toPredicate(root, query, cb) : null;
+        if (predicate != null) {
+            query.where(predicate);
+        }
+    }
+
+    /**
+     * Initializes the ingredient collections of a page with one IN query. Fetch-joining the
+     * collection in the page query itself would make Hibernate apply the limit in memory.
+     */
+    private void fetchIngredients(List<Recipe> recipes) {
+        if (recipes.isEmpty()) {
+            return;
+        }
+        List<Long> ids = recipes.stream()
+                .map(Recipe::getId)
+                .toList();
+        entityManager.createQuery("SELECT r FROM Recipe r WHERE r.id IN :ids", Recipe.class)
+                .setParameter("ids", ids)
+                .setHint(FETCH_GRAPH_HINT, entityManager.getEntityGraph(Recipe.WITH_INGREDIENTS))
+                .getResultList();
+    }
+
+    /**
+     * Fills the ingredients of projected rows with one IN query over the ingredient columns only.
+     */
+    private void fetchIngredientFields(List<Map<String, Object>> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        String idKey = RecipeField.ID.getKey();
+        String ingredientsKey = RecipeField.INGREDIENTS.getKey();
+        Map<Long, List<IngredientDto>> byRecipe = rows.stream()
+                .collect(Collectors.toMap(row -> (Long) row.get(idKey), row -> new ArrayList<>(), (a, b) -> a));
+        rows.forEach(row -> row.put(ingredientsKey, byRecipe.get((Long) row.get(idKey))));
+
+        entityManager.createQuery("SELECT i.recipe.id, i.id, i.name, i.amount, i.unit FROM Ingredient i "
+                        + "WHERE i.recipe.id IN :ids ORDER BY i.id", Object[].class)
+                .setParameter("ids", byRecipe.keySet())
+                .getResultList()
+                .forEach(columns -> byRecipe.get((Long) columns[0]).add(IngredientDto.builder()
+                        .id((Long) columns[1])
+                        .name((String) columns[2])
+                        .amount((String) columns[3])
+                        .unit((String) columns[4])
+                        .build()));
+    }
+
+    private Predicate keysetPredicate(Root<Recipe> root, CriteriaBuilder cb, RecipeCursor cursor) {
+        Path<Long> id = root.get("id");
+        return switch (cursor.getSort()) {
+            case ID -> beyond(cb, id, cursor.getLastId(), cursor.isDescending());
+            case NAME -> keyset(cb, root.<String>get("name"), cursor.getLastValue(), id, cursor);
+            case TOTAL_TIME -> keyset(cb, totalTime(root, cb), Integer.valueOf(cursor.getLastValue()), id, cursor);
+        };
+    }
+
+    private <Y extends Comparable<? super Y>> Predicate keyset(CriteriaBuilder cb, Expression<? extends Y> key, Y value,
+                                                              Path<Long> id, RecipeCursor cursor) {
+        return cb.or(
+                beyond(cb, key, value, cursor.isDescending()),
+                cb.and(cb.equal(key, value), beyond(cb, id, cursor.getLastId(), cursor.isDescending())));
+    }
+
+    private <Y extends Comparable<? super Y>> Predicate beyond(CriteriaBuilder cb, Expression<? extends Y> key, Y value,
+                                                              boolean descending) {
+        return descending ? cb.lessThan(key, value) : cb.greaterThan(key, value);
+    }
+
+    private Expression<?> sortKey(Root<Recipe> root, CriteriaBuilder cb, RecipeSort sort) {
+        return switch (sort) {
+            case ID -> root.get("id");
+            case NAME -> root.get("name");
+            case TOTAL_TIME -> totalTime(root, cb);
+        };
+    }
+
+    private Expression<Integer> totalTime(Root<Recipe> root, CriteriaBuilder cb) {
+        return cb.sum(
+                cb.coalesce(root.<Integer>get("preparationTime"), 0),
+                cb.coalesce(root.<Integer>get("cookingTime"), 0));
+    }
+}
@@ -0,0 +1,61 @@
+package com.recipe.recipeservice.repository;
+
+import com.recipe.recipeservice.dto.RecipeDto;
+import com.recipe.recipeservice.entity.Recipe;
+
+import java.util.Arrays;
+
+public enum RecipeSort {
+
+    ID("id"),
+    NAME("name"),
+    TOTAL_TIME("totalTime");
+
+    private final String key;
+
+    RecipeSort(String key) {
+        this.key = key;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    /**
+     * Returns the value of this sort key for the given recipe, as stored in a cursor.
+     */
+    public String keyOf(Recipe recipe) {
+        return switch (this) {
+            case ID -> "";
+            case NAME -> recipe.getName();
+            case TOTAL_TIME -> String.valueOf(totalTime(recipe));
+        };
+    }
+
+    public String keyOf(RecipeDto recipe) {
+        return keyOf(recipe.getName(), recipe.getPreparationTime(), recipe.getCookingTime());
+    }
+
+    public String keyOf(String name, Integer preparationTime, Integer cookingTime) {
+        return switch (this) {
+            case ID -> "";
+            case NAME -> name;
+            case TOTAL_TIME -> String.valueOf(totalTime(preparationTime, cookingTime));
+        };
+    }
+
+    public static RecipeSort fromKey(String key) {
+        return Arrays.stream(values())
+                .filter(sort -> sort.key.equalsIgnoreCase(key))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unsupported sort key: " + key));
+    }
+
+    public static int totalTime(Recipe recipe) {
+        return totalTime(recipe.getPreparationTime(), recipe.getCookingTime());
+    }
+
+    private static int totalTime(Integer preparationTime, Integer cookingTime) {
+        return (preparationTime != null ? preparationTime : 0) + (cookingTime != null ? cookingTime : 0);
+    }
+}
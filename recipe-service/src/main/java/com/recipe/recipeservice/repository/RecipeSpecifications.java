@@ -0,0 +1,133 @@
+package com.recipe.recipeservice.repository;
+
+import com.recipe.recipeservice.dto.RecipeFilterDto;
+import com.recipe.recipeservice.entity.Ingredient;
+import com.recipe.recipeservice.entity.IngredientName;
+import com.recipe.recipeservice.entity.IngredientNames;
+import com.recipe.recipeservice.entity.Recipe;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+
+public final class RecipeSpecifications {
+
+    private static final char LIKE_ESCAPE = '\\';
+
+    private RecipeSpecifications() {
+    }
+
+    /**
+     * Combines every criterion set on the filter into a single specification, so the whole
+     * filter runs as one statement. Ingredient criteria become IN subqueries over the ingredient dictionary;
+     * {@code matchUnlinkedNames} also matches rows the backfill has not linked to it yet.
+     */
+    public static Specification<Recipe> matching(RecipeFilterDto filterDto, boolean matchUnlinkedNames) {
+        List<Specification<Recipe>> specifications = new ArrayList<>();
+
+        if (filterDto.getVegetarian() != null) {
+            specifications.add(vegetarian(filterDto.getVegetarian()));
+        }
+        if (filterDto.getServings() != null) {
+            specifications.add(servings(filterDto.getServings()));
+        }
+        if (hasText(filterDto.getIncludeIngredient())) {
+            specifications.add(includesIngredient(filterDto.getIncludeIngredient().trim(), matchUnlinkedNames));
+        }
+        if (hasText(filterDto.getExcludeIngredient())) {
+            specifications.add(excludesIngredient(filterDto.getExcludeIngredient().trim(), matchUnlinkedNames));
+        }
+        if (hasText(filterDto.getInstructionText())) {
+            specifications.add(instructionsContaining(filterDto.getInstructionText().trim()));
+        }
+
+        return Specification.allOf(specifications);
+    }
+
+    public static Specification<Recipe> createdBy(String username) {
+        return (root, query, cb) -> cb.equal(root.get("createdBy"), username);
+    }
+
+    public static Specification<Recipe> idIn(Collection<Long> ids) {
+        return (root, query, cb) -> ids.isEmpty() ? cb.disjunction() : root.get("id").in(ids);
+    }
+
+    /**
+     * Same as {@link #idIn}, with the ids rendered as SQL literals rather than bound parameters, for sets
+     * larger than the driver allows parameters per statement.
+     */
+    public static Specification<Recipe> idInLiterals(Collection<Long> ids) {
+        return (root, query, cb) -> {
+            if (ids.isEmpty()) {
+                return cb.disjunction();
+            }
+            CriteriaBuilder.In<Long> in = cb.in(root.get("id"));
+            ids.forEach(id -> in.value(cb.literal(id)));
+            return in;
+        };
+    }
+
+    public static Specification<Recipe> vegetarian(boolean vegetarian) {
+        return (root, query, cb) -> cb.equal(root.get("vegetarian"), vegetarian);
+    }
+
+    public static Specification<Recipe> servings(int servings) {
+        return (root, query, cb) -> cb.equal(root.get("servings"), servings);
+    }
+
+    public static Specification<Recipe> includesIngredient(String ingredient, boolean matchUnlinkedNames) {
+        return (root, query, cb) -> root.get("id").in(recipesUsing(query, cb, ingredient, matchUnlinkedNames));
+    }
+
+    public static Specification<Recipe> excludesIngredient(String ingredient, boolean matchUnlinkedNames) {
+        return (root, query, cb) -> cb.not(root.get("id").in(recipesUsing(query, cb, ingredient, matchUnlinkedNames)));
+    }
+
+    public static Specification<Recipe> instructionsContaining(String text) {
+        return (root, query, cb) -> cb.like(cb.lower(root.get("instructions")), containsPattern(text), LIKE_ESCAPE);
+    }
+
+    /**
+     * Ids of the recipes with an ingredient whose dictionary name equals the normalized name: one unique
+     * index lookup on the dictionary, then the (name_id, recipe_id) index. Unlinked rows are matched on
+     * any spelling of the name (see {@link IngredientNames#spellings}) and only while asked to.
+     */
+    private static Subquery<Long> recipesUsing(CriteriaQuery<?> query, CriteriaBuilder cb, String ingredient,
+                                               boolean matchUnlinkedNames) {
+        Subquery<Long> recipes = query.subquery(Long.class);
+        Root<Ingredient> ingredientRoot = recipes.from(Ingredient.class);
+
+        Subquery<Long> names = recipes.subquery(Long.class);
+        Root<IngredientName> nameRoot = names.from(IngredientName.class);
+        names.select(nameRoot.get("id"))
+                .where(cb.equal(nameRoot.get("name"), IngredientNames.normalize(ingredient)));
+
+        Path<IngredientName> canonicalName = ingredientRoot.get("canonicalName");
+        Path<Long> recipeId = ingredientRoot.get("recipe").get("id");
+        Predicate linked = canonicalName.get("id").in(names);
+        return recipes.select(recipeId)
+                .where(cb.isNotNull(recipeId), !matchUnlinkedNames ? linked : cb.or(linked,
+                        cb.and(cb.isNull(canonicalName),
+                                cb.lower(cb.trim(ingredientRoot.get("name"))).in(IngredientNames.spellings(ingredient)))));
+    }
+
+    private static String containsPattern(String text) {
+        String escaped = text.toLowerCase(Locale.ROOT)
+                .replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+        return "%" + escaped + "%";
+    }
+
+    private static boolean hasText(String value) {
+        return value != null && !value.trim().isEmpty();
+    }
+}
@@ -0,0 +1,11 @@
+package com.recipe.recipeservice.repository;
+
+/**
+ * Id and raw name of an ingredient row that has no dictionary entry yet.
+ */
+public interface UnresolvedIngredientRow {
+
+    Long getId();
+
+    String getName();
+}
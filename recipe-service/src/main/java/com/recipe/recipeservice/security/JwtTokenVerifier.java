@@ -0,0 +1,137 @@
+package com.recipe.recipeservice.security;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.JWTVerifier;
+import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.exceptions.JWTVerificationException;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Verifies bearer tokens with a single shared verifier and remembers verified tokens until they
+ * expire, so repeat requests with the same token skip signature checks and claim parsing.
+ * Only successful verifications are cached; tokens are keyed by their SHA-256 digest.
+ */
+@Component
+public class JwtTokenVerifier {
+
+    private static final Logger logger = LoggerFactory.getLogger(JwtTokenVerifier.class);
+
+    private final JWTVerifier verifier;
+    private final Duration maxCacheTime;
+    private final Cache<ByteBuffer, VerifiedToken> cache;
+    private final Timer validTimer;
+    private final Timer invalidTimer;
+
+    public JwtTokenVerifier(@Value("${app.jwt.secret}") String jwtSecret,
+                            MeterRegistry meterRegistry,
+                            @Value("${app.jwt.cache.maximum-size:10000}") long maximumSize,
+                            @Value("${app.jwt.cache.max-time:15m}") Duration maxCacheTime) {
+        this.verifier = JWT.require(Algorithm.HMAC256(jwtSecret)).build();
+        this.maxCacheTime = maxCacheTime;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new TokenExpiry())
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "jwt.verified");
+        this.validTimer = Timer.builder("jwt.verification")
+                .description("Time taken to verify a JWT that was not cached")
+                .tag("outcome", "valid")
+                .register(meterRegistry);
+        this.invalidTimer = Timer.builder("jwt.verification")
+                .description("Time taken to verify a JWT that was not cached")
+                .tag("outcome", "invalid")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Returns the principal carried by a valid token, or null when the token cannot be verified.
+     */
+    public VerifiedToken verify(String token) {
+        ByteBuffer key = digest(token);
+        VerifiedToken cached = cache.getIfPresent(key);
+        if (cached != null && cached.expiresAt().isAfter(Instant.now())) {
+            return cached;
+        }
+
+        long start = System.nanoTime();
+        try {
+            DecodedJWT decodedJWT = verifier.verify(token);
+            VerifiedToken verified = toVerifiedToken(decodedJWT);
+            validTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            cache.put(key, verified);
+            return verified;
+        } catch (JWTVerificationException e) {
+            invalidTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            logger.debug("Rejected JWT: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private VerifiedToken toVerifiedToken(DecodedJWT decodedJWT) {
+        List<String> roles = decodedJWT.getClaim("roles").asList(String.class);
+        List<GrantedAuthority> authorities = roles == null ? List.of() : roles.stream()
+                .map(SimpleGrantedAuthority::new)
+                .map(GrantedAuthority.class::cast)
+                .toList();
+
+        Instant maxExpiry = Instant.now().plus(maxCacheTime);
+        Instant expiresAt = decodedJWT.getExpiresAtAsInstant();
+        if (expiresAt == null || expiresAt.isAfter(maxExpiry)) {
+            expiresAt = maxExpiry;
+        }
+        return new VerifiedToken(decodedJWT.getSubject(), authorities, expiresAt);
+    }
+
+    private static ByteBuffer digest(String token) {
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+            return ByteBuffer.wrap(messageDigest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    public record VerifiedToken(String username, List<GrantedAuthority> authorities, Instant expiresAt) {
+    }
+
+    private static final class TokenExpiry implements Expiry<ByteBuffer, VerifiedToken> {
+
+        @Override
+        public long expireAfterCreate(ByteBuffer key, VerifiedToken token, long currentTime) {
+            return Math.max(0, Duration.between(Instant.now(), token.expiresAt()).toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(ByteBuffer key, VerifiedToken token, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, token, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(ByteBuffer key, VerifiedToken token, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.recipe.recipeservice.service;
+
+import com.recipe.recipeservice.cache.CatalogGeneration;
+import com.recipe.recipeservice.entity.IngredientNames;
+import com.recipe.recipeservice.repository.IngredientNameRepository;
+import com.recipe.recipeservice.repository.IngredientRepository;
+import com.recipe.recipeservice.repository.UnresolvedIngredientRow;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Links ingredient rows written before the dictionary existed (or by paths that bypass
+ * {@link IngredientDictionary}) to their dictionary entries. Runs once in the background after startup,
+ * in keyset batches. Until a run has finished, filters also match the raw name of rows it has not reached yet;
+ * every write path links its rows itself, so afterwards the dictionary alone answers them.
+ */
+@Component
+public class IngredientBackfill {
+
+    private static final Logger logger = LoggerFactory.getLogger(IngredientBackfill.class);
+
+    private final IngredientRepository ingredientRepository;
+    private final IngredientNameRepository ingredientNameRepository;
+    private final IngredientDictionary ingredientDictionary;
+    private final CatalogGeneration catalogGeneration;
+    private final TransactionTemplate transactionTemplate;
+    private final Counter backfilledCounter;
+    private final boolean enabled;
+    private final int batchSize;
+    private volatile boolean complete;
+
+    public IngredientBackfill(IngredientRepository ingredientRepository,
+                              IngredientNameRepository ingredientNameRepository,
+                              IngredientDictionary ingredientDictionary,
+                              CatalogGeneration catalogGeneration,
+                              PlatformTransactionManager transactionManager,
+                              MeterRegistry meterRegistry,
+                              @Value("${app.ingredient-dictionary.backfill.enabled:true}") boolean enabled,
+                              @Value("${app.ingredient-dictionary.backfill.batch-size:1000}") int batchSize) {
+        this.ingredientRepository = ingredientRepository;
+        this.ingredientNameRepository = ingredientNameRepository;
+        this.ingredientDictionary = ingredientDictionary;
+        this.catalogGeneration = catalogGeneration;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.backfilledCounter = Counter.builder("recipe.ingredient.names.backfilled")
+                .description("Number of ingredient rows linked to the dictionary by the backfill")
+                .register(meterRegistry);
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (enabled) {
+            Thread.ofVirtual().name("ingredient-backfill").start(this::run);
+        }
+    }
+
+    /**
+     * Resolves every unresolved ingredient row and returns how many were linked.
+     */
+    public long run() {
+        long start = System.nanoTime();
+        long after = 0;
+        long resolved = 0;
+        try {
+            List<UnresolvedIngredientRow> rows;
+            while (!(rows = ingredientRepository.findUnresolved(after, PageRequest.of(0, batchSize))).isEmpty()) {
+                List<UnresolvedIngredientRow> batch = rows;
+                int linked = transactionTemplate.execute(status -> resolve(batch));
+                if (linked > 0) {
+                    // Synonym-aware filters now match these rows, so cached results must be recomputed
+                    catalogGeneration.advance();
+                }
+                resolved += linked;
+                after = rows.get(rows.size() - 1).getId();
+            }
+        } catch (RuntimeException e) {
+            logger.error("Ingredient backfill stopped after {} rows; unresolved rows still match by raw name", resolved, e);
+            return resolved;
+        }
+        complete = true;
+        logger.info("Linked {} ingredient rows to the dictionary in {} ms", resolved, (System.nanoTime() - start) / 1_000_000);
+        return resolved;
+    }
+
+    /**
+     * Whether every ingredient row has been linked to the dictionary, so filters can skip the raw-name match.
+     */
+    public boolean isComplete() {
+        return complete;
+    }
+
+    private int resolve(List<UnresolvedIngredientRow> rows) {
+        Map<String, List<Long>> idsByName = rows.stream()
+                .filter(row -> StringUtils.hasText(row.getName()))
+                .collect(Collectors.groupingBy(UnresolvedIngredientRow::getName,
+                        Collectors.mapping(UnresolvedIngredientRow::getId, Collectors.toList())));
+        Map<String, Long> entries = ingredientDictionary.idsFor(idsByName.keySet());
+
+        int updated = 0;
+        for (Map.Entry<String, List<Long>> rowsWithName : idsByName.entrySet()) {
+            Long entryId = entries.get(IngredientNames.normalize(rowsWithName.getKey()));
+            updated += ingredientRepository.resolve(rowsWithName.getValue(), rowsWithName.getKey(),
+                    ingredientNameRepository.getReferenceById(entryId));
+        }
+        backfilledCounter.increment(updated);
+        return updated;
+    }
+}
@@ -0,0 +1,134 @@
+package com.recipe.recipeservice.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.recipe.recipeservice.entity.Ingredient;
+import com.recipe.recipeservice.entity.IngredientNames;
+import com.recipe.recipeservice.repository.IngredientNameRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.simple.SimpleJdbcInsert;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.StringUtils;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Resolves ingredient names to their dictionary entries. Entries are immutable, so resolved ids are
+ * cached without invalidation and a warm dictionary costs no SQL. Missing entries are inserted in the
+ * caller's transaction with plain JDBC, so a concurrent insert of the same name only fails that statement
+ * and costs a locking re-read; entries created here are cached once the transaction commits.
+ */
+@Component
+public class IngredientDictionary {
+
+    private final IngredientNameRepository ingredientNameRepository;
+    private final SimpleJdbcInsert insert;
+    private final Cache<String, Long> ids;
+    private final Counter createdCounter;
+
+    public IngredientDictionary(IngredientNameRepository ingredientNameRepository,
+                                JdbcTemplate jdbcTemplate,
+                                MeterRegistry meterRegistry,
+                                @Value("${app.ingredient-dictionary.cache-size:100000}") long cacheSize) {
+        this.ingredientNameRepository = ingredientNameRepository;
+        this.insert = new SimpleJdbcInsert(jdbcTemplate)
+                .withTableName("ingredient_names")
+                .usingColumns("name")
+                .usingGeneratedKeyColumns("id");
+        this.ids = Caffeine.newBuilder()
+                .maximumSize(cacheSize)
+                .recordStats()
+                .build();
+        this.createdCounter = Counter.builder("recipe.ingredient.names.created")
+                .description("Number of ingredient dictionary entries created")
+                .register(meterRegistry);
+
+        CaffeineCacheMetrics.monitor(meterRegistry, ids, "recipe.ingredient.names");
+    }
+
+    /**
+     * Points each ingredient that has no dictionary entry yet at the entry for its name.
+     */
+    public void assign(Collection<Ingredient> ingredients) {
+        List<Ingredient> unresolved = ingredients.stream()
+                .filter(ingredient -> ingredient.getCanonicalName() == null && StringUtils.hasText(ingredient.getName()))
+                .toList();
+        if (unresolved.isEmpty()) {
+            return;
+        }
+
+        Map<String, Long> entries = idsFor(unresolved.stream().map(Ingredient::getName).toList());
+        unresolved.forEach(ingredient -> ingredient.setCanonicalName(ingredientNameRepository.getReferenceById(
+                entries.get(IngredientNames.normalize(ingredient.getName())))));
+    }
+
+    /**
+     * Dictionary ids keyed by normalized name, creating entries for names seen for the first time.
+     * Names missing from the cache are looked up with one query.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public Map<String, Long> idsFor(Collection<String> names) {
+        Set<String> normalized = names.stream()
+                .filter(StringUtils::hasText)
+                .map(IngredientNames::normalize)
+                .collect(Collectors.toSet());
+        Map<String, Long> entries = new HashMap<>(ids.getAllPresent(normalized));
+        if (entries.size() == normalized.size()) {
+            return entries;
+        }
+
+        Set<String> missing = normalized.stream()
+                .filter(name -> !entries.containsKey(name))
+                .collect(Collectors.toSet());
+        Map<String, Long> loaded = new HashMap<>();
+        ingredientNameRepository.findByNameIn(missing)
+                .forEach(entry -> loaded.put(entry.getName(), entry.getId()));
+        ids.putAll(loaded);
+
+        Map<String, Long> created = new HashMap<>();
+        missing.stream()
+                .filter(name -> !loaded.containsKey(name))
+                .forEach(name -> created.put(name, create(name)));
+        if (!created.isEmpty()) {
+            // A rolled-back entry must not stay cached
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    ids.putAll(created);
+                }
+            });
+        }
+
+        entries.putAll(loaded);
+        entries.putAll(created);
+        return entries;
+    }
+
+    private Long create(String name) {
+        try {
+            Long id = insert.executeAndReturnKey(Map.of("name", name)).longValue();
+            createdCounter.increment();
+            return id;
+        } catch (DuplicateKeyException e) {
+            // Another transaction created the entry first; only the insert failed, and the locking read
+            // sees the committed row whatever snapshot this transaction started with
+            return ingredientNameRepository.findSharedByName(name)
+                    .orElseThrow(() -> e)
+                    .getId();
+        }
+    }
+}
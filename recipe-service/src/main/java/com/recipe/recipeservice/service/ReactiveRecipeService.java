@@ -0,0 +1,114 @@
+package com.recipe.recipeservice.service;
+
+import com.recipe.recipeservice.dto.CursorPageDto;
+import com.recipe.recipeservice.dto.PageRequestDto;
+import com.recipe.recipeservice.dto.RecipeDto;
+import com.recipe.recipeservice.dto.RecipeFilterDto;
+import com.recipe.recipeservice.exception.InvalidPageRequestException;
+import com.recipe.recipeservice.exception.RecipeNotFoundException;
+import com.recipe.recipeservice.exception.SearchUnavailableException;
+import com.recipe.recipeservice.index.RecipeTextIndex;
+import com.recipe.recipeservice.repository.ReactiveRecipeRepository;
+import com.recipe.recipeservice.repository.RecipeCursor;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * Read-only counterpart of {@link RecipeService} over R2DBC. Pages use the same cursors and limits,
+ * so clients can switch between the blocking and reactive endpoints; writes stay on {@link RecipeService}.
+ */
+@Service
+public class ReactiveRecipeService {
+
+    private final ReactiveRecipeRepository reactiveRecipeRepository;
+    private final RecipeTextIndex recipeTextIndex;
+    private final IngredientBackfill ingredientBackfill;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${app.pagination.default-size:20}")
+    private int defaultPageSize;
+
+    @Value("${app.pagination.max-size:100}")
+    private int maxPageSize;
+
+    public ReactiveRecipeService(ReactiveRecipeRepository reactiveRecipeRepository, RecipeTextIndex recipeTextIndex,
+                                 IngredientBackfill ingredientBackfill, MeterRegistry meterRegistry) {
+        this.reactiveRecipeRepository = reactiveRecipeRepository;
+        this.recipeTextIndex = recipeTextIndex;
+        this.ingredientBackfill = ingredientBackfill;
+        this.meterRegistry = meterRegistry;
+    }
+
+    public Mono<RecipeDto> getRecipeById(Long id) {
+        meterRegistry.counter("recipe.queries", "type", "reactiveById").increment();
+        return reactiveRecipeRepository.findById(id)
+                .switchIfEmpty(Mono.error(() -> new RecipeNotFoundException("Recipe not found with id: " + id)));
+    }
+
+    public Mono<CursorPageDto<RecipeDto>> getAllRecipes(PageRequestDto pageRequest) {
+        meterRegistry.counter("recipe.queries", "type", "reactiveAll").increment();
+        return findPage(null, pageRequest);
+    }
+
+    public Mono<CursorPageDto<RecipeDto>> filterRecipes(RecipeFilterDto filterDto, PageRequestDto pageRequest) {
+        meterRegistry.counter("recipe.queries", "type", "reactiveFilter").increment();
+        return findPage(filterDto, pageRequest);
+    }
+
+    private Mono<CursorPageDto<RecipeDto>> findPage(RecipeFilterDto filterDto, PageRequestDto pageRequest) {
+        RecipeCursor cursor = resolveCursor(pageRequest);
+        int size = resolvePageSize(pageRequest);
+        if (filterDto == null || !StringUtils.hasText(filterDto.getInstructionText()) || !recipeTextIndex.isEnabled()) {
+            return findPage(filterDto, null, cursor, size);
+        }
+        if (!recipeTextIndex.isReady()) {
+            return Mono.error(new SearchUnavailableException("Recipe search index is not available"));
+        }
+
+        // Instruction text goes through the text index, as on the blocking endpoint
+        List<Long> ids = recipeTextIndex.findInstructionMatches(filterDto.getInstructionText().trim());
+        return findPage(filterDto.toBuilder().instructionText(null).build(), ids, cursor, size);
+    }
+
+    private Mono<CursorPageDto<RecipeDto>> findPage(RecipeFilterDto filterDto, List<Long> ids, RecipeCursor cursor, int size) {
+        // One extra row tells whether another page follows
+        return reactiveRecipeRepository.findPage(filterDto, ids, !ingredientBackfill.isComplete(), cursor, size + 1)
+                .collectList()
+                .map(recipes -> toPage(recipes, cursor, size));
+    }
+
+    private CursorPageDto<RecipeDto> toPage(List<RecipeDto> recipes, RecipeCursor cursor, int size) {
+        boolean hasNext = recipes.size() > size;
+        List<RecipeDto> page = hasNext ? recipes.subList(0, size) : recipes;
+        String nextCursor = hasNext ? cursor.after(page.get(page.size() - 1)).encode() : null;
+
+        return CursorPageDto.<RecipeDto>builder()
+                .content(page)
+                .size(page.size())
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    private RecipeCursor resolveCursor(PageRequestDto pageRequest) {
+        try {
+            return RecipeCursor.resolve(pageRequest.getCursor(), pageRequest.getSort(), pageRequest.getDirection());
+        } catch (IllegalArgumentException e) {
+            throw new InvalidPageRequestException(e.getMessage());
+        }
+    }
+
+    private int resolvePageSize(PageRequestDto pageRequest) {
+        if (pageRequest.getSize() == null) {
+            return defaultPageSize;
+        }
+        if (pageRequest.getSize() < 1 || pageRequest.getSize() > maxPageSize) {
+            throw new InvalidPageRequestException("Page size must be between 1 and " + maxPageSize);
+        }
+        return pageRequest.getSize();
+    }
+}
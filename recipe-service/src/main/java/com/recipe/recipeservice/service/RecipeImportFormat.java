@@ -0,0 +1,34 @@
+package com.recipe.recipeservice.service;
+
+import com.recipe.recipeservice.exception.InvalidImportException;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+
+public enum RecipeImportFormat {
+
+    NDJSON(MediaType.APPLICATION_NDJSON),
+    CSV(MediaType.parseMediaType(RecipeImportFormat.CSV_VALUE));
+
+    public static final String CSV_VALUE = "text/csv";
+
+    private final MediaType mediaType;
+
+    RecipeImportFormat(MediaType mediaType) {
+        this.mediaType = mediaType;
+    }
+
+    public static RecipeImportFormat fromContentType(String contentType) {
+        MediaType requested;
+        try {
+            requested = MediaType.parseMediaType(contentType);
+        } catch (InvalidMediaTypeException e) {
+            throw new InvalidImportException("Unsupported import content type: " + contentType);
+        }
+        for (RecipeImportFormat format : values()) {
+            if (format.mediaType.isCompatibleWith(requested)) {
+                return format;
+            }
+        }
+        throw new InvalidImportException("Unsupported import content type: " + contentType);
+    }
+}
@@ -0,0 +1,144 @@
+package com.recipe.recipeservice.service;
+
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import com.recipe.recipeservice.dto.IngredientDto;
+import com.recipe.recipeservice.dto.RecipeDto;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Parses an import upload one record at a time, so the upload never has to fit in memory.
+ * <p>
+ * CSV uploads need a header row with the columns {@code name, description, vegetarian, servings,
+ * instructions, preparationTime, cookingTime, ingredients, createdBy}. Ingredients are written as
+ * {@code name|amount|unit} entries separated by {@code ;}.
+ */
+@Component
+public class RecipeImportReader {
+
+    private static final String INGREDIENT_SEPARATOR = ";";
+    private static final String INGREDIENT_FIELD_SEPARATOR = "\\|";
+
+    private final ObjectMapper objectMapper;
+    private final CsvMapper csvMapper = new CsvMapper();
+
+    public RecipeImportReader(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    public Records open(InputStream input, RecipeImportFormat format) throws IOException {
+        return switch (format) {
+            case NDJSON -> new Records(objectMapper.readerFor(RecipeDto.class).readValues(input), null);
+            case CSV -> new Records(csvMapper.readerForMapOf(String.class)
+                    .with(CsvSchema.emptySchema().withHeader())
+                    .readValues(input), this::toRecipe);
+        };
+    }
+
+    private RecipeDto toRecipe(Map<String, String> row) {
+        return RecipeDto.builder()
+                .name(text(row, "name"))
+                .description(text(row, "description"))
+                .vegetarian(StringUtils.hasText(row.get("vegetarian")) ? parseBoolean(row.get("vegetarian")) : null)
+                .servings(integer(row, "servings"))
+                .instructions(text(row, "instructions"))
+                .preparationTime(integer(row, "preparationTime"))
+                .cookingTime(integer(row, "cookingTime"))
+                .ingredients(ingredients(row.get("ingredients")))
+                .createdBy(text(row, "createdBy"))
+                .build();
+    }
+
+    private List<IngredientDto> ingredients(String value) {
+        List<IngredientDto> ingredients = new ArrayList<>();
+        if (!StringUtils.hasText(value)) {
+            return ingredients;
+        }
+        for (String entry : value.split(INGREDIENT_SEPARATOR)) {
+            if (entry.isBlank()) {
+                continue;
+            }
+            String[] fields = entry.split(INGREDIENT_FIELD_SEPARATOR, -1);
+            ingredients.add(IngredientDto.builder()
+                    .name(fields[0].trim())
+                    .amount(fields.length > 1 ? fields[1].trim() : null)
+                    .unit(fields.length > 2 ? fields[2].trim() : null)
+                    .build());
+        }
+        return ingredients;
+    }
+
+    private static String text(Map<String, String> row, String column) {
+        String value = row.get(column);
+        return StringUtils.hasText(value) ? value : null;
+    }
+
+    private static Integer integer(Map<String, String> row, String column) {
+        String value = row.get(column);
+        if (!StringUtils.hasText(value)) {
+            return null;
+        }
+        try {
+            return Integer.valueOf(value.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Column '" + column + "' is not a number: " + value);
+        }
+    }
+
+    private static Boolean parseBoolean(String value) {
+        return switch (value.trim().toLowerCase(Locale.ROOT)) {
+            case "true", "yes", "1" -> true;
+            case "false", "no", "0" -> false;
+            default -> throw new IllegalArgumentException("Column 'vegetarian' is not a boolean: " + value);
+        };
+    }
+
+    /**
+     * Forward-only cursor over the parsed records. {@link #next()} fails for a single bad record
+     * and can be called again to continue with the following one.
+     */
+    public static final class Records implements Iterator<RecipeDto>, Closeable {
+
+        private final MappingIterator<?> iterator;
+        private final Function<Map<String, String>, RecipeDto> rowMapper;
+
+        private Records(MappingIterator<?> iterator, Function<Map<String, String>, RecipeDto> rowMapper) {
+            this.iterator = iterator;
+            this.rowMapper = rowMapper;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return iterator.hasNext();
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public RecipeDto next() {
+            Object record = iterator.next();
+            return rowMapper == null ? (RecipeDto) record : rowMapper.apply((Map<String, String>) record);
+        }
+
+        public int lineNumber() {
+            return iterator.getCurrentLocation().getLineNr();
+        }
+
+        @Override
+        public void close() throws IOException {
+            iterator.close();
+        }
+    }
+}
@@ -0,0 +1,233 @@
+package com.recipe.recipeservice.service;
+
+import com.recipe.recipeservice.dto.RecipeDto;
+import com.recipe.recipeservice.dto.RecipeImportResultDto;
+import com.recipe.recipeservice.entity.Recipe;
+import com.recipe.recipeservice.event.RecipeChangedEvent;
+import com.recipe.recipeservice.exception.InvalidImportException;
+import com.recipe.recipeservice.repository.RecipeRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Bulk import of recipe uploads. Records are parsed incrementally and written in batches, each in its
+ * own transaction, so a large upload neither holds one long transaction nor accumulates entities.
+ */
+@Service
+public class RecipeImportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(RecipeImportService.class);
+
+    private static final int MAX_REPORTED_ERRORS = 20;
+    private static final int PROGRESS_LOG_INTERVAL = 20;
+
+    private final RecipeImportReader recipeImportReader;
+    private final RecipeRepository recipeRepository;
+    private final RecipeMapper recipeMapper;
+    private final IngredientDictionary ingredientDictionary;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final Validator validator;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Counter recipeCreatedCounter;
+    private final Counter importedCounter;
+    private final Counter rejectedCounter;
+    private final Timer batchTimer;
+    private final AtomicLong recordsInProgress = new AtomicLong();
+    private final int batchSize;
+    private final int maxRejected;
+
+    public RecipeImportService(RecipeImportReader recipeImportReader,
+                               RecipeRepository recipeRepository,
+                               RecipeMapper recipeMapper,
+                               IngredientDictionary ingredientDictionary,
+                               EntityManager entityManager,
+                               PlatformTransactionManager transactionManager,
+                               Validator validator,
+                               ApplicationEventPublisher eventPublisher,
+                               Counter recipeCreatedCounter,
+                               MeterRegistry meterRegistry,
+                               @Value("${app.import.batch-size:500}") int batchSize,
+                               @Value("${app.import.max-rejected:1000}") int maxRejected) {
+        this.recipeImportReader = recipeImportReader;
+        this.recipeRepository = recipeRepository;
+        this.recipeMapper = recipeMapper;
+        this.ingredientDictionary = ingredientDictionary;
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.validator = validator;
+        this.eventPublisher = eventPublisher;
+        this.recipeCreatedCounter = recipeCreatedCounter;
+        this.batchSize = batchSize;
+        this.maxRejected = maxRejected;
+
+        this.importedCounter = Counter.builder("recipe.import.records")
+                .description("Number of imported recipe records")
+                .tag("outcome", "imported")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("recipe.import.records")
+                .description("Number of imported recipe records")
+                .tag("outcome", "rejected")
+                .register(meterRegistry);
+        this.batchTimer = Timer.builder("recipe.import.batch")
+                .description("Time taken to write one import batch")
+                .register(meterRegistry);
+        meterRegistry.gauge("recipe.import.in.progress", recordsInProgress);
+    }
+
+    public RecipeImportResultDto importRecipes(InputStream input, RecipeImportFormat format) {
+        String username = SecurityContextHolder.getContext().getAuthentication().getName();
+        ImportProgress progress = new ImportProgress();
+        List<RecipeDto> batch = new ArrayList<>(batchSize);
+
+        try (RecipeImportReader.Records records = recipeImportReader.open(input, format)) {
+            while (hasNext(records, progress)) {
+                RecipeDto recipeDto;
+                try {
+                    recipeDto = records.next();
+                } catch (RuntimeException e) {
+                    reject(progress, records.lineNumber(), e.getMessage());
+                    continue;
+                }
+
+                Set<ConstraintViolation<RecipeDto>> violations = validator.validate(recipeDto);
+                if (!violations.isEmpty()) {
+                    reject(progress, records.lineNumber(), violations.stream()
+                            .map(ConstraintViolation::getMessage)
+                            .sorted()
+                            .collect(Collectors.joining(", ")));
+                    continue;
+                }
+
+                batch.add(prepare(recipeDto, username));
+                if (batch.size() == batchSize) {
+                    writeBatch(batch, progress);
+                    batch.clear();
+                }
+            }
+            if (!batch.isEmpty()) {
+                writeBatch(batch, progress);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read recipe import", e);
+        } finally {
+            recordsInProgress.addAndGet(-(progress.imported + progress.rejected));
+        }
+
+        RecipeImportResultDto result = progress.toResult();
+        logger.info("Imported {} recipes ({} rejected) in {} batches, {} ms, {} recipes/s",
+                result.getImported(), result.getRejected(), result.getBatches(),
+                result.getElapsedMillis(), Math.round(result.getRecipesPerSecond()));
+        return result;
+    }
+
+    private boolean hasNext(RecipeImportReader.Records records, ImportProgress progress) {
+        try {
+            return records.hasNext();
+        } catch (RuntimeException e) {
+            // The parser cannot resynchronize after a syntax error; batches written so far stay committed
+            throw new InvalidImportException(String.format("Malformed input at line %d after importing %d recipes: %s",
+                    records.lineNumber(), progress.imported, e.getMessage()));
+        }
+    }
+
+    private RecipeDto prepare(RecipeDto recipeDto, String username) {
+        // Imported records always create new rows
+        recipeDto.setId(null);
+        recipeDto.getIngredients().forEach(ingredient -> ingredient.setId(null));
+        if (recipeDto.getCreatedBy() == null) {
+            recipeDto.setCreatedBy(username);
+        }
+        return recipeDto;
+    }
+
+    private void writeBatch(List<RecipeDto> batch, ImportProgress progress) {
+        batchTimer.record(() -> transactionTemplate.executeWithoutResult(status -> {
+            List<Recipe> recipes = batch.stream()
+                    .map(recipeMapper::toEntity)
+                    .toList();
+            ingredientDictionary.assign(recipes.stream().flatMap(recipe -> recipe.getIngredients().stream()).toList());
+            recipeRepository.saveAll(recipes);
+            recipeRepository.flush();
+            recipes.forEach(recipe -> eventPublisher.publishEvent(RecipeChangedEvent.created(recipeMapper.toDto(recipe))));
+            // Keep the persistence context from growing across batches when it outlives the transaction
+            entityManager.clear();
+        }));
+
+        progress.imported += batch.size();
+        progress.batches++;
+        importedCounter.increment(batch.size());
+        recipeCreatedCounter.increment(batch.size());
+        recordsInProgress.addAndGet(batch.size());
+
+        if (progress.batches % PROGRESS_LOG_INTERVAL == 0) {
+            logger.info("Import progress: {} recipes imported, {} rejected, {} recipes/s",
+                    progress.imported, progress.rejected, Math.round(progress.recipesPerSecond()));
+        }
+    }
+
+    private void reject(ImportProgress progress, int lineNumber, String reason) {
+        progress.rejected++;
+        rejectedCounter.increment();
+        recordsInProgress.incrementAndGet();
+        if (progress.errors.size() < MAX_REPORTED_ERRORS) {
+            progress.errors.add("Line " + lineNumber + ": " + reason);
+        }
+        if (progress.rejected > maxRejected) {
+            throw new InvalidImportException(String.format(
+                    "Import aborted after %d rejected records; %d recipes were imported. First errors: %s",
+                    progress.rejected, progress.imported, progress.errors));
+        }
+    }
+
+    private static final class ImportProgress {
+
+        private final long startNanos = System.nanoTime();
+        private final List<String> errors = new ArrayList<>();
+        private long imported;
+        private long rejected;
+        private int batches;
+
+        private long elapsedMillis() {
+            return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+        }
+
+        private double recipesPerSecond() {
+            long elapsedMillis = elapsedMillis();
+            return elapsedMillis == 0 ? imported : imported * 1000.0 / elapsedMillis;
+        }
+
+        private RecipeImportResultDto toResult() {
+            return RecipeImportResultDto.builder()
+                    .imported(imported)
+                    .rejected(rejected)
+                    .batches(batches)
+                    .elapsedMillis(elapsedMillis())
+                    .recipesPerSecond(recipesPerSecond())
+                    .errors(List.copyOf(errors))
+                    .build();
+        }
+    }
+}
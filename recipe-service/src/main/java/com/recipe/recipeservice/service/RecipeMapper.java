@@ -6,6 +6,11 @@ import com.recipe.recipeservice.entity.Ingredient;
 import com.recipe.recipeservice.entity.Recipe;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Component
@@ -25,6 +30,7 @@ public class RecipeMapper {
                         .map(this::toIngredientDto)
                         .collect(Collectors.toList()))
                 .createdBy(recipe.getCreatedBy())
+                .version(recipe.getVersion())
                 .build();
     }
 
@@ -49,6 +55,48 @@ public class RecipeMapper {
         return recipe;
     }
 
+    /**
+     * Copies the DTO onto a managed recipe. Ingredients are matched by id: matched rows are updated
+     * in place, rows the DTO no longer lists are removed, and ingredients without a known id are added,
+     * so unchanged ingredients cost no SQL at flush time. Id, creator and version are left alone.
+     * Returns the added and renamed ingredients, which need a dictionary entry.
+     */
+    public List<Ingredient> updateEntity(Recipe recipe, RecipeDto recipeDto) {
+        recipe.setName(recipeDto.getName());
+        recipe.setDescription(recipeDto.getDescription());
+        recipe.setVegetarian(recipeDto.getVegetarian());
+        recipe.setServings(recipeDto.getServings());
+        recipe.setInstructions(recipeDto.getInstructions());
+        recipe.setPreparationTime(recipeDto.getPreparationTime());
+        recipe.setCookingTime(recipeDto.getCookingTime());
+
+        Map<Long, Ingredient> existing = recipe.getIngredients().stream()
+                .collect(Collectors.toMap(Ingredient::getId, Function.identity()));
+        List<Ingredient> added = new ArrayList<>();
+        List<Ingredient> named = new ArrayList<>();
+        for (IngredientDto ingredientDto : recipeDto.getIngredients()) {
+            Ingredient ingredient = ingredientDto.getId() == null ? null : existing.remove(ingredientDto.getId());
+            if (ingredient == null) {
+                // Ids belonging to other recipes, or repeated within the DTO, are treated as new ingredients
+                Ingredient newIngredient = toIngredientEntity(ingredientDto);
+                newIngredient.setId(null);
+                added.add(newIngredient);
+            } else {
+                if (!Objects.equals(ingredient.getName(), ingredientDto.getName())) {
+                    ingredient.setName(ingredientDto.getName());
+                    ingredient.setCanonicalName(null);
+                    named.add(ingredient);
+                }
+                ingredient.setAmount(ingredientDto.getAmount());
+                ingredient.setUnit(ingredientDto.getUnit());
+            }
+        }
+        existing.values().forEach(recipe::removeIngredient);
+        added.forEach(recipe::addIngredient);
+        named.addAll(added);
+        return named;
+    }
+
     public IngredientDto toIngredientDto(Ingredient ingredient) {
         return IngredientDto.builder()
                 .id(ingredient.getId())
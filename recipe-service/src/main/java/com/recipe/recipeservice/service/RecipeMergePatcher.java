@@ -0,0 +1,82 @@
+package com.recipe.recipeservice.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.recipe.recipeservice.dto.RecipeDto;
+import com.recipe.recipeservice.exception.InvalidPatchException;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Applies JSON Merge Patch (RFC 7396) documents to recipes. Members set to null are removed, objects
+ * merge recursively and arrays, including the ingredient list, replace the current value; ingredients
+ * that keep their id are still updated in place by {@link RecipeMapper#updateEntity}.
+ */
+@Component
+public class RecipeMergePatcher {
+
+    public static final String MEDIA_TYPE = "application/merge-patch+json";
+
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+
+    public RecipeMergePatcher(ObjectMapper objectMapper, Validator validator) {
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+    }
+
+    /**
+     * Returns a new DTO with the patch applied, validated like a full update; {@code current} is not modified.
+     */
+    public RecipeDto apply(RecipeDto current, JsonNode patch) {
+        if (patch == null || !patch.isObject()) {
+            throw new InvalidPatchException("A recipe merge patch must be a JSON object");
+        }
+
+        RecipeDto patched;
+        try {
+            patched = objectMapper.treeToValue(merge(objectMapper.valueToTree(current), patch), RecipeDto.class);
+        } catch (JsonProcessingException | IllegalArgumentException e) {
+            throw new InvalidPatchException("Merge patch does not produce a valid recipe: " + e.getMessage());
+        }
+
+        Set<ConstraintViolation<RecipeDto>> violations = validator.validate(patched);
+        if (!violations.isEmpty()) {
+            throw new InvalidPatchException(violations.stream()
+                    .map(ConstraintViolation::getMessage)
+                    .sorted()
+                    .collect(Collectors.joining(", ")));
+        }
+        return patched;
+    }
+
+    /**
+     * The RFC 7396 MergePatch algorithm. Object targets are modified in place and returned.
+     */
+    static JsonNode merge(JsonNode target, JsonNode patch) {
+        if (!patch.isObject()) {
+            return patch;
+        }
+        ObjectNode result = target != null && target.isObject()
+                ? (ObjectNode) target
+                : ((ObjectNode) patch).objectNode();
+        Iterator<Map.Entry<String, JsonNode>> members = patch.fields();
+        while (members.hasNext()) {
+            Map.Entry<String, JsonNode> member = members.next();
+            if (member.getValue().isNull()) {
+                result.remove(member.getKey());
+            } else {
+                result.set(member.getKey(), merge(result.get(member.getKey()), member.getValue()));
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,173 @@
+package com.recipe.recipeservice.service;
+
+import com.recipe.recipeservice.dto.RecipeDto;
+import com.recipe.recipeservice.dto.RecipeSummaryDto;
+import com.recipe.recipeservice.entity.Recipe;
+import com.recipe.recipeservice.exception.InvalidPageRequestException;
+import com.recipe.recipeservice.repository.RecipeCursor;
+import com.recipe.recipeservice.repository.RecipeField;
+import com.recipe.recipeservice.repository.RecipeRepository;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.util.StringUtils;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Shape of the recipes in a list response: full recipes, the summary view or a sparse fieldset.
+ * Each projection reads only the columns it returns, and derives its rows from full recipes when
+ * a page is served from the detail cache.
+ */
+public abstract class RecipeProjection<T> {
+
+    public static final RecipeProjection<RecipeSummaryDto> SUMMARY = new Summary();
+
+    private static final String SUMMARY_VIEW = "summary";
+    private static final String FULL_VIEW = "full";
+
+    abstract List<T> find(RecipeRepository recipeRepository, Specification<Recipe> specification,
+                          RecipeCursor cursor, int limit);
+
+    abstract T fromDto(RecipeDto recipe, RecipeCursor cursor);
+
+    abstract RecipeCursor after(RecipeCursor cursor, T recipe);
+
+    static RecipeProjection<RecipeDto> full(RecipeMapper recipeMapper) {
+        return new Full(recipeMapper);
+    }
+
+    /**
+     * A sparse fieldset. The id and the columns of the sort key are always included, so every
+     * page can hand out a cursor.
+     */
+    public static RecipeProjection<Map<String, Object>> fields(Set<RecipeField> fields) {
+        return new Fields(fields);
+    }
+
+    /**
+     * Resolves the {@code view} and {@code fields} request parameters. Returns null for the full
+     * representation, which the regular list methods serve.
+     */
+    public static RecipeProjection<?> parse(String view, String fields) {
+        boolean sparse = StringUtils.hasText(fields);
+        if (!StringUtils.hasText(view) || view.equalsIgnoreCase(FULL_VIEW)) {
+            return sparse ? fields(parseFields(fields)) : null;
+        }
+        if (!view.equalsIgnoreCase(SUMMARY_VIEW)) {
+            throw new InvalidPageRequestException("Unsupported view: " + view);
+        }
+        if (sparse) {
+            throw new InvalidPageRequestException("Request either a view or fields, not both");
+        }
+        return SUMMARY;
+    }
+
+    private static Set<RecipeField> parseFields(String fields) {
+        try {
+            Set<RecipeField> parsed = EnumSet.noneOf(RecipeField.class);
+            Arrays.stream(fields.split(","))
+                    .map(String::trim)
+                    .filter(StringUtils::hasText)
+                    .map(RecipeField::fromKey)
+                    .forEach(parsed::add);
+            return parsed;
+        } catch (IllegalArgumentException e) {
+            throw new InvalidPageRequestException(e.getMessage());
+        }
+    }
+
+    private static final class Full extends RecipeProjection<RecipeDto> {
+
+        private final RecipeMapper recipeMapper;
+
+        private Full(RecipeMapper recipeMapper) {
+            this.recipeMapper = recipeMapper;
+        }
+
+        @Override
+        List<RecipeDto> find(RecipeRepository recipeRepository, Specification<Recipe> specification,
+                             RecipeCursor cursor, int limit) {
+            return recipeRepository.findPage(specification, cursor, limit).stream()
+                    .map(recipeMapper::toDto)
+                    .toList();
+        }
+
+        @Override
+        RecipeDto fromDto(RecipeDto recipe, RecipeCursor cursor) {
+            return recipe;
+        }
+
+        @Override
+        RecipeCursor after(RecipeCursor cursor, RecipeDto recipe) {
+            return cursor.after(recipe);
+        }
+    }
+
+    private static final class Summary extends RecipeProjection<RecipeSummaryDto> {
+
+        @Override
+        List<RecipeSummaryDto> find(RecipeRepository recipeRepository, Specification<Recipe> specification,
+                                    RecipeCursor cursor, int limit) {
+            return recipeRepository.findSummaryPage(specification, cursor, limit);
+        }
+
+        @Override
+        RecipeSummaryDto fromDto(RecipeDto recipe, RecipeCursor cursor) {
+            return RecipeSummaryDto.builder()
+                    .id(recipe.getId())
+                    .name(recipe.getName())
+                    .vegetarian(recipe.getVegetarian())
+                    .servings(recipe.getServings())
+                    .preparationTime(recipe.getPreparationTime())
+                    .cookingTime(recipe.getCookingTime())
+                    .build();
+        }
+
+        @Override
+        RecipeCursor after(RecipeCursor cursor, RecipeSummaryDto recipe) {
+            return cursor.after(recipe.getId(), recipe.getName(), recipe.getPreparationTime(), recipe.getCookingTime());
+        }
+    }
+
+    private static final class Fields extends RecipeProjection<Map<String, Object>> {
+
+        private final Set<RecipeField> fields;
+
+        private Fields(Set<RecipeField> fields) {
+            this.fields = Collections.unmodifiableSet(EnumSet.copyOf(fields.isEmpty() ? EnumSet.of(RecipeField.ID) : fields));
+        }
+
+        @Override
+        List<Map<String, Object>> find(RecipeRepository recipeRepository, Specification<Recipe> specification,
+                                       RecipeCursor cursor, int limit) {
+            return recipeRepository.findFieldPage(specification, cursor, limit, selected(cursor));
+        }
+
+        @Override
+        Map<String, Object> fromDto(RecipeDto recipe, RecipeCursor cursor) {
+            Map<String, Object> row = new LinkedHashMap<>();
+            selected(cursor).forEach(field -> row.put(field.getKey(), field.valueOf(recipe)));
+            return row;
+        }
+
+        @Override
+        RecipeCursor after(RecipeCursor cursor, Map<String, Object> recipe) {
+            return cursor.after(
+                    (Long) recipe.get(RecipeField.ID.getKey()),
+                    (String) recipe.get(RecipeField.NAME.getKey()),
+                    (Integer) recipe.get(RecipeField.PREPARATION_TIME.getKey()),
+                    (Integer) recipe.get(RecipeField.COOKING_TIME.getKey()));
+        }
+
+        private Set<RecipeField> selected(RecipeCursor cursor) {
+            Set<RecipeField> selected = EnumSet.copyOf(fields);
+            selected.addAll(RecipeField.cursorFields(cursor.getSort()));
+            return selected;
+        }
+    }
+}
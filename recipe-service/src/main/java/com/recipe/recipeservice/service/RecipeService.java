@@ -1,23 +1,49 @@
 package com.recipe.recipeservice.service;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.recipe.recipeservice.cache.RecipeDetailCache;
+import com.recipe.recipeservice.cache.RecipeFilterCache;
+import com.recipe.recipeservice.dto.CursorPageDto;
+import com.recipe.recipeservice.dto.PageRequestDto;
+import com.recipe.recipeservice.dto.RecipeFacetsDto;
 import com.recipe.recipeservice.dto.RecipeDto;
 import com.recipe.recipeservice.dto.RecipeFilterDto;
-import com.recipe.recipeservice.entity.Ingredient;
+import com.recipe.recipeservice.dto.RecipeSearchHitDto;
+import com.recipe.recipeservice.dto.RecipeStatsDto;
 import com.recipe.recipeservice.entity.Recipe;
+import com.recipe.recipeservice.event.RecipeChangedEvent;
+import com.recipe.recipeservice.exception.InvalidPageRequestException;
+import com.recipe.recipeservice.exception.PreconditionFailedException;
 import com.recipe.recipeservice.exception.RecipeNotFoundException;
+import com.recipe.recipeservice.exception.SearchUnavailableException;
+import com.recipe.recipeservice.index.RecipeCatalogIndex;
+import com.recipe.recipeservice.index.RecipeFacets;
+import com.recipe.recipeservice.index.RecipeStatistics;
+import com.recipe.recipeservice.index.RecipeTextIndex;
+import com.recipe.recipeservice.repository.RecipeCursor;
 import com.recipe.recipeservice.repository.RecipeRepository;
+import com.recipe.recipeservice.repository.RecipeSort;
+import com.recipe.recipeservice.repository.RecipeSpecifications;
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 
-import java.util.HashSet;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
 import java.util.List;
-import java.util.Set;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 public class RecipeService {
@@ -29,6 +55,32 @@ public class RecipeService {
     private final Counter recipeDeletedCounter;
     private final Timer recipeFilterTimer;
     private final MeterRegistry meterRegistry;
+    private final ApplicationEventPublisher eventPublisher;
+    private final RecipeCatalogIndex recipeCatalogIndex;
+    private final RecipeTextIndex recipeTextIndex;
+    private final RecipeDetailCache recipeDetailCache;
+    private final RecipeFilterCache recipeFilterCache;
+    private final RecipeStatistics recipeStatistics;
+    private final RecipeFacets recipeFacets;
+    private final RecipeMergePatcher recipeMergePatcher;
+    private final IngredientDictionary ingredientDictionary;
+    private final IngredientBackfill ingredientBackfill;
+    private final RecipeProjection<RecipeDto> fullProjection;
+
+    @Value("${app.pagination.default-size:20}")
+    private int defaultPageSize;
+
+    @Value("${app.pagination.max-size:100}")
+    private int maxPageSize;
+
+    @Value("${app.text-index.max-bound-ids:1000}")
+    private int maxBoundTextMatches;
+
+    @Value("${app.export.fetch-size:500}")
+    private int exportFetchSize;
+
+    @Value("${app.catalog-stats.top-owners:10}")
+    private int statsTopOwners;
 
     public RecipeService(
             RecipeRepository recipeRepository, 
@@ -37,7 +89,17 @@ public class RecipeService {
             Counter recipeUpdatedCounter,
             Counter recipeDeletedCounter,
             Timer recipeFilterTimer,
-            MeterRegistry meterRegistry) {
+            MeterRegistry meterRegistry,
+            ApplicationEventPublisher eventPublisher,
+            RecipeCatalogIndex recipeCatalogIndex,
+            RecipeTextIndex recipeTextIndex,
+            RecipeDetailCache recipeDetailCache,
+            RecipeFilterCache recipeFilterCache,
+            RecipeStatistics recipeStatistics,
+            RecipeFacets recipeFacets,
+            RecipeMergePatcher recipeMergePatcher,
+            IngredientDictionary ingredientDictionary,
+            IngredientBackfill ingredientBackfill) {
         this.recipeRepository = recipeRepository;
         this.recipeMapper = recipeMapper;
         this.recipeCreatedCounter = recipeCreatedCounter;
@@ -45,20 +107,48 @@ public class RecipeService {
         this.recipeDeletedCounter = recipeDeletedCounter;
         this.recipeFilterTimer = recipeFilterTimer;
         this.meterRegistry = meterRegistry;
+        this.eventPublisher = eventPublisher;
+        this.recipeCatalogIndex = recipeCatalogIndex;
+        this.recipeTextIndex = recipeTextIndex;
+        this.recipeDetailCache = recipeDetailCache;
+        this.recipeFilterCache = recipeFilterCache;
+        this.recipeStatistics = recipeStatistics;
+        this.recipeFacets = recipeFacets;
+        this.recipeMergePatcher = recipeMergePatcher;
+        this.ingredientDictionary = ingredientDictionary;
+        this.ingredientBackfill = ingredientBackfill;
+        this.fullProjection = RecipeProjection.full(recipeMapper);
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPageDto<RecipeDto> getAllRecipes(PageRequestDto pageRequest) {
+        return getAllRecipes(pageRequest, fullProjection);
     }
 
-    public List<RecipeDto> getAllRecipes() {
+    @Transactional(readOnly = true)
+    public <T> CursorPageDto<T> getAllRecipes(PageRequestDto pageRequest, RecipeProjection<T> projection) {
         meterRegistry.counter("recipe.queries", "type", "all").increment();
-        return recipeRepository.findAll().stream()
-                .map(recipeMapper::toDto)
-                .collect(Collectors.toList());
+        return findPage(null, pageRequest, projection);
     }
 
+    // Not transactional: cache hits must not borrow a connection, and findById fetches ingredients eagerly
     public RecipeDto getRecipeById(Long id) {
         meterRegistry.counter("recipe.queries", "type", "byId").increment();
-        Recipe recipe = recipeRepository.findById(id)
+        return recipeDetailCache.get(id, () -> recipeRepository.findById(id)
+                .map(recipeMapper::toDto)
+                .orElseThrow(() -> new RecipeNotFoundException("Recipe not found with id: " + id)));
+    }
+
+    /**
+     * Current version of a recipe, for answering conditional requests without loading the recipe.
+     */
+    public long getRecipeVersion(Long id) {
+        RecipeDto cached = recipeDetailCache.getIfPresent(id);
+        if (cached != null) {
+            return cached.getVersion();
+        }
+        return recipeRepository.findVersionById(id)
                 .orElseThrow(() -> new RecipeNotFoundException("Recipe not found with id: " + id));
-        return recipeMapper.toDto(recipe);
     }
 
     @Transactional
@@ -66,17 +156,43 @@ public class RecipeService {
         String username = SecurityContextHolder.getContext().getAuthentication().getName();
         recipeDto.setCreatedBy(username);
         Recipe recipe = recipeMapper.toEntity(recipeDto);
+        ingredientDictionary.assign(recipe.getIngredients());
         Recipe savedRecipe = recipeRepository.save(recipe);
         
         // Increment counter
         recipeCreatedCounter.increment();
-        meterRegistry.gauge("recipe.count", recipeRepository.count());
-        
-        return recipeMapper.toDto(savedRecipe);
+
+        RecipeDto createdRecipe = recipeMapper.toDto(savedRecipe);
+        eventPublisher.publishEvent(RecipeChangedEvent.created(createdRecipe));
+        return createdRecipe;
     }
 
     @Transactional
     public RecipeDto updateRecipe(Long id, RecipeDto recipeDto) {
+        return updateRecipe(id, recipeDto, null);
+    }
+
+    /**
+     * Updates the recipe if it is still at {@code expectedVersion}; a null version skips the check.
+     */
+    @Transactional
+    public RecipeDto updateRecipe(Long id, RecipeDto recipeDto, Long expectedVersion) {
+        Recipe existingRecipe = findRecipeForUpdate(id, expectedVersion);
+        return applyUpdate(existingRecipe, recipeDto);
+    }
+
+    /**
+     * Applies a JSON Merge Patch to the recipe if it is still at {@code expectedVersion}; a null version skips the check.
+     */
+    @Transactional
+    public RecipeDto patchRecipe(Long id, JsonNode mergePatch, Long expectedVersion) {
+        Recipe existingRecipe = findRecipeForUpdate(id, expectedVersion);
+        // Patch a DTO mapped from the managed entity, never one shared through the detail cache
+        RecipeDto patchedRecipe = recipeMergePatcher.apply(recipeMapper.toDto(existingRecipe), mergePatch);
+        return applyUpdate(existingRecipe, patchedRecipe);
+    }
+
+    private Recipe findRecipeForUpdate(Long id, Long expectedVersion) {
         String username = SecurityContextHolder.getContext().getAuthentication().getName();
 
         Recipe existingRecipe = recipeRepository.findById(id)
@@ -87,22 +203,29 @@ public class RecipeService {
                 !hasAdminRole()) {
             throw new AccessDeniedException("You are not authorized to update this recipe");
         }
+        if (expectedVersion != null && expectedVersion != existingRecipe.getVersion()) {
+            throw new PreconditionFailedException("Recipe " + id + " has changed since version " + expectedVersion);
+        }
+        return existingRecipe;
+    }
 
+    private RecipeDto applyUpdate(Recipe existingRecipe, RecipeDto recipeDto) {
         // Keep the original creator
         recipeDto.setCreatedBy(existingRecipe.getCreatedBy());
-        recipeDto.setId(id);
-
-        // Clear existing ingredients
-        existingRecipe.getIngredients().clear();
+        recipeDto.setId(existingRecipe.getId());
+        RecipeDto previousRecipe = recipeMapper.toDto(existingRecipe);
 
-        // Map the DTO to entity and save
-        Recipe updatedRecipe = recipeMapper.toEntity(recipeDto);
-        Recipe savedRecipe = recipeRepository.save(updatedRecipe);
+        // Change the managed recipe in place so only modified columns and ingredient rows are written;
+        // flushing assigns the new version before it is returned
+        ingredientDictionary.assign(recipeMapper.updateEntity(existingRecipe, recipeDto));
+        recipeRepository.flush();
         
         // Increment counter
         recipeUpdatedCounter.increment();
-        
-        return recipeMapper.toDto(savedRecipe);
+
+        RecipeDto updated = recipeMapper.toDto(existingRecipe);
+        eventPublisher.publishEvent(RecipeChangedEvent.updated(previousRecipe, updated));
+        return updated;
     }
 
     @Transactional
@@ -118,24 +241,30 @@ public class RecipeService {
             throw new AccessDeniedException("You are not authorized to delete this recipe");
         }
 
+        RecipeDto deletedRecipe = recipeMapper.toDto(recipe);
         recipeRepository.delete(recipe);
         
         // Increment counter
         recipeDeletedCounter.increment();
-        meterRegistry.gauge("recipe.count", recipeRepository.count());
+
+        eventPublisher.publishEvent(RecipeChangedEvent.deleted(deletedRecipe));
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPageDto<RecipeDto> filterRecipes(RecipeFilterDto filterDto, PageRequestDto pageRequest) {
+        return filterRecipes(filterDto, pageRequest, fullProjection);
     }
 
-    public List<RecipeDto> filterRecipes(RecipeFilterDto filterDto) {
+    @Transactional(readOnly = true)
+    public <T> CursorPageDto<T> filterRecipes(RecipeFilterDto filterDto, PageRequestDto pageRequest,
+                                              RecipeProjection<T> projection) {
         // Use timer to measure filter operation duration
         return recipeFilterTimer.record(() -> {
             // Check if no filter criteria are provided
             if (isEmptyFilter(filterDto)) {
-                return getAllRecipes();
+                return getAllRecipes(pageRequest, projection);
             }
 
-            Set<Recipe> filteredRecipes = new HashSet<>();
-            boolean isFirstFilter = true;
-
             // Track filter usage
             if (filterDto.getVegetarian() != null) {
                 meterRegistry.counter("recipe.filter", "type", "vegetarian").increment();
@@ -153,55 +282,77 @@ public class RecipeService {
                 meterRegistry.counter("recipe.filter", "type", "instructionText").increment();
             }
 
-            // Filter by vegetarian
-            if (filterDto.getVegetarian() != null) {
-                filteredRecipes.addAll(recipeRepository.findByVegetarian(filterDto.getVegetarian()));
-                isFirstFilter = false;
-            }
-
-            // Filter by servings
-            if (filterDto.getServings() != null) {
-                if (isFirstFilter) {
-                    filteredRecipes.addAll(recipeRepository.findByServings(filterDto.getServings()));
-                    isFirstFilter = false;
-                } else {
-                    filteredRecipes.retainAll(recipeRepository.findByServings(filterDto.getServings()));
+            RecipeCursor cursor = resolveCursor(pageRequest);
+            int size = resolvePageSize(pageRequest);
+            if (recipeFilterCache.isEnabled()) {
+                CursorPageDto<T> cachedPage = findCachedPage(filterDto, cursor, size, projection);
+                if (cachedPage != null) {
+                    return cachedPage;
                 }
             }
-
-            // Filter by included ingredient
-            if (filterDto.getIncludeIngredient() != null && !filterDto.getIncludeIngredient().trim().isEmpty()) {
-                if (isFirstFilter) {
-                    filteredRecipes.addAll(recipeRepository.findByIngredientNameContaining(filterDto.getIncludeIngredient().trim()));
-                    isFirstFilter = false;
-                } else {
-                    filteredRecipes.retainAll(recipeRepository.findByIngredientNameContaining(filterDto.getIncludeIngredient().trim()));
-                }
+            if (recipeCatalogIndex.canServe(filterDto, cursor)) {
+                return findIndexedPage(filterDto, cursor, size, projection);
             }
+            return findPage(filterSpecification(filterDto), pageRequest, projection);
+        });
+    }
 
-            // Filter by excluded ingredient
-            if (filterDto.getExcludeIngredient() != null && !filterDto.getExcludeIngredient().trim().isEmpty()) {
-                if (isFirstFilter) {
-                    filteredRecipes.addAll(recipeRepository.findByIngredientNameNotContaining(filterDto.getExcludeIngredient().trim()));
-                    isFirstFilter = false;
-                } else {
-                    filteredRecipes.retainAll(recipeRepository.findByIngredientNameNotContaining(filterDto.getExcludeIngredient().trim()));
-                }
-            }
+    @Transactional(readOnly = true)
+    public CursorPageDto<RecipeSearchHitDto> searchRecipes(String query, PageRequestDto pageRequest) {
+        if (!StringUtils.hasText(query)) {
+            throw new InvalidPageRequestException("Search query must not be blank");
+        }
+        if (!recipeTextIndex.isReady()) {
+            throw new SearchUnavailableException("Recipe search index is not available");
+        }
+        meterRegistry.counter("recipe.queries", "type", "search").increment();
 
-            // Filter by instruction text
-            if (filterDto.getInstructionText() != null && !filterDto.getInstructionText().trim().isEmpty()) {
-                if (isFirstFilter) {
-                    filteredRecipes.addAll(recipeRepository.findByInstructionsContaining(filterDto.getInstructionText().trim()));
-                } else {
-                    filteredRecipes.retainAll(recipeRepository.findByInstructionsContaining(filterDto.getInstructionText().trim()));
-                }
-            }
+        int size = resolvePageSize(pageRequest);
+        int offset = decodeOffset(pageRequest.getCursor());
+        RecipeTextIndex.Hits hits = recipeTextIndex.search(query, offset, size);
 
-            return filteredRecipes.stream()
-                    .map(recipeMapper::toDto)
-                    .collect(Collectors.toList());
-        });
+        List<Long> ids = hits.hits().stream()
+                .map(RecipeTextIndex.Hit::recipeId)
+                .toList();
+        Map<Long, Recipe> recipes = ids.isEmpty() ? Map.of() : recipeRepository
+                .findPage(RecipeSpecifications.idIn(ids), RecipeCursor.start(RecipeSort.ID, false), ids.size())
+                .stream()
+                .collect(Collectors.toMap(Recipe::getId, Function.identity()));
+
+        // Keep the relevance order of the index; hits deleted since indexing are skipped
+        List<RecipeSearchHitDto> content = hits.hits().stream()
+                .filter(hit -> recipes.containsKey(hit.recipeId()))
+                .map(hit -> RecipeSearchHitDto.builder()
+                        .recipe(recipeMapper.toDto(recipes.get(hit.recipeId())))
+                        .score(hit.score())
+                        .build())
+                .collect(Collectors.toList());
+
+        int nextOffset = offset + hits.hits().size();
+        return CursorPageDto.<RecipeSearchHitDto>builder()
+                .content(content)
+                .size(content.size())
+                .nextCursor(nextOffset < hits.totalHits() ? encodeOffset(nextOffset) : null)
+                .build();
+    }
+
+    private Specification<Recipe> filterSpecification(RecipeFilterDto filterDto) {
+        boolean matchUnlinkedNames = !ingredientBackfill.isComplete();
+        if (!StringUtils.hasText(filterDto.getInstructionText()) || !recipeTextIndex.isEnabled()) {
+            return RecipeSpecifications.matching(filterDto, matchUnlinkedNames);
+        }
+        if (!recipeTextIndex.isReady()) {
+            throw new SearchUnavailableException("Recipe search index is not available");
+        }
+
+        // Instruction text always has the index's semantics (stemming, -terms, phrases), resolved to every
+        // matching id. Large id sets are written into the SQL, as drivers cap the number of bound parameters
+        List<Long> ids = recipeTextIndex.findInstructionMatches(filterDto.getInstructionText().trim());
+        RecipeFilterDto structuredFilter = filterDto.toBuilder().instructionText(null).build();
+        return RecipeSpecifications.matching(structuredFilter, matchUnlinkedNames)
+                .and(ids.size() <= maxBoundTextMatches
+                        ? RecipeSpecifications.idIn(ids)
+                        : RecipeSpecifications.idInLiterals(ids));
     }
 
     private boolean isEmptyFilter(RecipeFilterDto filterDto) {
@@ -217,11 +368,187 @@ public class RecipeService {
                 .anyMatch(a -> a.getAuthority().equals("ROLE_ADMIN"));
     }
 
-    public List<RecipeDto> getMyRecipes() {
+    @Transactional(readOnly = true)
+    public CursorPageDto<RecipeDto> getMyRecipes(PageRequestDto pageRequest) {
+        return getMyRecipes(pageRequest, fullProjection);
+    }
+
+    @Transactional(readOnly = true)
+    public <T> CursorPageDto<T> getMyRecipes(PageRequestDto pageRequest, RecipeProjection<T> projection) {
         String username = SecurityContextHolder.getContext().getAuthentication().getName();
         meterRegistry.counter("recipe.queries", "type", "myRecipes").increment();
-        return recipeRepository.findByCreatedBy(username).stream()
+        return findPage(RecipeSpecifications.createdBy(username), pageRequest, projection);
+    }
+
+    public RecipeStatsDto getStatistics() {
+        return recipeStatistics.snapshot(statsTopOwners);
+    }
+
+    /**
+     * Facet counts for the recipes matching the filter. Without criteria they are served from the
+     * incrementally maintained aggregates; otherwise from grouped queries over the filtered recipes.
+     */
+    @Transactional(readOnly = true)
+    public RecipeFacetsDto getFacets(RecipeFilterDto filterDto) {
+        if (isEmptyFilter(filterDto)) {
+            return recipeFacets.snapshot();
+        }
+        meterRegistry.counter("recipe.queries", "type", "facets").increment();
+        return recipeFacets.count(filterSpecification(filterDto));
+    }
+
+    /**
+     * Hands every recipe to the consumer in id order and returns how many were exported. Rows are read
+     * from a database cursor and detached once mapped, so memory use does not grow with the catalog.
+     */
+    @Transactional(readOnly = true)
+    public long exportRecipes(Consumer<RecipeDto> consumer) {
+        meterRegistry.counter("recipe.queries", "type", "export").increment();
+        long exported = 0;
+        try (Stream<Recipe> recipes = recipeRepository.streamAll(exportFetchSize)) {
+            for (Recipe recipe : (Iterable<Recipe>) recipes::iterator) {
+                RecipeDto recipeDto = recipeMapper.toDto(recipe);
+                recipeRepository.detach(recipe);
+                consumer.accept(recipeDto);
+                exported++;
+            }
+        }
+        return exported;
+    }
+
+    private <T> CursorPageDto<T> findPage(Specification<Recipe> specification, PageRequestDto pageRequest,
+                                          RecipeProjection<T> projection) {
+        RecipeCursor cursor = resolveCursor(pageRequest);
+        int size = resolvePageSize(pageRequest);
+
+        // Fetch one extra row to find out whether another page follows
+        return toPage(projection.find(recipeRepository, specification, cursor, size + 1), cursor, size, projection);
+    }
+
+    private <T> CursorPageDto<T> findIndexedPage(RecipeFilterDto filterDto, RecipeCursor cursor, int size,
+                                                 RecipeProjection<T> projection) {
+        // The index resolves the ids of the page; the database only loads those rows by primary key
+        List<Long> ids = recipeCatalogIndex.findPage(filterDto, cursor, size + 1);
+        if (ids.isEmpty()) {
+            return toPage(List.of(), cursor, size, projection);
+        }
+        return toPage(projection.find(recipeRepository, RecipeSpecifications.idIn(ids), cursor, ids.size()),
+                cursor, size, projection);
+    }
+
+    /**
+     * Serves a filter page from the cached result ids and recipe details. Returns null when the
+     * result is too large to cache or the cursor row is no longer part of the current result.
+     */
+    private <T> CursorPageDto<T> findCachedPage(RecipeFilterDto filterDto, RecipeCursor cursor, int size,
+                                                RecipeProjection<T> projection) {
+        RecipeCursor start = RecipeCursor.start(cursor.getSort(), cursor.isDescending());
+        List<Long> ids = recipeFilterCache.get(filterDto, cursor.getSort(), cursor.isDescending(),
+                        limit -> findResultIds(filterDto, start, limit))
+                .orElse(null);
+        if (ids == null) {
+            return null;
+        }
+
+        int from = cursor.hasPosition() ? ids.indexOf(cursor.getLastId()) + 1 : 0;
+        if (cursor.hasPosition() && from == 0) {
+            return null;
+        }
+        int to = Math.min(ids.size(), from + size);
+        List<Long> pageIds = ids.subList(from, to);
+
+        List<T> content;
+        if (projection == fullProjection) {
+            Map<Long, RecipeDto> recipes = recipeDetailCache.getAll(pageIds, this::loadRecipes);
+            content = pageIds.stream()
+                    .filter(recipes::containsKey)
+                    .map(id -> projection.fromDto(recipes.get(id), cursor))
+                    .toList();
+        } else {
+            // Narrower projections never load full recipes: they use cached details or run their own query
+            List<RecipeDto> cached = pageIds.stream()
+                    .map(recipeDetailCache::getIfPresent)
+                    .toList();
+            content = cached.contains(null)
+                    ? projection.find(recipeRepository, RecipeSpecifications.idIn(pageIds), cursor, pageIds.size())
+                    : cached.stream().map(recipe -> projection.fromDto(recipe, cursor)).toList();
+        }
+        if (content.size() < pageIds.size()) {
+            return null;
+        }
+        String nextCursor = to < ids.size() ? projection.after(cursor, content.get(content.size() - 1)).encode() : null;
+
+        return CursorPageDto.<T>builder()
+                .content(content)
+                .size(content.size())
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    private List<Long> findResultIds(RecipeFilterDto filterDto, RecipeCursor start, int limit) {
+        if (recipeCatalogIndex.canServe(filterDto, start)) {
+            return recipeCatalogIndex.findPage(filterDto, start, limit);
+        }
+        return recipeRepository.findIds(filterSpecification(filterDto), start, limit);
+    }
+
+    private List<RecipeDto> loadRecipes(List<Long> ids) {
+        return recipeRepository.findByIdIn(ids).stream()
                 .map(recipeMapper::toDto)
-                .collect(Collectors.toList());
+                .toList();
+    }
+
+    private <T> CursorPageDto<T> toPage(List<T> recipes, RecipeCursor cursor, int size, RecipeProjection<T> projection) {
+        boolean hasNext = recipes.size() > size;
+        List<T> page = hasNext ? recipes.subList(0, size) : recipes;
+        String nextCursor = hasNext ? projection.after(cursor, page.get(page.size() - 1)).encode() : null;
+
+        return CursorPageDto.<T>builder()
+                .content(page)
+                .size(page.size())
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    private RecipeCursor resolveCursor(PageRequestDto pageRequest) {
+        try {
+            return RecipeCursor.resolve(pageRequest.getCursor(), pageRequest.getSort(), pageRequest.getDirection());
+        } catch (IllegalArgumentException e) {
+            throw new InvalidPageRequestException(e.getMessage());
+        }
+    }
+
+    private int decodeOffset(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return 0;
+        }
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            if (!decoded.startsWith("offset:")) {
+                throw new IllegalArgumentException("Not a search cursor");
+            }
+            int offset = Integer.parseInt(decoded.substring("offset:".length()));
+            if (offset < 0) {
+                throw new IllegalArgumentException("Negative offset");
+            }
+            return offset;
+        } catch (IllegalArgumentException e) {
+            throw new InvalidPageRequestException("Invalid cursor: " + cursor);
+        }
+    }
+
+    private String encodeOffset(int offset) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(("offset:" + offset).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private int resolvePageSize(PageRequestDto pageRequest) {
+        if (pageRequest.getSize() == null) {
+            return defaultPageSize;
+        }
+        if (pageRequest.getSize() < 1 || pageRequest.getSize() > maxPageSize) {
+            throw new InvalidPageRequestException("Page size must be between 1 and " + maxPageSize);
+        }
+        return pageRequest.getSize();
     }
 }
\ No newline at end of file
@@ -0,0 +1,165 @@
+package com.recipe.recipeservice.aspect;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.prometheus.PrometheusConfig;
+import io.micrometer.prometheus.PrometheusMeterRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.MapConfigurationPropertySource;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class MetricsAspectTest {
+
+    @Mock
+    private ProceedingJoinPoint pjp;
+
+    @Mock
+    private MethodSignature signature;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() throws Throwable {
+        meterRegistry = new SimpleMeterRegistry();
+        when(pjp.getTarget()).thenReturn(new SampleService());
+        when(pjp.getSignature()).thenReturn(signature);
+        when(pjp.proceed()).thenReturn("done");
+    }
+
+    @Test
+    void measure_ShouldRegisterOneTimerPerMethodAndReuseIt() throws Throwable {
+        MetricsAspect aspect = aspect(1.0, "");
+        when(signature.getMethod()).thenReturn(SampleService.class.getMethod("work"));
+
+        assertEquals("done", aspect.measureServiceMethodExecutionTime(pjp));
+        aspect.measureServiceMethodExecutionTime(pjp);
+        aspect.measureServiceMethodExecutionTime(pjp);
+
+        Timer timer = meterRegistry.get("method.execution.time")
+                .tag("type", "service")
+                .tag("class", "SampleService")
+                .tag("method", "work")
+                .timer();
+        assertEquals(3, timer.count());
+        assertEquals(1, meterRegistry.getMeters().size());
+    }
+
+    @Test
+    void measure_WithExcludedMethod_ShouldNotRegisterTimer() throws Throwable {
+        MetricsAspect aspect = aspect(1.0, "execution(* ping(..))");
+        when(signature.getMethod()).thenReturn(SampleService.class.getMethod("ping"));
+
+        assertEquals("done", aspect.measureServiceMethodExecutionTime(pjp));
+
+        assertNull(meterRegistry.find("method.execution.time").timer());
+    }
+
+    @Test
+    void measure_WithZeroSampleRate_ShouldSkipTiming() throws Throwable {
+        MetricsAspect aspect = aspect(0.0, "");
+        when(signature.getMethod()).thenReturn(SampleService.class.getMethod("work"));
+
+        aspect.measureServiceMethodExecutionTime(pjp);
+
+        assertNull(meterRegistry.find("method.execution.time").timer());
+    }
+
+    @Test
+    void measure_WhenMethodThrows_ShouldStillRecordDuration() throws Throwable {
+        MetricsAspect aspect = aspect(1.0, "");
+        when(signature.getMethod()).thenReturn(SampleService.class.getMethod("work"));
+        when(pjp.proceed()).thenThrow(new IllegalStateException("boom"));
+
+        assertThrows(IllegalStateException.class, () -> aspect.measureServiceMethodExecutionTime(pjp));
+
+        assertEquals(1, meterRegistry.get("method.execution.time").timer().count());
+    }
+
+    @Test
+    void measure_WithoutPercentileHistogram_ShouldNotPublishBuckets() throws Throwable {
+        PrometheusMeterRegistry prometheus = new PrometheusMeterRegistry(PrometheusConfig.DEFAULT);
+        MetricsAspect aspect = new MetricsAspect(prometheus, new MethodTimingProperties());
+        when(signature.getMethod()).thenReturn(SampleService.class.getMethod("work"));
+
+        aspect.measureServiceMethodExecutionTime(pjp);
+
+        assertFalse(prometheus.scrape().contains("method_execution_time_seconds_bucket"));
+    }
+
+    @Test
+    void measure_WithPercentileHistogram_ShouldPublishBuckets() throws Throwable {
+        PrometheusMeterRegistry prometheus = new PrometheusMeterRegistry(PrometheusConfig.DEFAULT);
+        MethodTimingProperties properties = new MethodTimingProperties();
+        properties.setPercentileHistogram(true);
+        MetricsAspect aspect = new MetricsAspect(prometheus, properties);
+        when(signature.getMethod()).thenReturn(SampleService.class.getMethod("work"));
+
+        aspect.measureServiceMethodExecutionTime(pjp);
+
+        assertTrue(prometheus.scrape().contains("method_execution_time_seconds_bucket"));
+    }
+
+    @Test
+    void measure_WithMultiArgumentIncludeList_ShouldTimeOnlyMatchingMethods() throws Throwable {
+        // Arrange
+        MethodTimingProperties properties = new Binder(new MapConfigurationPropertySource(Map.of(
+                "app.metrics.method-timing.include[0]", "execution(* *(String, int))",
+                "app.metrics.method-timing.include[1]", "execution(* ping())")))
+                .bind("app.metrics.method-timing", MethodTimingProperties.class)
+                .get();
+        MetricsAspect aspect = new MetricsAspect(meterRegistry, properties);
+
+        // Act
+        when(signature.getMethod()).thenReturn(SampleService.class.getMethod("repeat", String.class, int.class));
+        aspect.measureServiceMethodExecutionTime(pjp);
+        when(signature.getMethod()).thenReturn(SampleService.class.getMethod("work"));
+        aspect.measureServiceMethodExecutionTime(pjp);
+
+        // Assert
+        assertEquals(List.of("execution(* *(String, int))", "execution(* ping())"), properties.getInclude());
+        assertEquals(1, meterRegistry.get("method.execution.time").tag("method", "repeat").timer().count());
+        assertNull(meterRegistry.find("method.execution.time").tag("method", "work").timer());
+    }
+
+    private MetricsAspect aspect(double sampleRate, String exclude) {
+        MethodTimingProperties properties = new MethodTimingProperties();
+        properties.setSampleRate(sampleRate);
+        properties.setExclude(List.of(exclude));
+        return new MetricsAspect(meterRegistry, properties);
+    }
+
+    public static class SampleService {
+
+        public String work() {
+            return "done";
+        }
+
+        public String ping() {
+            return "pong";
+        }
+
+        public String repeat(String text, int times) {
+            return text.repeat(times);
+        }
+    }
+}
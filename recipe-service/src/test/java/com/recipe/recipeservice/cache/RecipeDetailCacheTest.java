@@ -0,0 +1,133 @@
+package com.recipe.recipeservice.cache;
+
+import com.recipe.recipeservice.dto.RecipeDto;
+import com.recipe.recipeservice.event.RecipeChangedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class RecipeDetailCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private RecipeDetailCache cache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new RecipeDetailCache(meterRegistry, true, 100, Duration.ofMinutes(10));
+    }
+
+    @Test
+    void get_ShouldLoadOnceAndServeRepeatedReadsFromCache() {
+        AtomicInteger loads = new AtomicInteger();
+        RecipeDto recipe = RecipeDto.builder().id(1L).name("Soup").build();
+
+        RecipeDto first = cache.get(1L, () -> { loads.incrementAndGet(); return recipe; });
+        RecipeDto second = cache.get(1L, () -> { loads.incrementAndGet(); return recipe; });
+
+        assertSame(first, second);
+        assertEquals(1, loads.get());
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", "recipe.detail").tag("result", "hit")
+                .functionCounter().count());
+    }
+
+    @Test
+    void onRecipeChanged_ShouldEvictCachedRecipe() {
+        AtomicInteger loads = new AtomicInteger();
+        RecipeDto recipe = RecipeDto.builder().id(1L).name("Soup").build();
+        cache.get(1L, () -> { loads.incrementAndGet(); return recipe; });
+
+        cache.onRecipeChanged(RecipeChangedEvent.updated(recipe, recipe));
+        cache.get(1L, () -> { loads.incrementAndGet(); return recipe; });
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void get_WhenWriteRacesWithLoad_ShouldNotCacheLoadedValue() {
+        AtomicInteger loads = new AtomicInteger();
+        RecipeDto stale = RecipeDto.builder().id(1L).name("Old").build();
+
+        cache.get(1L, () -> {
+            loads.incrementAndGet();
+            cache.invalidate(1L);
+            return stale;
+        });
+        cache.get(1L, () -> { loads.incrementAndGet(); return stale; });
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void get_WhenWriteLandsAroundPut_ShouldNeverKeepStaleValue() throws Exception {
+        RecipeDto stale = RecipeDto.builder().id(1L).name("Old").build();
+        RecipeDto fresh = RecipeDto.builder().id(1L).name("New").build();
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            for (int attempt = 0; attempt < 10000; attempt++) {
+                cache.invalidate(1L);
+                AtomicBoolean written = new AtomicBoolean();
+                CyclicBarrier start = new CyclicBarrier(2);
+
+                // The loader sees the old row unless the write committed first, like a database read would
+                Future<?> reader = executor.submit(() -> {
+                    start.await();
+                    return cache.get(1L, () -> written.get() ? fresh : stale);
+                });
+                Future<?> writer = executor.submit(() -> {
+                    start.await();
+                    written.set(true);
+                    cache.invalidate(1L);
+                    return null;
+                });
+                reader.get(10, TimeUnit.SECONDS);
+                writer.get(10, TimeUnit.SECONDS);
+
+                assertNotSame(stale, cache.getIfPresent(1L));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void getAll_WhenWriteRacesWithLoad_ShouldNotCacheLoadedValues() {
+        AtomicInteger loads = new AtomicInteger();
+        RecipeDto stale = RecipeDto.builder().id(1L).name("Old").build();
+
+        cache.getAll(List.of(1L), ids -> {
+            loads.incrementAndGet();
+            cache.invalidate(2L);
+            return List.of(stale);
+        });
+        cache.getAll(List.of(1L), ids -> { loads.incrementAndGet(); return List.of(stale); });
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void get_WhenDisabled_ShouldAlwaysLoad() {
+        RecipeDetailCache disabled = new RecipeDetailCache(meterRegistry, false, 100, Duration.ofMinutes(10));
+        AtomicInteger loads = new AtomicInteger();
+        RecipeDto recipe = RecipeDto.builder().id(1L).build();
+
+        disabled.get(1L, () -> { loads.incrementAndGet(); return recipe; });
+        disabled.get(1L, () -> { loads.incrementAndGet(); return recipe; });
+
+        assertEquals(2, loads.get());
+    }
+}
@@ -0,0 +1,81 @@
+package com.recipe.recipeservice.cache;
+
+import com.recipe.recipeservice.dto.RecipeFilterDto;
+import com.recipe.recipeservice.repository.RecipeSort;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class RecipeFilterCacheTest {
+
+    private CatalogGeneration catalogGeneration;
+    private RecipeFilterCache cache;
+
+    @BeforeEach
+    void setUp() {
+        catalogGeneration = new CatalogGeneration();
+        cache = new RecipeFilterCache(catalogGeneration, new SimpleMeterRegistry(), true, 100, Duration.ofMinutes(5), 3);
+    }
+
+    @Test
+    void get_WithEquivalentFilters_ShouldShareOneEntry() {
+        AtomicInteger loads = new AtomicInteger();
+        RecipeFilterDto first = RecipeFilterDto.builder().vegetarian(true).includeIngredient(" Potato ").excludeIngredient("").build();
+        RecipeFilterDto second = RecipeFilterDto.builder().vegetarian(true).includeIngredient("potato").build();
+
+        cache.get(first, RecipeSort.ID, false, limit -> { loads.incrementAndGet(); return List.of(1L, 2L); });
+        Optional<List<Long>> ids = cache.get(second, RecipeSort.ID, false, limit -> { loads.incrementAndGet(); return List.of(); });
+
+        assertEquals(Optional.of(List.of(1L, 2L)), ids);
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void get_AfterCatalogWrite_ShouldReload() {
+        AtomicInteger loads = new AtomicInteger();
+        RecipeFilterDto filter = RecipeFilterDto.builder().servings(4).build();
+
+        cache.get(filter, RecipeSort.ID, false, limit -> { loads.incrementAndGet(); return List.of(1L); });
+        catalogGeneration.advance();
+        Optional<List<Long>> ids = cache.get(filter, RecipeSort.ID, false, limit -> { loads.incrementAndGet(); return List.of(1L, 5L); });
+
+        assertEquals(Optional.of(List.of(1L, 5L)), ids);
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void get_WithDifferentOrder_ShouldUseSeparateEntries() {
+        RecipeFilterDto filter = RecipeFilterDto.builder().servings(4).build();
+
+        cache.get(filter, RecipeSort.ID, false, limit -> List.of(1L, 2L));
+        Optional<List<Long>> ids = cache.get(filter, RecipeSort.ID, true, limit -> List.of(2L, 1L));
+
+        assertEquals(Optional.of(List.of(2L, 1L)), ids);
+    }
+
+    @Test
+    void get_WhenResultExceedsLimit_ShouldReturnEmptyAndRememberIt() {
+        AtomicInteger requestedLimit = new AtomicInteger();
+        AtomicInteger loads = new AtomicInteger();
+        RecipeFilterDto filter = RecipeFilterDto.builder().vegetarian(false).build();
+
+        Optional<List<Long>> ids = cache.get(filter, RecipeSort.ID, false, limit -> {
+            requestedLimit.set(limit);
+            loads.incrementAndGet();
+            return List.of(1L, 2L, 3L, 4L);
+        });
+        cache.get(filter, RecipeSort.ID, false, limit -> { loads.incrementAndGet(); return List.of(); });
+
+        assertTrue(ids.isEmpty());
+        assertEquals(4, requestedLimit.get());
+        assertEquals(1, loads.get());
+    }
+}
@@ -0,0 +1,74 @@
+package com.recipe.recipeservice.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.web.embedded.tomcat.TomcatWebServer;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.url=jdbc:h2:mem:virtualthreads",
+        "spring.r2dbc.url=r2dbc:h2:mem:///virtualthreads",
+        "app.threads.virtual.enabled=true"
+})
+@ActiveProfiles("test")
+public class VirtualThreadConfigTest {
+
+    @Autowired
+    private ServletWebServerApplicationContext context;
+
+    @Autowired
+    private ThreadProbe threadProbe;
+
+    @Test
+    void tomcatExecutor_ShouldRunRequestsOnVirtualThreads() throws Exception {
+        // Arrange
+        TomcatWebServer webServer = (TomcatWebServer) context.getWebServer();
+        Executor executor = webServer.getTomcat().getConnector().getProtocolHandler().getExecutor();
+
+        // Act
+        boolean virtual = CompletableFuture.supplyAsync(() -> Thread.currentThread().isVirtual(), executor)
+                .get(5, TimeUnit.SECONDS);
+
+        // Assert
+        assertTrue(virtual);
+    }
+
+    @Test
+    void asyncMethod_ShouldRunOnVirtualThread() throws Exception {
+        // Act
+        boolean virtual = threadProbe.isVirtual().get(5, TimeUnit.SECONDS);
+
+        // Assert
+        assertTrue(virtual);
+    }
+
+    @TestConfiguration
+    @EnableAsync
+    static class AsyncConfig {
+
+        @Bean
+        ThreadProbe threadProbe() {
+            return new ThreadProbe();
+        }
+    }
+
+    static class ThreadProbe {
+
+        @Async
+        public CompletableFuture<Boolean> isVirtual() {
+            return CompletableFuture.completedFuture(Thread.currentThread().isVirtual());
+        }
+    }
+}
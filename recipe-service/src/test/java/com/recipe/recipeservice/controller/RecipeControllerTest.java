@@ -1,32 +1,64 @@
 package com.recipe.recipeservice.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.recipe.recipeservice.cache.CatalogGeneration;
+import com.recipe.recipeservice.dto.CursorPageDto;
 import com.recipe.recipeservice.dto.IngredientDto;
+import com.recipe.recipeservice.dto.PageRequestDto;
 import com.recipe.recipeservice.dto.RecipeDto;
 import com.recipe.recipeservice.dto.RecipeFilterDto;
+import com.recipe.recipeservice.dto.RecipeImportResultDto;
+import com.recipe.recipeservice.dto.RecipeSearchHitDto;
+import com.recipe.recipeservice.dto.RecipeFacetsDto;
+import com.recipe.recipeservice.dto.RecipeStatsDto;
+import com.recipe.recipeservice.dto.RecipeSummaryDto;
+import com.recipe.recipeservice.security.JwtTokenVerifier;
+import com.recipe.recipeservice.service.RecipeImportFormat;
+import com.recipe.recipeservice.service.RecipeImportService;
+import com.recipe.recipeservice.service.RecipeProjection;
 import com.recipe.recipeservice.service.RecipeService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
+import java.io.InputStream;
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.Collections;
-import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.hamcrest.Matchers.not;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(RecipeController.class)
+@ActiveProfiles("test")
 @WithMockUser
 public class RecipeControllerTest {
 
@@ -39,8 +71,17 @@ public class RecipeControllerTest {
     @MockBean
     private RecipeService recipeService;
 
+    @MockBean
+    private RecipeImportService recipeImportService;
+
+    @MockBean
+    private JwtTokenVerifier jwtTokenVerifier;
+
+    @MockBean
+    private CatalogGeneration catalogGeneration;
+
     private RecipeDto recipeDto;
-    private List<RecipeDto> recipeDtos;
+    private CursorPageDto<RecipeDto> recipePage;
 
     @BeforeEach
     void setUp() {
@@ -64,19 +105,92 @@ public class RecipeControllerTest {
                 .createdBy("testuser")
                 .build();
 
-        recipeDtos = Collections.singletonList(recipeDto);
+        recipePage = CursorPageDto.<RecipeDto>builder()
+                .content(Collections.singletonList(recipeDto))
+                .size(1)
+                .nextCursor("next")
+                .build();
     }
 
     @Test
     void getAllRecipes_ShouldReturnAllRecipes() throws Exception {
         // Arrange
-        when(recipeService.getAllRecipes()).thenReturn(recipeDtos);
+        when(recipeService.getAllRecipes(any(PageRequestDto.class))).thenReturn(recipePage);
 
         // Act & Assert
         mockMvc.perform(get("/recipes"))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$[0].id").value(1L))
-                .andExpect(jsonPath("$[0].name").value("Test Recipe"));
+                .andExpect(jsonPath("$.content[0].id").value(1L))
+                .andExpect(jsonPath("$.content[0].name").value("Test Recipe"))
+                .andExpect(jsonPath("$.nextCursor").value("next"));
+    }
+
+    @Test
+    void getAllRecipes_ShouldBindPageParameters() throws Exception {
+        // Arrange
+        PageRequestDto expected = PageRequestDto.builder()
+                .cursor("abc")
+                .size(10)
+                .sort("name")
+                .direction("desc")
+                .build();
+        when(recipeService.getAllRecipes(eq(expected))).thenReturn(recipePage);
+
+        // Act & Assert
+        mockMvc.perform(get("/recipes")
+                        .param("cursor", "abc")
+                        .param("size", "10")
+                        .param("sort", "name")
+                        .param("direction", "desc"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].id").value(1L));
+    }
+
+    @Test
+    void getRecipeById_WithCborAccept_ShouldReturnCbor() throws Exception {
+        // Arrange
+        when(recipeService.getRecipeById(1L)).thenReturn(recipeDto);
+
+        // Act
+        MvcResult result = mockMvc.perform(get("/recipes/1").accept("application/cbor"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/cbor"))
+                .andReturn();
+
+        // Assert
+        RecipeDto decoded = new ObjectMapper(new CBORFactory())
+                .readValue(result.getResponse().getContentAsByteArray(), RecipeDto.class);
+        assertEquals(recipeDto, decoded);
+    }
+
+    @Test
+    void getAllRecipes_WithSummaryView_ShouldReturnSummaries() throws Exception {
+        // Arrange
+        RecipeSummaryDto summary = RecipeSummaryDto.builder()
+                .id(1L)
+                .name("Test Recipe")
+                .vegetarian(true)
+                .servings(4)
+                .build();
+        CursorPageDto<RecipeSummaryDto> summaryPage = CursorPageDto.<RecipeSummaryDto>builder()
+                .content(Collections.singletonList(summary))
+                .size(1)
+                .build();
+        when(recipeService.getAllRecipes(any(PageRequestDto.class), eq(RecipeProjection.SUMMARY))).thenReturn(summaryPage);
+
+        // Act & Assert
+        mockMvc.perform(get("/recipes").param("view", "summary"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].name").value("Test Recipe"))
+                .andExpect(jsonPath("$.content[0].instructions").doesNotExist());
+    }
+
+    @Test
+    void getAllRecipes_WithUnknownField_ShouldReturnBadRequest() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/recipes").param("fields", "name,calories"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Unsupported field: calories"));
     }
 
     @Test
@@ -109,7 +223,7 @@ public class RecipeControllerTest {
     @Test
     void updateRecipe_ShouldReturnUpdatedRecipe() throws Exception {
         // Arrange
-        when(recipeService.updateRecipe(eq(1L), any(RecipeDto.class))).thenReturn(recipeDto);
+        when(recipeService.updateRecipe(eq(1L), any(RecipeDto.class), isNull())).thenReturn(recipeDto);
 
         // Act & Assert
         mockMvc.perform(put("/recipes/1")
@@ -121,6 +235,168 @@ public class RecipeControllerTest {
                 .andExpect(jsonPath("$.name").value("Test Recipe"));
     }
 
+    @Test
+    void getRecipeById_WhenETagMatches_ShouldReturnNotModifiedWithoutLoading() throws Exception {
+        // Arrange
+        when(recipeService.getRecipeVersion(1L)).thenReturn(3L);
+
+        // Act & Assert
+        mockMvc.perform(get("/recipes/1")
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"3\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"3\""));
+        verify(recipeService, never()).getRecipeById(1L);
+    }
+
+    @Test
+    void getRecipeById_WhenETagIsStale_ShouldReturnRecipeWithCurrentETag() throws Exception {
+        // Arrange
+        recipeDto.setVersion(4L);
+        when(recipeService.getRecipeVersion(1L)).thenReturn(4L);
+        when(recipeService.getRecipeById(1L)).thenReturn(recipeDto);
+
+        // Act & Assert
+        mockMvc.perform(get("/recipes/1")
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"3\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"4\""))
+                .andExpect(jsonPath("$.version").value(4L));
+    }
+
+    @Test
+    void getRecipeById_WithCborAccept_ShouldTagTheEncodingAndVaryByIt() throws Exception {
+        // Arrange
+        recipeDto.setVersion(3L);
+        when(recipeService.getRecipeVersion(1L)).thenReturn(3L);
+        when(recipeService.getRecipeById(1L)).thenReturn(recipeDto);
+
+        // Act & Assert
+        mockMvc.perform(get("/recipes/1")
+                        .accept("application/cbor")
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"3\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"3+cbor\""))
+                .andExpect(header().string(HttpHeaders.VARY, "Accept, Accept-Encoding"));
+    }
+
+    @Test
+    void getMyRecipes_ShouldTagPerPrincipal() throws Exception {
+        // Arrange
+        when(catalogGeneration.epoch()).thenReturn(36L);
+        when(catalogGeneration.current()).thenReturn(7L);
+        when(recipeService.getMyRecipes(any(PageRequestDto.class))).thenReturn(recipePage);
+
+        // Act
+        String aliceTag = mockMvc.perform(get("/recipes/my-recipes").with(user("alice")))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        mockMvc.perform(get("/recipes/my-recipes")
+                        .with(user("bob"))
+                        .header(HttpHeaders.IF_NONE_MATCH, aliceTag))
+
+                // Assert
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, not(aliceTag)));
+    }
+
+    @Test
+    void getAllRecipes_WhenCatalogUnchanged_ShouldReturnNotModifiedWithoutQuerying() throws Exception {
+        // Arrange
+        when(catalogGeneration.epoch()).thenReturn(36L);
+        when(catalogGeneration.current()).thenReturn(7L);
+
+        // Act & Assert
+        mockMvc.perform(get("/recipes")
+                        .header(HttpHeaders.IF_NONE_MATCH, "W/\"10-7\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, "W/\"10-7\""));
+        verify(recipeService, never()).getAllRecipes(any(PageRequestDto.class));
+    }
+
+    @Test
+    void filterRecipesByQuery_ShouldBindFilterAndTagResponse() throws Exception {
+        // Arrange
+        RecipeFilterDto expected = RecipeFilterDto.builder()
+                .vegetarian(true)
+                .includeIngredient("tomato")
+                .build();
+        when(catalogGeneration.epoch()).thenReturn(36L);
+        when(catalogGeneration.current()).thenReturn(8L);
+        when(recipeService.filterRecipes(eq(expected), any(PageRequestDto.class))).thenReturn(recipePage);
+
+        // Act & Assert
+        mockMvc.perform(get("/recipes/filter")
+                        .param("vegetarian", "true")
+                        .param("includeIngredient", "tomato")
+                        .header(HttpHeaders.IF_NONE_MATCH, "W/\"10-7\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "W/\"10-8\""))
+                .andExpect(jsonPath("$.content[0].id").value(1L));
+    }
+
+    @Test
+    void updateRecipe_WithIfMatch_ShouldPassExpectedVersion() throws Exception {
+        // Arrange
+        recipeDto.setVersion(6L);
+        when(recipeService.updateRecipe(eq(1L), any(RecipeDto.class), eq(5L))).thenReturn(recipeDto);
+
+        // Act & Assert
+        mockMvc.perform(put("/recipes/1")
+                        .with(csrf())
+                        .header(HttpHeaders.IF_MATCH, "\"5\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(recipeDto)))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"6\""));
+    }
+
+    @Test
+    void updateRecipe_WithCborIfMatch_ShouldPassExpectedVersion() throws Exception {
+        // Arrange
+        recipeDto.setVersion(6L);
+        when(recipeService.updateRecipe(eq(1L), any(RecipeDto.class), eq(5L))).thenReturn(recipeDto);
+
+        // Act & Assert
+        mockMvc.perform(put("/recipes/1")
+                        .with(csrf())
+                        .accept("application/cbor")
+                        .header(HttpHeaders.IF_MATCH, "\"5+cbor\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(recipeDto)))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"6+cbor\""));
+    }
+
+    @Test
+    void updateRecipe_WithWeakIfMatch_ShouldFailPrecondition() throws Exception {
+        // Act & Assert
+        mockMvc.perform(put("/recipes/1")
+                        .with(csrf())
+                        .header(HttpHeaders.IF_MATCH, "W/\"10-7\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(recipeDto)))
+                .andExpect(status().isPreconditionFailed());
+    }
+
+    @Test
+    void patchRecipe_ShouldPassMergePatchAndExpectedVersion() throws Exception {
+        // Arrange
+        recipeDto.setVersion(6L);
+        when(recipeService.patchRecipe(eq(1L), any(), eq(5L))).thenReturn(recipeDto);
+
+        // Act & Assert
+        mockMvc.perform(patch("/recipes/1")
+                        .with(csrf())
+                        .header(HttpHeaders.IF_MATCH, "\"5\"")
+                        .contentType("application/merge-patch+json")
+                        .content("{\"name\": \"Test Recipe\", \"description\": null}"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"6\""))
+                .andExpect(jsonPath("$.name").value("Test Recipe"));
+        verify(recipeService).patchRecipe(eq(1L),
+                eq(objectMapper.readTree("{\"name\": \"Test Recipe\", \"description\": null}")), eq(5L));
+    }
+
     @Test
     void deleteRecipe_ShouldReturnNoContent() throws Exception {
         // Act & Assert
@@ -135,7 +411,7 @@ public class RecipeControllerTest {
         RecipeFilterDto filterDto = new RecipeFilterDto();
         filterDto.setVegetarian(true);
 
-        when(recipeService.filterRecipes(any(RecipeFilterDto.class))).thenReturn(recipeDtos);
+        when(recipeService.filterRecipes(any(RecipeFilterDto.class), any(PageRequestDto.class))).thenReturn(recipePage);
 
         // Act & Assert
         mockMvc.perform(post("/recipes/filter")
@@ -143,7 +419,118 @@ public class RecipeControllerTest {
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(filterDto)))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$[0].id").value(1L))
-                .andExpect(jsonPath("$[0].vegetarian").value(true));
+                .andExpect(jsonPath("$.content[0].id").value(1L))
+                .andExpect(jsonPath("$.content[0].vegetarian").value(true));
+    }
+
+    @Test
+    void searchRecipes_ShouldReturnRankedHits() throws Exception {
+        // Arrange
+        CursorPageDto<RecipeSearchHitDto> hits = CursorPageDto.<RecipeSearchHitDto>builder()
+                .content(Collections.singletonList(RecipeSearchHitDto.builder().recipe(recipeDto).score(2.5f).build()))
+                .size(1)
+                .build();
+        when(recipeService.searchRecipes(eq("baked potato"), any(PageRequestDto.class))).thenReturn(hits);
+
+        // Act & Assert
+        mockMvc.perform(get("/recipes/search").param("q", "baked potato"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].recipe.id").value(1L))
+                .andExpect(jsonPath("$.content[0].score").value(2.5));
+    }
+
+    @Test
+    void exportRecipes_ShouldStreamOneJsonDocumentPerLine() throws Exception {
+        // Arrange
+        RecipeDto otherRecipe = RecipeDto.builder().id(2L).name("Other Recipe").build();
+        // Streams once the request thread is done with the mock response, which is not thread-safe
+        CountDownLatch dispatched = new CountDownLatch(1);
+        when(recipeService.exportRecipes(any())).thenAnswer(invocation -> {
+            dispatched.await(5, TimeUnit.SECONDS);
+            Consumer<RecipeDto> consumer = invocation.getArgument(0);
+            consumer.accept(recipeDto);
+            consumer.accept(otherRecipe);
+            return 2L;
+        });
+
+        // Act
+        MvcResult result = mockMvc.perform(get("/recipes/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        dispatched.countDown();
+
+        // Assert
+        assertEquals(Duration.ofMinutes(30).toMillis(), result.getRequest().getAsyncContext().getTimeout());
+        String body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        String[] lines = body.split("\n");
+        assertEquals(2, lines.length);
+        assertEquals(1L, objectMapper.readValue(lines[0], RecipeDto.class).getId());
+        assertEquals("Other Recipe", objectMapper.readValue(lines[1], RecipeDto.class).getName());
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void importRecipes_ShouldPassCsvBodyToImportService() throws Exception {
+        // Arrange
+        RecipeImportResultDto importResult = RecipeImportResultDto.builder()
+                .imported(1)
+                .batches(1)
+                .errors(Collections.emptyList())
+                .build();
+        when(recipeImportService.importRecipes(any(InputStream.class), eq(RecipeImportFormat.CSV))).thenReturn(importResult);
+
+        // Act & Assert
+        mockMvc.perform(post("/recipes/import")
+                        .with(csrf())
+                        .contentType("text/csv")
+                        .content("name,vegetarian,servings,instructions,ingredients\nSoup,true,2,Simmer,Water|1|l\n"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported").value(1))
+                .andExpect(jsonPath("$.batches").value(1));
+    }
+
+    @Test
+    void getStatistics_ShouldReturnCatalogCounts() throws Exception {
+        // Arrange
+        RecipeStatsDto stats = RecipeStatsDto.builder()
+                .total(3)
+                .vegetarian(2)
+                .nonVegetarian(1)
+                .owners(1)
+                .topOwners(Map.of("testuser", 3L))
+                .build();
+        when(recipeService.getStatistics()).thenReturn(stats);
+
+        // Act & Assert
+        mockMvc.perform(get("/recipes/stats"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(3))
+                .andExpect(jsonPath("$.vegetarian").value(2))
+                .andExpect(jsonPath("$.topOwners.testuser").value(3));
+    }
+
+    @Test
+    void getFacets_ShouldPassFilterAndTagWithCatalogGeneration() throws Exception {
+        // Arrange
+        RecipeFacetsDto facets = RecipeFacetsDto.builder()
+                .total(2)
+                .vegetarian(Map.of("true", 2L, "false", 0L))
+                .topIngredients(Map.of("tomato", 2L))
+                .build();
+        when(catalogGeneration.current()).thenReturn(7L);
+        when(recipeService.getFacets(any(RecipeFilterDto.class))).thenReturn(facets);
+
+        // Act & Assert
+        mockMvc.perform(get("/recipes/facets").param("vegetarian", "true"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andExpect(jsonPath("$.total").value(2))
+                .andExpect(jsonPath("$.topIngredients.tomato").value(2));
+        verify(recipeService).getFacets(argThat(filter -> Boolean.TRUE.equals(filter.getVegetarian())));
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,59 @@
+package com.recipe.recipeservice.datasource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// A second in-memory H2 database stands in for the replica; the lag query is overridden to a constant
+public class ReplicaLagMonitorTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void probe_WhenLagIsWithinLimit_ShouldMarkReplicaAvailable() {
+        ReplicaLagMonitor monitor = monitor("SELECT 1 AS Seconds_Behind_Source");
+
+        monitor.probe();
+
+        assertTrue(monitor.isAvailable("replica-0"));
+        assertEquals(1.0, meterRegistry.get("recipe.datasource.replica.lag").gauge().value());
+    }
+
+    @Test
+    void probe_WhenLagExceedsLimitOrIsUnknown_ShouldMarkReplicaUnavailable() {
+        ReplicaLagMonitor lagging = monitor("SELECT 30 AS Seconds_Behind_Source");
+        lagging.probe();
+        assertFalse(lagging.isAvailable("replica-0"));
+
+        // Seconds_Behind_Source is NULL while replication is stopped
+        ReplicaLagMonitor stopped = monitor("SELECT CAST(NULL AS INT) AS Seconds_Behind_Source");
+        stopped.probe();
+        assertFalse(stopped.isAvailable("replica-0"));
+
+        ReplicaLagMonitor failing = monitor("SHOW REPLICA STATUS");
+        failing.probe();
+        assertFalse(failing.isAvailable("replica-0"));
+    }
+
+    @Test
+    void isAvailable_BeforeFirstProbe_ShouldBeFalse() {
+        assertFalse(monitor("SELECT 0 AS Seconds_Behind_Source").isAvailable("replica-0"));
+    }
+
+    private ReplicaLagMonitor monitor(String lagQuery) {
+        meterRegistry.clear();
+        JdbcDataSource replica = new JdbcDataSource();
+        replica.setURL("jdbc:h2:mem:replica");
+        replica.setUser("sa");
+        return new ReplicaLagMonitor(Map.<String, DataSource>of("replica-0", replica), lagQuery,
+                "Seconds_Behind_Source", Duration.ofSeconds(3), Duration.ofSeconds(2), meterRegistry);
+    }
+}
@@ -0,0 +1,136 @@
+package com.recipe.recipeservice.datasource;
+
+import com.recipe.recipeservice.dto.RecipeDto;
+import com.recipe.recipeservice.event.RecipeChangedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class ReplicaRoutingDataSourceTest {
+
+    @Mock
+    private DataSource primary;
+
+    @Mock
+    private DataSource firstReplica;
+
+    @Mock
+    private DataSource secondReplica;
+
+    @Mock
+    private ReplicaLagMonitor replicaLagMonitor;
+
+    @Mock
+    private Connection primaryConnection;
+
+    @Mock
+    private Connection firstReplicaConnection;
+
+    @Mock
+    private Connection secondReplicaConnection;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ReadYourWritesWindow readYourWritesWindow;
+    private ReplicaRoutingDataSource routingDataSource;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        lenient().when(primary.getConnection()).thenReturn(primaryConnection);
+        lenient().when(firstReplica.getConnection()).thenReturn(firstReplicaConnection);
+        lenient().when(secondReplica.getConnection()).thenReturn(secondReplicaConnection);
+
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        replicas.put("replica-0", firstReplica);
+        replicas.put("replica-1", secondReplica);
+
+        meterRegistry = new SimpleMeterRegistry();
+        readYourWritesWindow = new ReadYourWritesWindow(Duration.ofMinutes(1), 100);
+        routingDataSource = new ReplicaRoutingDataSource(primary, replicas, readYourWritesWindow,
+                replicaLagMonitor, meterRegistry);
+        routingDataSource.afterPropertiesSet();
+
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken("alice", "password", List.of()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void getConnection_ForWrites_ShouldUsePrimary() throws SQLException {
+        assertSame(primary, routedTo());
+        assertEquals(1.0, meterRegistry.get("recipe.datasource.routing").tag("reason", "write").counter().count());
+    }
+
+    @Test
+    void getConnection_ForReadOnlyTransactions_ShouldRotateOverAvailableReplicas() throws SQLException {
+        when(replicaLagMonitor.isAvailable("replica-0")).thenReturn(true);
+        when(replicaLagMonitor.isAvailable("replica-1")).thenReturn(true);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertSame(firstReplica, routedTo());
+        assertSame(secondReplica, routedTo());
+        assertSame(firstReplica, routedTo());
+    }
+
+    @Test
+    void getConnection_WhenReplicasLag_ShouldSkipThemOrFallBackToPrimary() throws SQLException {
+        when(replicaLagMonitor.isAvailable("replica-0")).thenReturn(false);
+        when(replicaLagMonitor.isAvailable("replica-1")).thenReturn(true, false);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertSame(secondReplica, routedTo());
+        assertSame(primary, routedTo());
+        assertEquals(1.0, meterRegistry.get("recipe.datasource.routing")
+                .tag("reason", "replica-unavailable").counter().count());
+    }
+
+    @Test
+    void getConnection_AfterOwnWrite_ShouldReadFromPrimaryUntilWindowPasses() throws SQLException {
+        when(replicaLagMonitor.isAvailable("replica-0")).thenReturn(true);
+        readYourWritesWindow.onRecipeChanged(RecipeChangedEvent.created(RecipeDto.builder().id(1L).build()));
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertSame(primary, routedTo());
+
+        // Another user is not pinned by alice's write
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken("bob", "password", List.of()));
+        assertSame(firstReplica, routedTo());
+        assertEquals(1.0, meterRegistry.get("recipe.datasource.routing")
+                .tag("reason", "read-your-writes").counter().count());
+    }
+
+    // Identifies the data source a new connection came from
+    private DataSource routedTo() throws SQLException {
+        Connection connection = routingDataSource.getConnection();
+        if (connection == firstReplicaConnection) {
+            return firstReplica;
+        }
+        return connection == secondReplicaConnection ? secondReplica : primary;
+    }
+}
@@ -0,0 +1,92 @@
+package com.recipe.recipeservice.datasource;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.EntityTransaction;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.lenient;
+
+@ExtendWith(MockitoExtension.class)
+public class WriteLimitingTransactionManagerTest {
+
+    @Mock
+    private EntityManagerFactory entityManagerFactory;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private EntityTransaction entityTransaction;
+
+    private TransactionTemplate writes;
+    private TransactionTemplate reads;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(entityManagerFactory.createEntityManager()).thenReturn(entityManager);
+        lenient().when(entityManager.getTransaction()).thenReturn(entityTransaction);
+        lenient().when(entityTransaction.isActive()).thenReturn(true);
+
+        WriteLimitingTransactionManager transactionManager = new WriteLimitingTransactionManager(1, Duration.ofMillis(100));
+        transactionManager.setEntityManagerFactory(entityManagerFactory);
+        writes = new TransactionTemplate(transactionManager);
+        reads = new TransactionTemplate(transactionManager);
+        reads.setReadOnly(true);
+    }
+
+    @Test
+    void doBegin_WhenWritersAtLimit_ShouldAdmitReadsAndTimeOutWrites() throws Exception {
+        // Arrange
+        CountDownLatch writing = new CountDownLatch(1);
+        CountDownLatch finish = new CountDownLatch(1);
+        CompletableFuture<Void> writer = CompletableFuture.runAsync(() -> writes.executeWithoutResult(status -> {
+            writing.countDown();
+            await(finish);
+        }));
+        writing.await(5, TimeUnit.SECONDS);
+
+        // Act & Assert
+        assertDoesNotThrow(() -> reads.executeWithoutResult(status -> { }));
+        assertThrows(CannotCreateTransactionException.class, () -> writes.executeWithoutResult(status -> { }));
+
+        finish.countDown();
+        writer.get(5, TimeUnit.SECONDS);
+        assertDoesNotThrow(() -> writes.executeWithoutResult(status -> { }));
+    }
+
+    @Test
+    void doBegin_WhenWriteFails_ShouldReleaseItsSlot() {
+        // Arrange
+        RuntimeException failure = new IllegalStateException("boom");
+
+        // Act
+        assertThrows(IllegalStateException.class, () -> writes.executeWithoutResult(status -> {
+            throw failure;
+        }));
+
+        // Assert
+        assertDoesNotThrow(() -> writes.executeWithoutResult(status -> { }));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package com.recipe.recipeservice.index;
+
+import com.recipe.recipeservice.dto.IngredientDto;
+import com.recipe.recipeservice.dto.RecipeDto;
+import com.recipe.recipeservice.dto.RecipeFilterDto;
+import com.recipe.recipeservice.entity.Ingredient;
+import com.recipe.recipeservice.entity.Recipe;
+import com.recipe.recipeservice.event.RecipeChangedEvent;
+import com.recipe.recipeservice.repository.RecipeCursor;
+import com.recipe.recipeservice.repository.RecipeRepository;
+import com.recipe.recipeservice.repository.RecipeSort;
+import com.recipe.recipeservice.service.RecipeMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doCallRealMethod;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class RecipeCatalogIndexTest {
+
+    @Mock
+    private RecipeRepository recipeRepository;
+
+    private RecipeCatalogIndex index;
+
+    @BeforeEach
+    void setUp() {
+        when(recipeRepository.findPage(isNull(), any(RecipeCursor.class), anyInt())).thenReturn(List.of(
+                recipe(1L, "Potato Gratin", true, 4, 20, 40, "Potato", "Cream"),
+                recipe(2L, "Salmon Bake", false, 4, 10, 20, "Salmon", "Potato"),
+                recipe(3L, "Tomato Soup", true, 2, 10, 15, "Tomatoes", "Basil")));
+        doCallRealMethod().when(recipeRepository).forEachBatch(anyInt(), any());
+
+        index = new RecipeCatalogIndex(recipeRepository, new RecipeMapper(), new SimpleMeterRegistry(), true);
+        index.rebuild();
+    }
+
+    @Test
+    void findPage_ShouldCombineBitmapsAndColumns() {
+        RecipeFilterDto filterDto = RecipeFilterDto.builder()
+                .vegetarian(true)
+                .includeIngredient("potato")
+                .servings(4)
+                .build();
+
+        assertEquals(List.of(1L), index.findPage(filterDto, RecipeCursor.start(RecipeSort.ID, false), 10));
+    }
+
+    @Test
+    void findPage_ShouldExcludeRecipesContainingIngredient() {
+        RecipeFilterDto filterDto = RecipeFilterDto.builder()
+                .excludeIngredient("Potato")
+                .build();
+
+        assertEquals(List.of(3L), index.findPage(filterDto, RecipeCursor.start(RecipeSort.ID, false), 10));
+    }
+
+    @Test
+    void findPage_ShouldPageByTotalTimeAfterCursor() {
+        RecipeFilterDto filterDto = new RecipeFilterDto();
+        RecipeCursor cursor = RecipeCursor.start(RecipeSort.TOTAL_TIME, false);
+
+        List<Long> firstPage = index.findPage(filterDto, cursor, 2);
+        RecipeCursor next = cursor.after(recipe(2L, "Salmon Bake", false, 4, 10, 20, "Salmon", "Potato"));
+
+        assertEquals(List.of(3L, 2L), firstPage);
+        assertEquals(List.of(1L), index.findPage(filterDto, next, 2));
+    }
+
+    @Test
+    void onRecipeChanged_ShouldKeepIndexCurrent() {
+        RecipeFilterDto potatoFilter = RecipeFilterDto.builder().includeIngredient("potato").build();
+        RecipeCursor cursor = RecipeCursor.start(RecipeSort.ID, false);
+
+        index.onRecipeChanged(RecipeChangedEvent.created(dto(4L, true, "Potatoes")));
+        index.onRecipeChanged(RecipeChangedEvent.updated(dto(2L, false, "Salmon"), dto(2L, false, "Salmon", "Dill")));
+        index.onRecipeChanged(RecipeChangedEvent.deleted(dto(1L, true, "Potato")));
+
+        assertEquals(List.of(4L), index.findPage(potatoFilter, cursor, 10));
+        assertEquals(3, index.size());
+    }
+
+    @Test
+    void onRecipeChanged_WithOlderVersion_ShouldKeepNewerState() {
+        RecipeCursor cursor = RecipeCursor.start(RecipeSort.ID, false);
+
+        index.onRecipeChanged(RecipeChangedEvent.updated(dto(2L, false, "Salmon"), versioned(dto(2L, false, "Dill"), 2)));
+        index.onRecipeChanged(RecipeChangedEvent.updated(dto(2L, false, "Salmon"), versioned(dto(2L, false, "Parsley"), 1)));
+
+        assertEquals(List.of(2L), index.findPage(RecipeFilterDto.builder().includeIngredient("dill").build(), cursor, 10));
+        assertEquals(List.of(), index.findPage(RecipeFilterDto.builder().includeIngredient("parsley").build(), cursor, 10));
+    }
+
+    @Test
+    void onRecipeChanged_AfterDelete_ShouldIgnoreLateUpsert() {
+        index.onRecipeChanged(RecipeChangedEvent.deleted(dto(1L, true, "Potato")));
+
+        index.onRecipeChanged(RecipeChangedEvent.updated(dto(1L, true, "Potato"), versioned(dto(1L, true, "Leek"), 3)));
+
+        assertEquals(List.of(3L), index.findPage(RecipeFilterDto.builder().vegetarian(true).build(),
+                RecipeCursor.start(RecipeSort.ID, false), 10));
+        assertEquals(2, index.size());
+    }
+
+    @Test
+    void onRecipeChanged_CreateAfterDelete_ShouldReuseOrdinalWithoutStaleValues() {
+        RecipeCursor cursor = RecipeCursor.start(RecipeSort.ID, false);
+        index.onRecipeChanged(RecipeChangedEvent.deleted(dto(1L, true, "Potato", "Cream")));
+
+        index.onRecipeChanged(RecipeChangedEvent.created(dto(4L, false, "Leek")));
+
+        assertEquals(List.of(3L), index.findPage(RecipeFilterDto.builder().vegetarian(true).build(), cursor, 10));
+        assertEquals(List.of(), index.findPage(RecipeFilterDto.builder().includeIngredient("cream").build(), cursor, 10));
+        assertEquals(List.of(4L), index.findPage(RecipeFilterDto.builder().includeIngredient("leek").build(), cursor, 10));
+        assertEquals(3, index.size());
+    }
+
+    @Test
+    void canServe_ShouldRejectInstructionTextAndNameSort() {
+        RecipeFilterDto textFilter = RecipeFilterDto.builder().instructionText("bake").build();
+        RecipeFilterDto vegetarianFilter = RecipeFilterDto.builder().vegetarian(true).build();
+
+        assertFalse(index.canServe(textFilter, RecipeCursor.start(RecipeSort.ID, false)));
+        assertFalse(index.canServe(vegetarianFilter, RecipeCursor.start(RecipeSort.NAME, false)));
+        assertTrue(index.canServe(vegetarianFilter, RecipeCursor.start(RecipeSort.TOTAL_TIME, true)));
+    }
+
+    private Recipe recipe(Long id, String name, boolean vegetarian, int servings, int preparationTime, int cookingTime,
+                          String... ingredients) {
+        Recipe recipe = Recipe.builder()
+                .id(id)
+                .name(name)
+                .vegetarian(vegetarian)
+                .servings(servings)
+                .instructions("Cook")
+                .preparationTime(preparationTime)
+                .cookingTime(cookingTime)
+                .createdBy("testuser")
+                .build();
+        for (String ingredient : ingredients) {
+            recipe.addIngredient(Ingredient.builder().name(ingredient).build());
+        }
+        return recipe;
+    }
+
+    private RecipeDto dto(Long id, boolean vegetarian, String... ingredients) {
+        return RecipeDto.builder()
+                .id(id)
+                .name("Recipe " + id)
+                .vegetarian(vegetarian)
+                .servings(2)
+                .ingredients(Arrays.stream(ingredients)
+                        .map(name -> IngredientDto.builder().name(name).build())
+                        .toList())
+                .build();
+    }
+
+    private RecipeDto versioned(RecipeDto recipe, long version) {
+        recipe.setVersion(version);
+        return recipe;
+    }
+}
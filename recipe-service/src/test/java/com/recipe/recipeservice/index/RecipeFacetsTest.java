@@ -0,0 +1,147 @@
+package com.recipe.recipeservice.index;
+
+import com.recipe.recipeservice.dto.IngredientDto;
+import com.recipe.recipeservice.dto.RecipeDto;
+import com.recipe.recipeservice.dto.RecipeFacetsDto;
+import com.recipe.recipeservice.entity.Recipe;
+import com.recipe.recipeservice.event.RecipeChangedEvent;
+import com.recipe.recipeservice.repository.IngredientCountRow;
+import com.recipe.recipeservice.repository.RecipeFacetRow;
+import com.recipe.recipeservice.repository.RecipeRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class RecipeFacetsTest {
+
+    @Mock
+    private RecipeRepository recipeRepository;
+
+    private RecipeFacets facets;
+
+    @BeforeEach
+    void setUp() {
+        when(recipeRepository.countFacets(isNull())).thenReturn(List.of(
+                new RecipeFacetRow(true, 2, 10, 3),
+                new RecipeFacetRow(false, 4, 45, 1),
+                new RecipeFacetRow(true, 8, null, 2)));
+        when(recipeRepository.countIngredients(isNull(), eq(Integer.MAX_VALUE))).thenReturn(List.of(
+                new IngredientCountRow("tomato", 4),
+                new IngredientCountRow("basil", 2)));
+
+        facets = new RecipeFacets(recipeRepository, 2, Duration.ZERO);
+        facets.seed();
+    }
+
+    @AfterEach
+    void tearDown() {
+        facets.close();
+    }
+
+    @Test
+    void seed_ShouldBucketGroupedCounts() {
+        RecipeFacetsDto snapshot = facets.snapshot();
+
+        assertEquals(6, snapshot.getTotal());
+        assertEquals(Map.of("true", 5L, "false", 1L), snapshot.getVegetarian());
+        assertEquals(List.of("1-2", "3-4", "5-6", "7+"), List.copyOf(snapshot.getServings().keySet()));
+        assertEquals(List.of(3L, 1L, 0L, 2L), List.copyOf(snapshot.getServings().values()));
+        assertEquals(List.of(3L, 0L, 1L, 0L, 2L), List.copyOf(snapshot.getPreparationTime().values()));
+        assertEquals(Map.of("tomato", 4L, "basil", 2L), snapshot.getTopIngredients());
+    }
+
+    @Test
+    void onRecipeChanged_ShouldApplyDeltasWithoutQuerying() {
+        RecipeDto soup = recipe(true, 2, 10, "Tomato", " tomato ", "Basil");
+
+        facets.onRecipeChanged(RecipeChangedEvent.created(recipe(false, 6, 90, "Beef", "Onion")));
+        facets.onRecipeChanged(RecipeChangedEvent.updated(soup, recipe(true, 4, 20, "Tomato", "Garlic")));
+        facets.onRecipeChanged(RecipeChangedEvent.deleted(recipe(true, 8, null, "Basil")));
+
+        RecipeFacetsDto snapshot = facets.snapshot();
+        assertEquals(6, snapshot.getTotal());
+        assertEquals(Map.of("true", 4L, "false", 2L), snapshot.getVegetarian());
+        assertEquals(List.of(2L, 2L, 1L, 1L), List.copyOf(snapshot.getServings().values()));
+        assertEquals(List.of(2L, 1L, 1L, 1L, 1L), List.copyOf(snapshot.getPreparationTime().values()));
+        // Duplicate names count once per recipe; basil is down to zero
+        assertEquals(Map.of("tomato", 4L, "beef", 1L), snapshot.getTopIngredients());
+        verify(recipeRepository, times(1)).countFacets(isNull());
+    }
+
+    @Test
+    void onRecipeChanged_WhenRemote_ShouldRecountUnlessWrittenBeforeSeed() {
+        RecipeDto seeded = recipe(true, 2, 10, "Tomato");
+        RecipeDto created = recipe(true, 2, 10, "Basil");
+
+        facets.onRecipeChanged(RecipeChangedEvent.remote(RecipeChangedEvent.Type.CREATED, 20L, seeded,
+                Instant.now().minusSeconds(5)));
+        verify(recipeRepository, after(200).times(1)).countFacets(isNull());
+
+        facets.onRecipeChanged(RecipeChangedEvent.remote(RecipeChangedEvent.Type.CREATED, 21L, created,
+                Instant.now()));
+        verify(recipeRepository, timeout(5000).times(2)).countIngredients(isNull(), eq(Integer.MAX_VALUE));
+    }
+
+    @Test
+    void count_ShouldBucketFilteredRowsAndLimitIngredients() {
+        Specification<Recipe> specification = (root, query, cb) -> cb.isTrue(root.get("vegetarian"));
+        when(recipeRepository.countFacets(specification)).thenReturn(List.of(
+                new RecipeFacetRow(true, 3, 20, 2),
+                new RecipeFacetRow(true, 4, 25, 1)));
+        when(recipeRepository.countIngredients(specification, 2)).thenReturn(List.of(
+                new IngredientCountRow("tomato", 3)));
+
+        RecipeFacetsDto counts = facets.count(specification);
+
+        assertEquals(3, counts.getTotal());
+        assertEquals(Map.of("true", 3L, "false", 0L), counts.getVegetarian());
+        assertEquals(3L, counts.getServings().get("3-4"));
+        assertEquals(3L, counts.getPreparationTime().get("16-30"));
+        assertEquals(Map.of("tomato", 3L), counts.getTopIngredients());
+    }
+
+    @Test
+    void count_WhenNothingMatches_ShouldSkipIngredientQuery() {
+        Specification<Recipe> specification = (root, query, cb) -> cb.disjunction();
+        when(recipeRepository.countFacets(specification)).thenReturn(List.of());
+
+        RecipeFacetsDto counts = facets.count(specification);
+
+        assertEquals(0, counts.getTotal());
+        assertEquals(List.of(0L, 0L, 0L, 0L), List.copyOf(counts.getServings().values()));
+        verify(recipeRepository, times(0)).countIngredients(any(), eq(2));
+    }
+
+    private static RecipeDto recipe(boolean vegetarian, int servings, Integer preparationTime, String... ingredients) {
+        return RecipeDto.builder()
+                .vegetarian(vegetarian)
+                .servings(servings)
+                .preparationTime(preparationTime)
+                .createdBy("alice")
+                .ingredients(Arrays.stream(ingredients)
+                        .map(name -> IngredientDto.builder().name(name).amount("1").unit("pc").build())
+                        .toList())
+                .build();
+    }
+}
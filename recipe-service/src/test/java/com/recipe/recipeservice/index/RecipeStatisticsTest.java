@@ -0,0 +1,149 @@
+package com.recipe.recipeservice.index;
+
+import com.recipe.recipeservice.dto.RecipeDto;
+import com.recipe.recipeservice.dto.RecipeStatsDto;
+import com.recipe.recipeservice.event.RecipeChangedEvent;
+import com.recipe.recipeservice.repository.RecipeCountRow;
+import com.recipe.recipeservice.repository.RecipeRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class RecipeStatisticsTest {
+
+    @Mock
+    private RecipeRepository recipeRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private RecipeStatistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        when(recipeRepository.countByOwnerAndVegetarian()).thenReturn(List.of(
+                row("alice", true, 3),
+                row("alice", false, 1),
+                row("bob", true, 2)));
+
+        meterRegistry = new SimpleMeterRegistry();
+        statistics = new RecipeStatistics(recipeRepository, meterRegistry, Duration.ofMillis(100));
+        statistics.seed();
+    }
+
+    @AfterEach
+    void tearDown() {
+        statistics.close();
+    }
+
+    @Test
+    void seed_ShouldCountRecipesWithOneGroupedQuery() {
+        RecipeStatsDto stats = statistics.snapshot(10);
+
+        assertEquals(6, stats.getTotal());
+        assertEquals(5, stats.getVegetarian());
+        assertEquals(1, stats.getNonVegetarian());
+        assertEquals(2, stats.getOwners());
+        assertEquals(Map.of("alice", 4L, "bob", 2L), stats.getTopOwners());
+        assertEquals(6.0, meterRegistry.get("recipe.count").gauge().value());
+        verify(recipeRepository).countByOwnerAndVegetarian();
+    }
+
+    @Test
+    void onRecipeChanged_ShouldKeepGaugesCurrentWithoutQuerying() {
+        RecipeDto created = recipe(10L, "carol", false);
+        RecipeDto bobRecipe = recipe(11L, "bob", true);
+
+        statistics.onRecipeChanged(RecipeChangedEvent.created(created));
+        statistics.onRecipeChanged(RecipeChangedEvent.updated(bobRecipe, recipe(11L, "bob", false)));
+        statistics.onRecipeChanged(RecipeChangedEvent.deleted(recipe(12L, "bob", true)));
+
+        RecipeStatsDto stats = statistics.snapshot(10);
+        assertEquals(6, stats.getTotal());
+        assertEquals(3, stats.getVegetarian());
+        assertEquals(3, stats.getNonVegetarian());
+        assertEquals(3, stats.getOwners());
+        assertEquals(3.0, meterRegistry.get("recipe.count.by.diet").tag("vegetarian", "false").gauge().value());
+    }
+
+    @Test
+    void onRecipeChanged_WhenRemote_ShouldShareOneRecountUnlessWrittenBeforeSeed() {
+        RecipeDto seeded = recipe(20L, "carol", true);
+        RecipeDto created = recipe(21L, "carol", true);
+
+        statistics.onRecipeChanged(RecipeChangedEvent.remote(RecipeChangedEvent.Type.CREATED, seeded.getId(),
+                seeded, Instant.now().minusSeconds(5)));
+        statistics.onRecipeChanged(RecipeChangedEvent.remote(RecipeChangedEvent.Type.CREATED, created.getId(),
+                created, Instant.now()));
+        statistics.onRecipeChanged(RecipeChangedEvent.remote(RecipeChangedEvent.Type.UPDATED, created.getId(),
+                created, Instant.now()));
+
+        // The seed and one recount
+        verify(recipeRepository, timeout(5000).times(2)).countByOwnerAndVegetarian();
+        verify(recipeRepository, after(300).times(2)).countByOwnerAndVegetarian();
+    }
+
+    @Test
+    void recount_ShouldReloadAndApplyLocalChangesCommittedMeanwhile() {
+        RecipeDto created = recipe(30L, "dave", false);
+        long[] totalDuringLoad = new long[1];
+        when(recipeRepository.countByOwnerAndVegetarian()).thenAnswer(invocation -> {
+            statistics.onRecipeChanged(RecipeChangedEvent.created(created));
+            totalDuringLoad[0] = statistics.total();
+            return List.of(row("alice", true, 3), row("carol", true, 2));
+        });
+
+        statistics.recount();
+
+        RecipeStatsDto stats = statistics.snapshot(10);
+        assertEquals(7, totalDuringLoad[0]);
+        assertEquals(6, stats.getTotal());
+        assertEquals(1, stats.getNonVegetarian());
+        assertEquals(Map.of("alice", 3L, "carol", 2L, "dave", 1L), stats.getTopOwners());
+    }
+
+    @Test
+    void snapshot_ShouldLimitOwnersToTheLargest() {
+        RecipeStatsDto stats = statistics.snapshot(1);
+
+        assertEquals(Map.of("alice", 4L), stats.getTopOwners());
+        assertEquals(2, stats.getOwners());
+    }
+
+    private static RecipeDto recipe(Long id, String owner, boolean vegetarian) {
+        return RecipeDto.builder().id(id).createdBy(owner).vegetarian(vegetarian).build();
+    }
+
+    private static RecipeCountRow row(String owner, boolean vegetarian, long recipes) {
+        return new RecipeCountRow() {
+            @Override
+            public String getCreatedBy() {
+                return owner;
+            }
+
+            @Override
+            public boolean isVegetarian() {
+                return vegetarian;
+            }
+
+            @Override
+            public long getRecipes() {
+                return recipes;
+            }
+        };
+    }
+}
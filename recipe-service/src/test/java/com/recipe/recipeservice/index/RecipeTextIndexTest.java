@@ -0,0 +1,130 @@
+package com.recipe.recipeservice.index;
+
+import com.recipe.recipeservice.dto.RecipeDto;
+import com.recipe.recipeservice.entity.Recipe;
+import com.recipe.recipeservice.event.RecipeChangedEvent;
+import com.recipe.recipeservice.repository.RecipeCursor;
+import com.recipe.recipeservice.repository.RecipeRepository;
+import com.recipe.recipeservice.service.RecipeMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doCallRealMethod;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class RecipeTextIndexTest {
+
+    @Mock
+    private RecipeRepository recipeRepository;
+
+    private RecipeTextIndex index;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        when(recipeRepository.findPage(isNull(), any(RecipeCursor.class), anyInt())).thenReturn(List.of(
+                recipe(1L, "Potato Gratin", "Creamy baked potatoes", "Slice the potatoes and bake in the oven for an hour"),
+                recipe(2L, "Tomato Soup", "Quick soup", "Simmer tomatoes, then blend until smooth"),
+                recipe(3L, "Roast Vegetables", "Sheet pan dinner", "Roast potatoes and carrots in a hot oven")));
+        doCallRealMethod().when(recipeRepository).forEachBatch(anyInt(), any());
+
+        index = new RecipeTextIndex(recipeRepository, new RecipeMapper(), true);
+        index.rebuild();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        index.close();
+    }
+
+    @Test
+    void search_ShouldRankNameMatchesFirst() {
+        RecipeTextIndex.Hits hits = index.search("potato", 0, 10);
+
+        assertEquals(2, hits.totalHits());
+        assertEquals(1L, hits.hits().get(0).recipeId());
+        assertEquals(3L, hits.hits().get(1).recipeId());
+        assertTrue(hits.hits().get(0).score() > hits.hits().get(1).score());
+    }
+
+    @Test
+    void search_ShouldRequireAllTermsAndSupportPhrases() {
+        assertEquals(List.of(3L), ids(index.search("carrots oven", 0, 10)));
+        assertEquals(List.of(2L), ids(index.search("\"blend until smooth\"", 0, 10)));
+        assertEquals(List.of(), ids(index.search("\"smooth until blend\"", 0, 10)));
+    }
+
+    @Test
+    void search_ShouldPageByOffset() {
+        RecipeTextIndex.Hits secondPage = index.search("potato", 1, 1);
+
+        assertEquals(List.of(3L), ids(secondPage));
+        assertEquals(2, secondPage.totalHits());
+    }
+
+    @Test
+    void findInstructionMatches_ShouldOnlySearchInstructions() {
+        assertEquals(List.of(), index.findInstructionMatches("gratin"));
+        assertEquals(List.of(1L, 3L), index.findInstructionMatches("oven"));
+    }
+
+    @Test
+    void findInstructionMatches_ShouldKeepQuerySyntaxAndStemming() {
+        assertEquals(List.of(1L, 2L, 3L), index.findInstructionMatches("baking | simmered | roasting"));
+        assertEquals(List.of(3L), index.findInstructionMatches("oven -slice"));
+    }
+
+    @Test
+    void findInstructionMatches_WithOnlyStopwords_ShouldMatchNothing() {
+        assertEquals(List.of(), index.findInstructionMatches("the"));
+    }
+
+    @Test
+    void onRecipeChanged_ShouldReindexAndDelete() {
+        index.onRecipeChanged(RecipeChangedEvent.updated(dto(2L, "Tomato Soup", "Simmer tomatoes"),
+                dto(2L, "Tomato Soup", "Bake tomatoes in the oven")));
+        index.onRecipeChanged(RecipeChangedEvent.deleted(dto(1L, "Potato Gratin", "")));
+
+        assertEquals(List.of(2L, 3L), ids(index.search("oven", 0, 10)).stream().sorted().toList());
+        assertEquals(List.of(3L), ids(index.search("potato", 0, 10)));
+    }
+
+    private List<Long> ids(RecipeTextIndex.Hits hits) {
+        return hits.hits().stream()
+                .map(RecipeTextIndex.Hit::recipeId)
+                .toList();
+    }
+
+    private Recipe recipe(Long id, String name, String description, String instructions) {
+        return Recipe.builder()
+                .id(id)
+                .name(name)
+                .description(description)
+                .vegetarian(true)
+                .servings(2)
+                .instructions(instructions)
+                .createdBy("testuser")
+                .build();
+    }
+
+    private RecipeDto dto(Long id, String name, String instructions) {
+        return RecipeDto.builder()
+                .id(id)
+                .name(name)
+                .instructions(instructions)
+                .ingredients(List.of())
+                .build();
+    }
+}
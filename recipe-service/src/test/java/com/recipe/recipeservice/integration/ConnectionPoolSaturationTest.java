@@ -0,0 +1,107 @@
+package com.recipe.recipeservice.integration;
+
+import com.recipe.recipeservice.dto.IngredientDto;
+import com.recipe.recipeservice.dto.RecipeDto;
+import com.recipe.recipeservice.repository.RecipeRepository;
+import com.recipe.recipeservice.service.RecipeService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// A pool of 2 with a short timeout, so writers hold every configured connection while id blocks are
+// fetched and new dictionary entries written; a pool that runs out times out instead of hanging the build
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:poolsaturation",
+        "spring.r2dbc.url=r2dbc:h2:mem:///poolsaturation",
+        "spring.datasource.hikari.maximum-pool-size=2",
+        "spring.datasource.hikari.connection-timeout=2000"
+})
+@ActiveProfiles("test")
+public class ConnectionPoolSaturationTest {
+
+    private static final int WRITERS = 12;
+    private static final int RECIPES_PER_WRITER = 10;
+    private static final int INGREDIENTS_PER_RECIPE = 5;
+
+    @Autowired
+    private RecipeService recipeService;
+
+    @Autowired
+    private RecipeRepository recipeRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @AfterEach
+    void tearDown() {
+        recipeRepository.deleteAll();
+    }
+
+    @Test
+    void createRecipe_WithPoolSaturated_ShouldNotTimeOut() throws Exception {
+        // Arrange
+        ExecutorService executor = Executors.newFixedThreadPool(WRITERS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> writers = new ArrayList<>();
+        for (int writer = 0; writer < WRITERS; writer++) {
+            int writerId = writer;
+            writers.add(executor.submit(() -> {
+                SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                        "writer" + writerId, "password", List.of(new SimpleGrantedAuthority("ROLE_USER"))));
+                start.await();
+                for (int recipe = 0; recipe < RECIPES_PER_WRITER; recipe++) {
+                    // Every ingredient name is new, so each recipe adds dictionary entries
+                    recipeService.createRecipe(recipeDto(writerId, recipe));
+                }
+                return null;
+            }));
+        }
+
+        // Act
+        start.countDown();
+        try {
+            for (Future<?> writer : writers) {
+                writer.get(2, TimeUnit.MINUTES);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // Assert
+        assertEquals(WRITERS * RECIPES_PER_WRITER, recipeRepository.count());
+        assertEquals(2 + 2, meterRegistry.get("hikaricp.connections.max").gauge().value());
+    }
+
+    private static RecipeDto recipeDto(int writer, int recipe) {
+        return RecipeDto.builder()
+                .name("Recipe " + writer + "-" + recipe)
+                .vegetarian(true)
+                .servings(2)
+                .instructions("Mix")
+                .ingredients(IntStream.range(0, INGREDIENTS_PER_RECIPE)
+                        .mapToObj(ingredient -> IngredientDto.builder()
+                                .name("Ingredient " + writer + "-" + recipe + "-" + ingredient)
+                                .amount("1")
+                                .unit("pc")
+                                .build())
+                        .toList())
+                .build();
+    }
+}
@@ -0,0 +1,192 @@
+package com.recipe.recipeservice.integration;
+
+import com.recipe.recipeservice.dto.IngredientDto;
+import com.recipe.recipeservice.dto.PageRequestDto;
+import com.recipe.recipeservice.dto.RecipeDto;
+import com.recipe.recipeservice.dto.RecipeFilterDto;
+import com.recipe.recipeservice.entity.Ingredient;
+import com.recipe.recipeservice.entity.Recipe;
+import com.recipe.recipeservice.repository.RecipeRepository;
+import com.recipe.recipeservice.service.IngredientBackfill;
+import com.recipe.recipeservice.service.RecipeService;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:ingredientdictionary",
+        "spring.r2dbc.url=r2dbc:h2:mem:///ingredientdictionary"
+})
+@ActiveProfiles("test")
+public class IngredientDictionaryTest {
+
+    @Autowired
+    private RecipeService recipeService;
+
+    @Autowired
+    private RecipeRepository recipeRepository;
+
+    @Autowired
+    private IngredientBackfill ingredientBackfill;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(
+                        "testuser",
+                        "password",
+                        Collections.singletonList(new SimpleGrantedAuthority("ROLE_USER"))
+                ));
+    }
+
+    @AfterEach
+    void tearDown() {
+        recipeRepository.deleteAll();
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void createRecipe_ShouldLinkSynonymsToOneDictionaryEntry() {
+        // Arrange
+        RecipeDto recipeDto = recipeDto("Tomato Salad", "Tomatoes", " cherry  TOMATOES", "Aubergine");
+
+        // Act
+        RecipeDto created = recipeService.createRecipe(recipeDto);
+
+        // Assert
+        assertEquals(List.of("tomato", "cherry tomato", "eggplant"), dictionaryNames(created.getId()));
+        assertEquals("Tomatoes", created.getIngredients().get(0).getName());
+    }
+
+    @Test
+    void updateRecipe_WhenIngredientRenamed_ShouldRelinkIt() {
+        // Arrange
+        RecipeDto created = recipeService.createRecipe(recipeDto("Stew", "Courgette"));
+        IngredientDto courgette = created.getIngredients().get(0);
+        IngredientDto ingredient = IngredientDto.builder()
+                .id(courgette.getId())
+                .name("Chickpeas")
+                .amount(courgette.getAmount())
+                .unit(courgette.getUnit())
+                .build();
+
+        // Act
+        recipeService.updateRecipe(created.getId(), created.toBuilder().ingredients(List.of(ingredient)).build());
+
+        // Assert
+        assertEquals(List.of("chickpea"), dictionaryNames(created.getId()));
+    }
+
+    @Test
+    @DirtiesContext(methodMode = DirtiesContext.MethodMode.AFTER_METHOD)
+    void run_ShouldLinkRowsSavedWithoutTheDictionary() {
+        // Arrange
+        Recipe recipe = recipeRepository.save(recipe("Legacy Curry", "Chickpeas", "Garbanzo beans", "Cilantro"));
+
+        // Act
+        long linked = ingredientBackfill.run();
+
+        // Assert
+        assertEquals(3, linked);
+        assertEquals(List.of("chickpea", "chickpea", "coriander leaves"), dictionaryNames(recipe.getId()));
+        assertEquals(0, ingredientBackfill.run());
+    }
+
+    @Test
+    void filterRecipes_ShouldMatchSynonymsAndUnlinkedRows() {
+        // Arrange
+        recipeService.createRecipe(recipeDto("Tomato Salad", "Tomatoes"));
+        recipeService.createRecipe(recipeDto("Cherry Salad", "Cherry tomatoes"));
+        recipeRepository.save(recipe("Legacy Pasta", " Tomatoes"));
+        recipeService.createRecipe(recipeDto("Beef Stew", "Beef"));
+
+        // Act
+        List<String> byCanonical = filteredNames(RecipeFilterDto.builder().includeIngredient("tomato").build());
+        List<String> bySynonym = filteredNames(RecipeFilterDto.builder().includeIngredient("Tomatoes").build());
+        List<String> excluded = filteredNames(RecipeFilterDto.builder().excludeIngredient("tomatoes").build());
+
+        // Assert
+        assertEquals(List.of("Legacy Pasta", "Tomato Salad"), byCanonical);
+        assertEquals(List.of("Legacy Pasta", "Tomato Salad"), bySynonym);
+        assertEquals(List.of("Beef Stew", "Cherry Salad"), excluded);
+    }
+
+    @Test
+    @DirtiesContext(methodMode = DirtiesContext.MethodMode.AFTER_METHOD)
+    void filterRecipes_WhenBackfillComplete_ShouldMatchOnlyTheDictionary() {
+        // Arrange
+        recipeRepository.save(recipe("Legacy Pasta", "Tomatoes"));
+        ingredientBackfill.run();
+        recipeRepository.save(recipe("Unlinked Pasta", "Tomatoes"));
+
+        // Act
+        List<String> names = filteredNames(RecipeFilterDto.builder().includeIngredient("tomato").build());
+
+        // Assert
+        assertTrue(ingredientBackfill.isComplete());
+        assertEquals(List.of("Legacy Pasta"), names);
+    }
+
+    private List<String> filteredNames(RecipeFilterDto filterDto) {
+        return recipeService.filterRecipes(filterDto, PageRequestDto.builder().sort("name").build())
+                .getContent().stream()
+                .map(RecipeDto::getName)
+                .toList();
+    }
+
+    private List<String> dictionaryNames(Long recipeId) {
+        return transactionTemplate.execute(status -> entityManager.createQuery(
+                        "SELECT n.name FROM Ingredient i JOIN i.canonicalName n WHERE i.recipe.id = :recipeId ORDER BY i.id",
+                        String.class)
+                .setParameter("recipeId", recipeId)
+                .getResultList());
+    }
+
+    private static RecipeDto recipeDto(String name, String... ingredients) {
+        return RecipeDto.builder()
+                .name(name)
+                .vegetarian(true)
+                .servings(2)
+                .instructions("Mix")
+                .ingredients(Arrays.stream(ingredients)
+                        .map(ingredient -> IngredientDto.builder().name(ingredient).amount("1").unit("pc").build())
+                        .toList())
+                .build();
+    }
+
+    private static Recipe recipe(String name, String... ingredients) {
+        Recipe recipe = Recipe.builder()
+                .name(name)
+                .vegetarian(true)
+                .servings(2)
+                .instructions("Mix")
+                .createdBy("testuser")
+                .build();
+        for (String ingredient : ingredients) {
+            recipe.addIngredient(Ingredient.builder().name(ingredient).amount("1").unit("pc").build());
+        }
+        return recipe;
+    }
+}
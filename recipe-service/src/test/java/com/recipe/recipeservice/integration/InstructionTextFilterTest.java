@@ -0,0 +1,157 @@
+package com.recipe.recipeservice.integration;
+
+import com.recipe.recipeservice.dto.CursorPageDto;
+import com.recipe.recipeservice.dto.IngredientDto;
+import com.recipe.recipeservice.dto.PageRequestDto;
+import com.recipe.recipeservice.dto.RecipeDto;
+import com.recipe.recipeservice.dto.RecipeFilterDto;
+import com.recipe.recipeservice.entity.Recipe;
+import com.recipe.recipeservice.index.RecipeTextIndex;
+import com.recipe.recipeservice.repository.RecipeCursor;
+import com.recipe.recipeservice.repository.RecipeRepository;
+import com.recipe.recipeservice.repository.RecipeSort;
+import com.recipe.recipeservice.repository.RecipeSpecifications;
+import com.recipe.recipeservice.service.ReactiveRecipeService;
+import com.recipe.recipeservice.service.RecipeService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// At most 2 bound ids, so three or more matching recipes reach SQL as literals
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:textfilter",
+        "spring.r2dbc.url=r2dbc:h2:mem:///textfilter",
+        "app.text-index.max-bound-ids=2"
+})
+@ActiveProfiles("test")
+public class InstructionTextFilterTest {
+
+    @Autowired
+    private RecipeService recipeService;
+
+    @Autowired
+    private ReactiveRecipeService reactiveRecipeService;
+
+    @Autowired
+    private RecipeRepository recipeRepository;
+
+    @Autowired
+    private RecipeTextIndex recipeTextIndex;
+
+    @BeforeEach
+    void setUp() {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(
+                        "testuser",
+                        "password",
+                        Collections.singletonList(new SimpleGrantedAuthority("ROLE_USER"))
+                ));
+        recipeService.createRecipe(recipeDto("Apple Crumble", "Bake in the oven until golden"));
+        recipeService.createRecipe(recipeDto("Bean Stew", "Simmer the beans for an hour"));
+        recipeService.createRecipe(recipeDto("Cheese Toast", "Grill in the oven for five minutes"));
+        recipeService.createRecipe(recipeDto("Dal", "Simmer lentils with spices"));
+        recipeService.createRecipe(recipeDto("Egg Bake", "Bake eggs in a hot oven"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        recipeRepository.deleteAll();
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void filterRecipes_WhenMatchesExceedBoundIds_ShouldReturnEveryMatchAcrossPages() {
+        // Act
+        List<String> names = filteredNames("oven");
+
+        // Assert
+        assertEquals(List.of("Apple Crumble", "Cheese Toast", "Egg Bake"), names);
+    }
+
+    @Test
+    void filterRecipes_ShouldMatchTheSameWithBoundAndLiteralIds() {
+        // Arrange
+        String query = "baked | simmering -lentils";
+        List<Long> ids = recipeTextIndex.findInstructionMatches(query);
+        RecipeCursor cursor = RecipeCursor.start(RecipeSort.NAME, false);
+
+        // Act
+        List<String> viaService = filteredNames(query);
+        List<String> viaBound = names(recipeRepository.findPage(RecipeSpecifications.idIn(ids), cursor, 10));
+        List<String> viaLiterals = names(recipeRepository.findPage(RecipeSpecifications.idInLiterals(ids), cursor, 10));
+
+        // Assert
+        assertEquals(List.of("Apple Crumble", "Bean Stew", "Egg Bake"), viaService);
+        assertEquals(viaService, viaBound);
+        assertEquals(viaService, viaLiterals);
+    }
+
+    @Test
+    void reactiveFilterRecipes_ShouldMatchLikeTheBlockingPath() {
+        // Arrange
+        RecipeFilterDto bound = RecipeFilterDto.builder().instructionText("simmering").build();
+        RecipeFilterDto literals = RecipeFilterDto.builder().instructionText("oven").build();
+        PageRequestDto pageRequest = PageRequestDto.builder().sort("name").build();
+
+        // Act
+        CursorPageDto<RecipeDto> boundPage = reactiveRecipeService.filterRecipes(bound, pageRequest).block();
+        CursorPageDto<RecipeDto> literalPage = reactiveRecipeService.filterRecipes(literals, pageRequest).block();
+
+        // Assert
+        assertEquals(filteredNames("simmering"), pageNames(boundPage));
+        assertEquals(List.of("Bean Stew", "Dal"), pageNames(boundPage));
+        assertEquals(filteredNames("oven"), pageNames(literalPage));
+    }
+
+    @Test
+    void filterRecipes_WithStopwordOnlyText_ShouldMatchNothingLikeTheIndex() {
+        // Act
+        List<String> names = filteredNames("the");
+
+        // Assert
+        assertEquals(List.of(), names);
+    }
+
+    private static List<String> names(List<Recipe> recipes) {
+        return recipes.stream().map(Recipe::getName).toList();
+    }
+
+    private static List<String> pageNames(CursorPageDto<RecipeDto> page) {
+        return page.getContent().stream().map(RecipeDto::getName).toList();
+    }
+
+    private List<String> filteredNames(String instructionText) {
+        RecipeFilterDto filterDto = RecipeFilterDto.builder().instructionText(instructionText).build();
+        List<String> names = new ArrayList<>();
+        String cursor = null;
+        do {
+            CursorPageDto<RecipeDto> page = recipeService.filterRecipes(filterDto,
+                    PageRequestDto.builder().size(1).sort("name").cursor(cursor).build());
+            page.getContent().forEach(recipe -> names.add(recipe.getName()));
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+        return names;
+    }
+
+    private static RecipeDto recipeDto(String name, String instructions) {
+        return RecipeDto.builder()
+                .name(name)
+                .vegetarian(true)
+                .servings(2)
+                .instructions(instructions)
+                .ingredients(List.of(IngredientDto.builder().name("Salt").amount("1").unit("pinch").build()))
+                .build();
+    }
+}
@@ -0,0 +1,128 @@
+package com.recipe.recipeservice.integration;
+
+import com.recipe.recipeservice.dto.CursorPageDto;
+import com.recipe.recipeservice.dto.IngredientDto;
+import com.recipe.recipeservice.dto.PageRequestDto;
+import com.recipe.recipeservice.dto.RecipeDto;
+import com.recipe.recipeservice.dto.RecipeFilterDto;
+import com.recipe.recipeservice.entity.Ingredient;
+import com.recipe.recipeservice.entity.Recipe;
+import com.recipe.recipeservice.exception.RecipeNotFoundException;
+import com.recipe.recipeservice.repository.RecipeRepository;
+import com.recipe.recipeservice.service.ReactiveRecipeService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+// Without the text index, so instruction text falls back to LIKE and its wildcard escaping is covered
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:reactiveread",
+        "spring.r2dbc.url=r2dbc:h2:mem:///reactiveread",
+        "app.text-index.enabled=false"
+})
+@ActiveProfiles("test")
+public class ReactiveRecipeReadTest {
+
+    @Autowired
+    private ReactiveRecipeService reactiveRecipeService;
+
+    @Autowired
+    private RecipeRepository recipeRepository;
+
+    private List<Recipe> recipes;
+
+    @BeforeEach
+    void setUp() {
+        recipes = recipeRepository.saveAll(List.of(
+                recipe("Tomato Soup", true, "Simmer 100% of the tomatoes", "Tomato", "Basil"),
+                recipe("Beef Stew", false, "Brown the beef, then braise", "Beef", "Carrot"),
+                recipe("Veggie Curry", true, "Simmer vegetables in coconut milk", "Carrot", "Coconut Milk")));
+    }
+
+    @AfterEach
+    void tearDown() {
+        recipeRepository.deleteAll();
+    }
+
+    @Test
+    void getRecipeById_ShouldReadRecipeWithIngredients() {
+        Long id = recipes.get(1).getId();
+
+        StepVerifier.create(reactiveRecipeService.getRecipeById(id))
+                .assertNext(recipe -> {
+                    assertEquals("Beef Stew", recipe.getName());
+                    assertEquals(false, recipe.getVegetarian());
+                    assertEquals(List.of("Beef", "Carrot"),
+                            recipe.getIngredients().stream().map(IngredientDto::getName).toList());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void getRecipeById_WhenMissing_ShouldSignalNotFound() {
+        StepVerifier.create(reactiveRecipeService.getRecipeById(-1L))
+                .expectError(RecipeNotFoundException.class)
+                .verify();
+    }
+
+    @Test
+    void getAllRecipes_ShouldFollowCursorAcrossPages() {
+        PageRequestDto firstRequest = PageRequestDto.builder().size(2).sort("name").build();
+
+        CursorPageDto<RecipeDto> first = reactiveRecipeService.getAllRecipes(firstRequest).block();
+        CursorPageDto<RecipeDto> second = reactiveRecipeService.getAllRecipes(
+                PageRequestDto.builder().size(2).cursor(first.getNextCursor()).build()).block();
+
+        assertEquals(List.of("Beef Stew", "Tomato Soup"), names(first));
+        assertEquals(List.of("Veggie Curry"), names(second));
+        assertNull(second.getNextCursor());
+    }
+
+    @Test
+    void filterRecipes_ShouldApplyCriteriaLikeTheJpaPath() {
+        RecipeFilterDto filterDto = RecipeFilterDto.builder()
+                .vegetarian(true)
+                .includeIngredient("carrot")
+                .build();
+        RecipeFilterDto literalFilter = RecipeFilterDto.builder()
+                .instructionText("100%")
+                .excludeIngredient("beef")
+                .build();
+
+        CursorPageDto<RecipeDto> page = reactiveRecipeService.filterRecipes(filterDto, new PageRequestDto()).block();
+        CursorPageDto<RecipeDto> literalPage = reactiveRecipeService.filterRecipes(literalFilter, new PageRequestDto()).block();
+
+        assertEquals(List.of("Veggie Curry"), names(page));
+        assertEquals(2, page.getContent().get(0).getIngredients().size());
+        assertEquals(List.of("Tomato Soup"), names(literalPage));
+    }
+
+    private List<String> names(CursorPageDto<RecipeDto> page) {
+        return page.getContent().stream()
+                .map(RecipeDto::getName)
+                .toList();
+    }
+
+    private Recipe recipe(String name, boolean vegetarian, String instructions, String... ingredients) {
+        Recipe recipe = Recipe.builder()
+                .name(name)
+                .vegetarian(vegetarian)
+                .servings(2)
+                .instructions(instructions)
+                .createdBy("testuser")
+                .build();
+        for (String ingredient : ingredients) {
+            recipe.addIngredient(Ingredient.builder().name(ingredient).amount("1").unit("pc").build());
+        }
+        return recipe;
+    }
+}
@@ -3,7 +3,10 @@ package com.recipe.recipeservice.integration;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.recipe.recipeservice.dto.IngredientDto;
 import com.recipe.recipeservice.dto.RecipeDto;
+import com.recipe.recipeservice.entity.Ingredient;
 import com.recipe.recipeservice.entity.Recipe;
+import com.recipe.recipeservice.index.RecipeFacets;
+import com.recipe.recipeservice.index.RecipeStatistics;
 import com.recipe.recipeservice.repository.RecipeRepository;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -11,12 +14,14 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.Collections;
 import java.util.List;
@@ -25,6 +30,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -42,6 +48,15 @@ public class RecipeIntegrationTest {
     @Autowired
     private RecipeRepository recipeRepository;
 
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private RecipeStatistics recipeStatistics;
+
+    @Autowired
+    private RecipeFacets recipeFacets;
+
     @BeforeEach
     void setUp() {
         // Set up security context with a test user
@@ -78,6 +93,8 @@ public class RecipeIntegrationTest {
                 .cookingTime(30)
                 .ingredients(Collections.singletonList(ingredientDto))
                 .build();
+        long recipesBefore = recipeStatistics.total();
+        long facetTotalBefore = recipeFacets.snapshot().getTotal();
 
         // Create the recipe via API
         String responseJson = mockMvc.perform(post("/recipes")
@@ -95,13 +112,19 @@ public class RecipeIntegrationTest {
         RecipeDto createdRecipe = objectMapper.readValue(responseJson, RecipeDto.class);
         Long recipeId = createdRecipe.getId();
 
+        // The in-memory counts picked up the committed change
+        assertEquals(recipesBefore + 1, recipeStatistics.total());
+        assertEquals(facetTotalBefore + 1, recipeFacets.snapshot().getTotal());
+
         // Verify the recipe was saved in the database
-        Recipe savedRecipe = recipeRepository.findById(recipeId).orElse(null);
-        assertNotNull(savedRecipe);
-        assertEquals("Test Recipe", savedRecipe.getName());
-        assertEquals(true, savedRecipe.isVegetarian());
-        assertEquals(1, savedRecipe.getIngredients().size());
-        assertEquals("Potato", savedRecipe.getIngredients().get(0).getName());
+        transactionTemplate.executeWithoutResult(status -> {
+            Recipe savedRecipe = recipeRepository.findById(recipeId).orElse(null);
+            assertNotNull(savedRecipe);
+            assertEquals("Test Recipe", savedRecipe.getName());
+            assertEquals(true, savedRecipe.isVegetarian());
+            assertEquals(1, savedRecipe.getIngredients().size());
+            assertEquals("Potato", savedRecipe.getIngredients().get(0).getName());
+        });
 
         // Retrieve the recipe via API
         mockMvc.perform(get("/recipes/" + recipeId))
@@ -111,6 +134,116 @@ public class RecipeIntegrationTest {
                 .andExpect(jsonPath("$.ingredients[0].name").value("Potato"));
     }
 
+    @Test
+    void patchRecipeUpdatesFieldsAndKeepsIngredientRows() throws Exception {
+        Recipe recipe = Recipe.builder()
+                .name("Pea Soup")
+                .description("Thick and green")
+                .vegetarian(true)
+                .servings(4)
+                .instructions("Simmer the peas")
+                .createdBy("testuser")
+                .build();
+        recipe.addIngredient(Ingredient.builder().name("Peas").amount("500").unit("g").build());
+        recipe.addIngredient(Ingredient.builder().name("Mint").amount("1").unit("sprig").build());
+        Recipe saved = recipeRepository.save(recipe);
+        Long peasId = saved.getIngredients().get(0).getId();
+        Long mintId = saved.getIngredients().get(1).getId();
+
+        String patch = "{\"name\": \"Minted Pea Soup\", \"description\": null, \"ingredients\": ["
+                + "{\"id\": " + peasId + ", \"name\": \"Peas\", \"amount\": \"600\", \"unit\": \"g\"},"
+                + "{\"name\": \"Stock\", \"amount\": \"1\", \"unit\": \"l\"}]}";
+
+        mockMvc.perform(patch("/recipes/" + saved.getId())
+                .with(csrf())
+                .header(HttpHeaders.IF_MATCH, "\"" + saved.getVersion() + "\"")
+                .contentType("application/merge-patch+json")
+                .content(patch))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"" + (saved.getVersion() + 1) + "\""))
+                .andExpect(jsonPath("$.name").value("Minted Pea Soup"))
+                .andExpect(jsonPath("$.description").doesNotExist())
+                .andExpect(jsonPath("$.servings").value(4))
+                .andExpect(jsonPath("$.ingredients[0].id").value(peasId))
+                .andExpect(jsonPath("$.ingredients[0].amount").value("600"))
+                .andExpect(jsonPath("$.ingredients[1].name").value("Stock"));
+
+        Recipe patched = recipeRepository.findById(saved.getId()).orElseThrow();
+        assertEquals(2, patched.getIngredients().size());
+        assertEquals(false, patched.getIngredients().stream().anyMatch(i -> i.getId().equals(mintId)));
+
+        // The tag used above is now stale
+        mockMvc.perform(patch("/recipes/" + saved.getId())
+                .with(csrf())
+                .header(HttpHeaders.IF_MATCH, "\"" + saved.getVersion() + "\"")
+                .contentType("application/merge-patch+json")
+                .content("{\"servings\": 6}"))
+                .andExpect(status().isPreconditionFailed());
+    }
+
+    @Test
+    void getAllRecipesFollowsNextCursor() throws Exception {
+        for (String name : List.of("Carrot Soup", "Apple Pie", "Bean Stew")) {
+            RecipeDto recipeDto = RecipeDto.builder()
+                    .name(name)
+                    .vegetarian(true)
+                    .servings(2)
+                    .instructions("Cook it")
+                    .ingredients(Collections.singletonList(IngredientDto.builder().name("Water").build()))
+                    .build();
+            mockMvc.perform(post("/recipes")
+                    .with(csrf())
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(recipeDto)))
+                    .andExpect(status().isCreated());
+        }
+
+        String firstPage = mockMvc.perform(get("/recipes")
+                .param("size", "2")
+                .param("sort", "name"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.size").value(2))
+                .andExpect(jsonPath("$.content[0].name").value("Apple Pie"))
+                .andExpect(jsonPath("$.content[1].name").value("Bean Stew"))
+                .andExpect(jsonPath("$.nextCursor").exists())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        String nextCursor = objectMapper.readTree(firstPage).get("nextCursor").asText();
+
+        mockMvc.perform(get("/recipes")
+                .param("size", "2")
+                .param("cursor", nextCursor))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.size").value(1))
+                .andExpect(jsonPath("$.content[0].name").value("Carrot Soup"))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+    }
+
+    @Test
+    void searchRecipesRanksByRelevance() throws Exception {
+        RecipeDto recipeDto = RecipeDto.builder()
+                .name("Lemon Tart")
+                .description("Sharp and sweet")
+                .vegetarian(true)
+                .servings(8)
+                .instructions("Blind bake the pastry, then fill with lemon curd")
+                .ingredients(Collections.singletonList(IngredientDto.builder().name("Lemon").build()))
+                .build();
+
+        mockMvc.perform(post("/recipes")
+                .with(csrf())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(recipeDto)))
+                .andExpect(status().isCreated());
+
+        mockMvc.perform(get("/recipes/search").param("q", "lemon pastry"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].recipe.name").value("Lemon Tart"))
+                .andExpect(jsonPath("$.content[0].score").isNumber());
+    }
+
     @Test
     void filterRecipesByVegetarian() throws Exception {
         // Create a vegetarian recipe
@@ -164,8 +297,8 @@ public class RecipeIntegrationTest {
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(objectMapper.writeValueAsString(Collections.singletonMap("vegetarian", true))))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$[0].name").value("Vegetarian Recipe"))
-                .andExpect(jsonPath("$[0].vegetarian").value(true))
-                .andExpect(jsonPath("$[1]").doesNotExist()); // Only one result should be returned
+                .andExpect(jsonPath("$.content[0].name").value("Vegetarian Recipe"))
+                .andExpect(jsonPath("$.content[0].vegetarian").value(true))
+                .andExpect(jsonPath("$.content[1]").doesNotExist()); // Only one result should be returned
     }
 }
\ No newline at end of file
@@ -0,0 +1,182 @@
+package com.recipe.recipeservice.integration;
+
+import com.recipe.recipeservice.dto.CursorPageDto;
+import com.recipe.recipeservice.dto.PageRequestDto;
+import com.recipe.recipeservice.dto.RecipeFacetsDto;
+import com.recipe.recipeservice.dto.RecipeDto;
+import com.recipe.recipeservice.dto.RecipeFilterDto;
+import com.recipe.recipeservice.dto.RecipeSummaryDto;
+import com.recipe.recipeservice.entity.Ingredient;
+import com.recipe.recipeservice.entity.Recipe;
+import com.recipe.recipeservice.repository.RecipeField;
+import com.recipe.recipeservice.repository.RecipeRepository;
+import com.recipe.recipeservice.service.RecipeProjection;
+import com.recipe.recipeservice.service.RecipeService;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+
+import static com.recipe.recipeservice.support.SqlStatementBudget.assertWithinBudget;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest
+@ActiveProfiles("test")
+public class RecipeQueryBudgetTest {
+
+    private static final int RECIPE_COUNT = 30;
+    private static final int INGREDIENTS_PER_RECIPE = 3;
+
+    @Autowired
+    private RecipeService recipeService;
+
+    @Autowired
+    private RecipeRepository recipeRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Long firstRecipeId;
+
+    @BeforeEach
+    void setUp() {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(
+                        "testuser",
+                        "password",
+                        Collections.singletonList(new SimpleGrantedAuthority("ROLE_USER"))
+                ));
+
+        List<Recipe> recipes = new ArrayList<>();
+        for (int i = 0; i < RECIPE_COUNT; i++) {
+            Recipe recipe = Recipe.builder()
+                    .name("Recipe " + i)
+                    .vegetarian(true)
+                    .servings(4)
+                    .instructions("Cook step " + i)
+                    .createdBy("testuser")
+                    .build();
+            for (int j = 0; j < INGREDIENTS_PER_RECIPE; j++) {
+                recipe.addIngredient(Ingredient.builder().name("Potato " + j).amount("1").unit("pc").build());
+            }
+            recipes.add(recipe);
+        }
+        firstRecipeId = recipeRepository.saveAll(recipes).get(0).getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        recipeRepository.deleteAll();
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void getAllRecipes_ShouldLoadPageAndIngredientsInTwoStatements() {
+        PageRequestDto pageRequest = PageRequestDto.builder().size(25).build();
+
+        CursorPageDto<RecipeDto> page = assertWithinBudget(entityManagerFactory, 2,
+                () -> recipeService.getAllRecipes(pageRequest));
+
+        assertEquals(25, page.getSize());
+        page.getContent().forEach(recipe -> assertEquals(INGREDIENTS_PER_RECIPE, recipe.getIngredients().size()));
+    }
+
+    @Test
+    void filterRecipes_ShouldLoadPageAndIngredientsInTwoStatements() {
+        RecipeFilterDto filterDto = RecipeFilterDto.builder()
+                .vegetarian(true)
+                .servings(4)
+                .includeIngredient("Potato 0")
+                .build();
+
+        CursorPageDto<RecipeDto> page = assertWithinBudget(entityManagerFactory, 2,
+                () -> recipeService.filterRecipes(filterDto, new PageRequestDto()));
+
+        assertEquals(20, page.getSize());
+        page.getContent().forEach(recipe -> assertEquals(INGREDIENTS_PER_RECIPE, recipe.getIngredients().size()));
+    }
+
+    @Test
+    void getAllRecipes_SummaryView_ShouldReadPageInOneStatement() {
+        PageRequestDto pageRequest = PageRequestDto.builder().size(25).sort("totalTime").build();
+
+        CursorPageDto<RecipeSummaryDto> page = assertWithinBudget(entityManagerFactory, 1,
+                () -> recipeService.getAllRecipes(pageRequest, RecipeProjection.SUMMARY));
+        CursorPageDto<RecipeSummaryDto> next = recipeService.getAllRecipes(
+                PageRequestDto.builder().cursor(page.getNextCursor()).build(), RecipeProjection.SUMMARY);
+
+        assertEquals(25, page.getSize());
+        assertEquals("Recipe 0", page.getContent().get(0).getName());
+        assertEquals(RECIPE_COUNT - 25, next.getSize());
+    }
+
+    @Test
+    void getAllRecipes_WithFields_ShouldReadRequestedColumnsAndIngredientsInTwoStatements() {
+        PageRequestDto pageRequest = PageRequestDto.builder().sort("name").build();
+
+        CursorPageDto<Map<String, Object>> page = assertWithinBudget(entityManagerFactory, 2,
+                () -> recipeService.getAllRecipes(pageRequest,
+                        RecipeProjection.fields(EnumSet.of(RecipeField.SERVINGS, RecipeField.INGREDIENTS))));
+
+        Map<String, Object> first = page.getContent().get(0);
+        assertEquals(List.of("id", "name", "servings", "ingredients"), List.copyOf(first.keySet()));
+        assertEquals(INGREDIENTS_PER_RECIPE, ((List<?>) first.get("ingredients")).size());
+    }
+
+    @Test
+    void getFacets_WithFilter_ShouldCountInTwoGroupedStatements() {
+        RecipeFilterDto filterDto = RecipeFilterDto.builder()
+                .vegetarian(true)
+                .includeIngredient("Potato 0")
+                .build();
+
+        RecipeFacetsDto facets = assertWithinBudget(entityManagerFactory, 2,
+                () -> recipeService.getFacets(filterDto));
+
+        assertEquals(RECIPE_COUNT, facets.getTotal());
+        assertEquals((long) RECIPE_COUNT, facets.getServings().get("3-4"));
+        assertEquals((long) RECIPE_COUNT, facets.getPreparationTime().get("unknown"));
+        assertEquals(Map.of("potato 0", 30L, "potato 1", 30L, "potato 2", 30L), facets.getTopIngredients());
+    }
+
+    @Test
+    void getMyRecipes_ShouldLoadPageAndIngredientsInTwoStatements() {
+        CursorPageDto<RecipeDto> page = assertWithinBudget(entityManagerFactory, 2,
+                () -> recipeService.getMyRecipes(new PageRequestDto()));
+
+        assertEquals(20, page.getSize());
+    }
+
+    @Test
+    void updateRecipe_WhenOnlyNameChanges_ShouldLoadUpdateOneRowAndAppendToOutbox() {
+        RecipeDto recipe = recipeService.getRecipeById(firstRecipeId);
+        RecipeDto renamed = recipe.toBuilder().name("Renamed").build();
+
+        RecipeDto updated = assertWithinBudget(entityManagerFactory, 3,
+                () -> recipeService.updateRecipe(firstRecipeId, renamed));
+
+        assertEquals("Renamed", updated.getName());
+        assertEquals(recipe.getVersion() + 1, updated.getVersion());
+        assertEquals(recipe.getIngredients(), updated.getIngredients());
+    }
+
+    @Test
+    void getRecipeById_ShouldLoadRecipeWithIngredientsInOneStatement() {
+        RecipeDto recipe = assertWithinBudget(entityManagerFactory, 1,
+                () -> recipeService.getRecipeById(firstRecipeId));
+
+        assertEquals(INGREDIENTS_PER_RECIPE, recipe.getIngredients().size());
+    }
+}
@@ -0,0 +1,79 @@
+package com.recipe.recipeservice.integration;
+
+import com.recipe.recipeservice.dto.IngredientDto;
+import com.recipe.recipeservice.dto.PageRequestDto;
+import com.recipe.recipeservice.dto.RecipeDto;
+import com.recipe.recipeservice.repository.RecipeRepository;
+import com.recipe.recipeservice.service.RecipeService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// The replica url opens the same in-memory H2 database, so a replica read sees the primary's rows
+@SpringBootTest(properties = {
+        "app.datasource.replicas.enabled=true",
+        "app.datasource.replicas.urls=jdbc:h2:mem:testdb",
+        "app.datasource.replicas.lag-query=SELECT 0 AS Seconds_Behind_Source"
+})
+@ActiveProfiles("test")
+public class ReplicaRoutingIntegrationTest {
+
+    @Autowired
+    private RecipeService recipeService;
+
+    @Autowired
+    private RecipeRepository recipeRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @AfterEach
+    void tearDown() {
+        recipeRepository.deleteAll();
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void readOnlyTransactions_ShouldUseReplicaExceptRightAfterOwnWrite() {
+        authenticate("alice");
+        recipeService.createRecipe(RecipeDto.builder()
+                .name("Soup")
+                .vegetarian(true)
+                .servings(2)
+                .instructions("Simmer")
+                .ingredients(List.of(IngredientDto.builder().name("Water").amount("1").unit("l").build()))
+                .build());
+        double pinnedBefore = routed("primary", "read-your-writes");
+        double replicaBefore = routed("replica-0", "read");
+
+        assertEquals(1, recipeService.getAllRecipes(new PageRequestDto()).getSize());
+        assertEquals(pinnedBefore + 1, routed("primary", "read-your-writes"));
+
+        authenticate("bob");
+        assertEquals(1, recipeService.getAllRecipes(new PageRequestDto()).getSize());
+        assertEquals(replicaBefore + 1, routed("replica-0", "read"));
+    }
+
+    private double routed(String target, String reason) {
+        Counter counter = meterRegistry.find("recipe.datasource.routing")
+                .tags("target", target, "reason", reason)
+                .counter();
+        return counter != null ? counter.count() : 0;
+    }
+
+    private void authenticate(String username) {
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                username, "password", List.of(new SimpleGrantedAuthority("ROLE_USER"))));
+    }
+}
@@ -0,0 +1,131 @@
+package com.recipe.recipeservice.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.DispatcherType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class RequestSqlInterceptorTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private RequestStatementCounter statementCounter;
+    private HandlerMethod handler;
+    private MockHttpServletResponse response;
+
+    @BeforeEach
+    void setUp() throws NoSuchMethodException {
+        meterRegistry = new SimpleMeterRegistry();
+        statementCounter = new RequestStatementCounter();
+        handler = new HandlerMethod(new SampleController(), SampleController.class.getMethod("list"));
+        response = new MockHttpServletResponse();
+    }
+
+    @Test
+    void afterCompletion_ShouldRecordStatementsPerControllerMethod() {
+        // Arrange
+        RequestSqlInterceptor interceptor = interceptor(20, Duration.ofMinutes(1));
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/recipes");
+
+        // Act
+        interceptor.preHandle(request, response, handler);
+        statementCounter.inspect("select 1");
+        statementCounter.inspect("select 2");
+        interceptor.afterCompletion(request, response, handler, null);
+
+        // Assert
+        DistributionSummary statements = meterRegistry.get("recipe.request.sql.statements")
+                .tag("controller", "SampleController")
+                .tag("method", "list")
+                .summary();
+        assertEquals(1, statements.count());
+        assertEquals(2.0, statements.totalAmount());
+        assertEquals(0.0, meterRegistry.get("recipe.request.slow").tag("budget", "statements").counter().count());
+    }
+
+    @Test
+    void afterCompletion_OverBudgets_ShouldCountSlowRequest() {
+        // Arrange
+        RequestSqlInterceptor interceptor = interceptor(1, Duration.ZERO);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/recipes");
+
+        // Act
+        interceptor.preHandle(request, response, handler);
+        statementCounter.inspect("select 1");
+        statementCounter.inspect("select 2");
+        interceptor.afterCompletion(request, response, handler, null);
+
+        // Assert
+        assertEquals(1.0, meterRegistry.get("recipe.request.slow").tag("budget", "statements").counter().count());
+        assertEquals(1.0, meterRegistry.get("recipe.request.slow").tag("budget", "time").counter().count());
+    }
+
+    @Test
+    void inspect_OutsideRequest_ShouldNotCount() {
+        // Arrange
+        RequestSqlInterceptor interceptor = interceptor(20, Duration.ofMinutes(1));
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/recipes");
+        interceptor.preHandle(request, response, handler);
+        interceptor.afterCompletion(request, response, handler, null);
+
+        // Act
+        statementCounter.inspect("select 1");
+
+        // Assert
+        assertEquals(0, statementCounter.close());
+        assertEquals(0.0, meterRegistry.get("recipe.request.sql.statements").summary().totalAmount());
+    }
+
+    @Test
+    void preHandle_OnAsyncDispatch_ShouldNotRecordAgain() {
+        // Arrange
+        RequestSqlInterceptor interceptor = interceptor(20, Duration.ofMinutes(1));
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/recipes");
+        interceptor.preHandle(request, response, handler);
+        statementCounter.inspect("select 1");
+        interceptor.afterConcurrentHandlingStarted(request, response, handler);
+
+        // Act
+        request.setDispatcherType(DispatcherType.ASYNC);
+        interceptor.preHandle(request, response, handler);
+        interceptor.afterCompletion(request, response, handler, null);
+
+        // Assert
+        DistributionSummary statements = meterRegistry.get("recipe.request.sql.statements").summary();
+        assertEquals(1, statements.count());
+        assertEquals(1.0, statements.totalAmount());
+    }
+
+    @Test
+    void preHandle_ForStaticResource_ShouldNotRecord() {
+        // Arrange
+        RequestSqlInterceptor interceptor = interceptor(20, Duration.ofMinutes(1));
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/favicon.ico");
+
+        // Act
+        interceptor.preHandle(request, response, new Object());
+        interceptor.afterCompletion(request, response, new Object(), null);
+
+        // Assert
+        assertNull(meterRegistry.find("recipe.request.sql.statements").summary());
+    }
+
+    private RequestSqlInterceptor interceptor(long statementBudget, Duration timeBudget) {
+        return new RequestSqlInterceptor(statementCounter, meterRegistry, statementBudget, timeBudget);
+    }
+
+    static class SampleController {
+
+        public String list() {
+            return "recipes";
+        }
+    }
+}
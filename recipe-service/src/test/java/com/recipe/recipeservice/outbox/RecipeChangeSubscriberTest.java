@@ -0,0 +1,142 @@
+package com.recipe.recipeservice.outbox;
+
+import com.recipe.recipeservice.dto.RecipeDto;
+import com.recipe.recipeservice.event.RecipeChangedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class RecipeChangeSubscriberTest {
+
+    private static final Instant NOW = Instant.parse("2026-01-01T12:00:00Z");
+
+    @Mock
+    private RecipeChangeTransport transport;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final Map<Long, RecipeDto> recipes = new HashMap<>();
+    private boolean databaseDown;
+
+    private RecipeChangeSubscriber subscriber;
+
+    @BeforeEach
+    void setUp() {
+        when(transport.name()).thenReturn("test");
+        recipes.put(7L, RecipeDto.builder().id(7L).name("Soup").version(3L).build());
+        subscriber = new RecipeChangeSubscriber(transport, this::load, eventPublisher, "instance-a",
+                Clock.fixed(NOW, ZoneOffset.UTC), true, Duration.ofMinutes(1), meterRegistry);
+    }
+
+    @Test
+    void apply_WhenMessageIsFromAnotherInstance_ShouldReplayItWithTheRecipeReadBack() {
+        // Arrange
+        RecipeDto after = recipes.get(7L);
+        RecipeChangeMessage message = message("instance-b", RecipeChangedEvent.Type.UPDATED, 7L);
+
+        // Act
+        subscriber.apply(message);
+
+        // Assert
+        ArgumentCaptor<RecipeChangedEvent> event = ArgumentCaptor.forClass(RecipeChangedEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertTrue(event.getValue().isRemote());
+        assertEquals(7L, event.getValue().getRecipeId());
+        assertEquals(after, event.getValue().getAfter());
+        assertNull(event.getValue().getBefore());
+        assertEquals(Duration.ofSeconds(2).toMillis(),
+                meterRegistry.get("recipe.outbox.lag").tag("stage", "applied").timer()
+                        .totalTime(TimeUnit.MILLISECONDS), 0.1);
+    }
+
+    @Test
+    void apply_WhenRecipeWasDeletedSince_ShouldLeaveItToTheDeletion() {
+        // Act
+        subscriber.apply(message("instance-b", RecipeChangedEvent.Type.UPDATED, 8L));
+        subscriber.apply(message("instance-b", RecipeChangedEvent.Type.DELETED, 8L));
+
+        // Assert
+        ArgumentCaptor<RecipeChangedEvent> event = ArgumentCaptor.forClass(RecipeChangedEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertEquals(RecipeChangedEvent.Type.DELETED, event.getValue().getType());
+        assertNull(event.getValue().getAfter());
+    }
+
+    @Test
+    void apply_WhenReadBackFails_ShouldAcceptTheRedelivery() {
+        // Arrange
+        RecipeChangeMessage message = message("instance-b", RecipeChangedEvent.Type.CREATED, 7L);
+        databaseDown = true;
+
+        // Act
+        assertThrows(IllegalStateException.class, () -> subscriber.apply(message));
+        databaseDown = false;
+        subscriber.apply(message);
+
+        // Assert
+        verify(eventPublisher, times(1)).publishEvent(any(Object.class));
+        assertEquals(0.0, meterRegistry.get("recipe.outbox.events").tag("stage", "duplicate").counter().count());
+    }
+
+    @Test
+    void apply_WhenMessageIsDeliveredTwice_ShouldReplayItOnce() {
+        // Arrange
+        RecipeChangeMessage message = message("instance-b", RecipeChangedEvent.Type.CREATED, 7L);
+
+        // Act
+        subscriber.apply(message);
+        subscriber.apply(message);
+
+        // Assert
+        verify(eventPublisher, times(1)).publishEvent(any(Object.class));
+        assertEquals(1.0, meterRegistry.get("recipe.outbox.events").tag("stage", "duplicate").counter().count());
+    }
+
+    @Test
+    void apply_WhenMessageIsFromThisInstance_ShouldIgnoreIt() {
+        // Act
+        subscriber.apply(message("instance-a", RecipeChangedEvent.Type.CREATED, 7L));
+
+        // Assert
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    private Optional<RecipeDto> load(Long id) {
+        if (databaseDown) {
+            throw new IllegalStateException("database down");
+        }
+        return Optional.ofNullable(recipes.get(id));
+    }
+
+    private static RecipeChangeMessage message(String origin, RecipeChangedEvent.Type type, Long recipeId) {
+        return new RecipeChangeMessage(UUID.randomUUID(), origin, type, recipeId, 3L, NOW.minusSeconds(2));
+    }
+}
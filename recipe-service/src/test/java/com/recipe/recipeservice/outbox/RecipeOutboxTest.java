@@ -0,0 +1,216 @@
+package com.recipe.recipeservice.outbox;
+
+import com.recipe.recipeservice.dto.IngredientDto;
+import com.recipe.recipeservice.dto.RecipeDto;
+import com.recipe.recipeservice.entity.OutboxEvent;
+import com.recipe.recipeservice.entity.Recipe;
+import com.recipe.recipeservice.event.RecipeChangedEvent;
+import com.recipe.recipeservice.index.RecipeTextIndex;
+import com.recipe.recipeservice.repository.OutboxEventRepository;
+import com.recipe.recipeservice.repository.RecipeRepository;
+import com.recipe.recipeservice.service.RecipeService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+// Delivery is disabled in the test profile; relay and polling are driven by hand
+@SpringBootTest
+@ActiveProfiles("test")
+public class RecipeOutboxTest {
+
+    @Autowired
+    private RecipeService recipeService;
+
+    @Autowired
+    private RecipeRepository recipeRepository;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private OutboxEventCodec outboxEventCodec;
+
+    @Autowired
+    private OutboxRelay outboxRelay;
+
+    @Autowired
+    private RecipeChangeSubscriber recipeChangeSubscriber;
+
+    @Autowired
+    private RecipeTextIndex recipeTextIndex;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(
+                        "testuser",
+                        "password",
+                        Collections.singletonList(new SimpleGrantedAuthority("ROLE_USER"))
+                ));
+        outboxEventRepository.deleteAll();
+    }
+
+    @AfterEach
+    void tearDown() {
+        recipeRepository.deleteAll();
+        outboxEventRepository.deleteAll();
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void createRecipe_ShouldAppendEventInTheSameTransaction() {
+        // Act
+        RecipeDto created = recipeService.createRecipe(recipeDto("Soup"));
+
+        // Assert
+        List<OutboxEvent> events = outboxEventRepository.findAll();
+        assertEquals(1, events.size());
+        RecipeChangeMessage message = outboxEventCodec.decode(events.get(0));
+        assertEquals(RecipeChangedEvent.Type.CREATED, message.type());
+        assertEquals(created.getId(), message.recipeId());
+        assertEquals(created.getVersion(), message.version());
+    }
+
+    @Test
+    void createRecipe_ShouldCountWrittenEventWithTheRelayTags() {
+        // Arrange
+        double written = meterRegistry.get("recipe.outbox.events")
+                .tags("stage", "written", "transport", "database")
+                .counter()
+                .count();
+
+        // Act
+        recipeService.createRecipe(recipeDto("Soup"));
+
+        // Assert
+        assertEquals(written + 1, meterRegistry.get("recipe.outbox.events")
+                .tags("stage", "written", "transport", "database")
+                .counter()
+                .count());
+        assertNotNull(meterRegistry.get("recipe.outbox.events")
+                .tags("stage", "published", "transport", "database")
+                .counter());
+    }
+
+    @Test
+    void createRecipe_WhenTransactionRollsBack_ShouldNotAppendEvent() {
+        // Act
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            recipeService.createRecipe(recipeDto("Soup"));
+            status.setRollbackOnly();
+        });
+
+        // Assert
+        assertEquals(0, recipeRepository.count());
+        assertEquals(0, outboxEventRepository.count());
+    }
+
+    @Test
+    void relay_ShouldPublishPendingEventsOnce() {
+        // Arrange
+        recipeService.createRecipe(recipeDto("Soup"));
+        recipeService.createRecipe(recipeDto("Stew"));
+
+        // Act
+        int published = outboxRelay.relay();
+
+        // Assert
+        assertEquals(2, published);
+        assertEquals(0, outboxRelay.relay());
+        outboxEventRepository.findAll().forEach(event -> assertNotNull(event.getPublishedAt()));
+    }
+
+    @Test
+    void purge_WhenTransportReadsOutbox_ShouldDeleteRowsOlderThanRetention() {
+        // Arrange
+        RecipeDto recipe = recipeDto("Soup").toBuilder().id(-1L).version(0L).build();
+        outboxEventRepository.saveAll(List.of(
+                outboxEventCodec.encode(RecipeChangedEvent.created(recipe), "instance-b", Instant.now().minus(Duration.ofHours(2))),
+                outboxEventCodec.encode(RecipeChangedEvent.deleted(recipe), "instance-b", Instant.now())));
+
+        // Act
+        int purged = outboxRelay.purge();
+
+        // Assert
+        assertEquals(1, purged);
+        assertEquals(RecipeChangedEvent.Type.DELETED, outboxEventRepository.findAll().get(0).getType());
+    }
+
+    @Test
+    void poll_ShouldApplyChangesOfOtherInstancesOnce() {
+        // Arrange
+        List<RecipeChangeMessage> delivered = new ArrayList<>();
+        DatabasePollingTransport transport = new DatabasePollingTransport(outboxEventRepository, outboxEventCodec,
+                transactionManager, "instance-a", Duration.ofHours(1), Duration.ofSeconds(5), 1, Clock.systemUTC());
+        transport.subscribe(delivered::add);
+        transport.subscribe(recipeChangeSubscriber::apply);
+        // Saved through the repository, as another instance would, so this instance publishes no event
+        Recipe saved = recipeRepository.save(Recipe.builder()
+                .name("Remote Soup")
+                .vegetarian(true)
+                .servings(2)
+                .instructions("Simmer")
+                .createdBy("other")
+                .build());
+        RecipeDto remote = RecipeDto.builder().id(saved.getId()).version(saved.getVersion()).build();
+        outboxEventRepository.saveAll(List.of(
+                outboxEventCodec.encode(RecipeChangedEvent.created(remote), "instance-b", Instant.now()),
+                outboxEventCodec.encode(RecipeChangedEvent.deleted(remote), "instance-a", Instant.now())));
+
+        // Act
+        transport.poll();
+        transport.poll();
+        transport.close();
+
+        // Assert
+        assertEquals(2, delivered.size());
+        assertEquals("instance-b", delivered.get(0).origin());
+        assertEquals(delivered.get(0).id(), delivered.get(1).id());
+        assertEquals(List.of(saved.getId()), recipeIds(recipeTextIndex.search("remote soup", 0, 10)));
+
+        // Remove the remote recipe from the shared indexes again
+        recipeChangeSubscriber.apply(new RecipeChangeMessage(UUID.randomUUID(), "instance-b",
+                RecipeChangedEvent.Type.DELETED, saved.getId(), saved.getVersion(), Instant.now()));
+        assertEquals(List.of(), recipeIds(recipeTextIndex.search("remote soup", 0, 10)));
+    }
+
+    private static List<Long> recipeIds(RecipeTextIndex.Hits hits) {
+        return hits.hits().stream().map(RecipeTextIndex.Hit::recipeId).toList();
+    }
+
+    private static RecipeDto recipeDto(String name) {
+        return RecipeDto.builder()
+                .name(name)
+                .vegetarian(true)
+                .servings(2)
+                .instructions("Simmer")
+                .ingredients(List.of(IngredientDto.builder().name("Water").amount("1").unit("l").build()))
+                .build();
+    }
+}
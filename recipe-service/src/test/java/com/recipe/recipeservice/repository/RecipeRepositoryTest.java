@@ -1,13 +1,16 @@
 package com.recipe.recipeservice.repository;
 
+import com.recipe.recipeservice.dto.RecipeFilterDto;
 import com.recipe.recipeservice.entity.Ingredient;
 import com.recipe.recipeservice.entity.Recipe;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -19,6 +22,9 @@ public class RecipeRepositoryTest {
     @Autowired
     private RecipeRepository recipeRepository;
 
+    @Autowired
+    private TestEntityManager entityManager;
+
     @Test
     void findByVegetarian_ShouldReturnVegetarianRecipes() {
         // Arrange
@@ -36,6 +42,50 @@ public class RecipeRepositoryTest {
         assertTrue(result.get(0).isVegetarian());
     }
     
+    @Test
+    void streamAll_ShouldStreamRecipesWithIngredientsInIdOrder() {
+        // Arrange
+        Recipe first = createTestRecipe("First Recipe", true, 2);
+        addIngredientToRecipe(first, "Potato", "500", "g");
+        addIngredientToRecipe(first, "Salt", "1", "tsp");
+        Recipe second = createTestRecipe("Second Recipe", false, 4);
+        addIngredientToRecipe(second, "Salmon", "200", "g");
+
+        recipeRepository.saveAll(List.of(first, second));
+        entityManager.flush();
+        entityManager.clear();
+
+        // Act
+        List<Recipe> result;
+        try (Stream<Recipe> recipes = recipeRepository.streamAll(1)) {
+            result = recipes.toList();
+        }
+
+        // Assert
+        assertEquals(List.of("First Recipe", "Second Recipe"), result.stream().map(Recipe::getName).toList());
+        assertEquals(2, result.get(0).getIngredients().size());
+        assertEquals(1, result.get(1).getIngredients().size());
+    }
+
+    @Test
+    void countByOwnerAndVegetarian_ShouldGroupRecipeCounts() {
+        // Arrange
+        createTestRecipe("Salad", true, 2);
+        createTestRecipe("Soup", true, 4);
+        Recipe steak = createTestRecipe("Steak", false, 2);
+        steak.setCreatedBy("otheruser");
+        recipeRepository.save(steak);
+
+        // Act
+        List<RecipeCountRow> result = recipeRepository.countByOwnerAndVegetarian();
+
+        // Assert
+        assertEquals(2, result.size());
+        RecipeCountRow vegetarianRow = result.stream().filter(RecipeCountRow::isVegetarian).findFirst().orElseThrow();
+        assertEquals("testuser", vegetarianRow.getCreatedBy());
+        assertEquals(2, vegetarianRow.getRecipes());
+    }
+
     @Test
     void findByServings_ShouldReturnRecipesWithSpecifiedServings() {
         // Arrange
@@ -92,6 +142,64 @@ public class RecipeRepositoryTest {
         assertTrue(result.get(0).getInstructions().contains("oven"));
     }
     
+    @Test
+    void findPage_ShouldContinueAfterCursorPosition() {
+        // Arrange
+        Recipe quick = createTestRecipe("Quick", true, 2);
+        quick.setCookingTime(5);
+        Recipe medium = createTestRecipe("Medium", true, 2);
+        medium.setCookingTime(20);
+        Recipe slow = createTestRecipe("Slow", true, 2);
+        slow.setCookingTime(60);
+
+        recipeRepository.saveAll(List.of(quick, medium, slow));
+
+        // Act
+        RecipeCursor cursor = RecipeCursor.start(RecipeSort.TOTAL_TIME, true);
+        List<Recipe> firstPage = recipeRepository.findPage(null, cursor, 2);
+        List<Recipe> secondPage = recipeRepository.findPage(null, cursor.after(firstPage.get(1)), 2);
+
+        // Assert
+        assertEquals(List.of("Slow", "Medium"), firstPage.stream().map(Recipe::getName).toList());
+        assertEquals(List.of("Quick"), secondPage.stream().map(Recipe::getName).toList());
+    }
+
+    @Test
+    void findPage_WithFilterSpecification_ShouldApplyAllCriteria() {
+        // Arrange
+        Recipe potatoBake = createTestRecipe("Potato Bake", true, 4);
+        potatoBake.setInstructions("Bake in oven for 40 minutes");
+        addIngredientToRecipe(potatoBake, "Potato", "500", "g");
+        addIngredientToRecipe(potatoBake, "Cheese", "100", "g");
+
+        Recipe salmonBake = createTestRecipe("Salmon Bake", true, 4);
+        salmonBake.setInstructions("Bake in oven for 20 minutes");
+        addIngredientToRecipe(salmonBake, "Potato", "300", "g");
+        addIngredientToRecipe(salmonBake, "Salmon", "200", "g");
+
+        Recipe potatoFry = createTestRecipe("Potato Fry", true, 4);
+        potatoFry.setInstructions("Fry in a pan");
+        addIngredientToRecipe(potatoFry, "Potato", "400", "g");
+
+        recipeRepository.saveAll(List.of(potatoBake, salmonBake, potatoFry));
+
+        RecipeFilterDto filterDto = RecipeFilterDto.builder()
+                .vegetarian(true)
+                .servings(4)
+                .includeIngredient("Potato")
+                .excludeIngredient("Salmon")
+                .instructionText("oven")
+                .build();
+
+        // Act
+        List<Recipe> result = recipeRepository.findPage(
+                RecipeSpecifications.matching(filterDto, true), RecipeCursor.start(RecipeSort.ID, false), 10);
+
+        // Assert
+        assertEquals(1, result.size());
+        assertEquals("Potato Bake", result.get(0).getName());
+    }
+
     private Recipe createTestRecipe(String name, boolean vegetarian, int servings) {
         Recipe recipe = Recipe.builder()
                 .name(name)
@@ -0,0 +1,80 @@
+package com.recipe.recipeservice.security;
+
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.algorithms.Algorithm;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class JwtTokenVerifierTest {
+
+    private static final String SECRET = "verylongsecretkeythatshouldbeatleast32charactersormoretobemoresecure";
+
+    private SimpleMeterRegistry meterRegistry;
+    private JwtTokenVerifier verifier;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        verifier = new JwtTokenVerifier(SECRET, meterRegistry, 100, Duration.ofMinutes(15));
+    }
+
+    @Test
+    void verify_ShouldDecodePrincipalAndServeRepeatsFromCache() {
+        // Arrange
+        String token = token(SECRET, Instant.now().plusSeconds(300));
+
+        // Act
+        JwtTokenVerifier.VerifiedToken first = verifier.verify(token);
+        JwtTokenVerifier.VerifiedToken second = verifier.verify(token);
+
+        // Assert
+        assertEquals("testuser", first.username());
+        assertEquals(List.of("ROLE_USER"), first.authorities().stream().map(GrantedAuthority::getAuthority).toList());
+        assertSame(first, second);
+        assertEquals(1, meterRegistry.get("jwt.verification").tag("outcome", "valid").timer().count());
+    }
+
+    @Test
+    void verify_ShouldRejectBadSignatureAndExpiredTokensWithoutCaching() {
+        // Arrange
+        String forged = token("anotherverylongsecretkeythatisatleast32characterslong", Instant.now().plusSeconds(300));
+        String expired = token(SECRET, Instant.now().minusSeconds(60));
+
+        // Act & Assert
+        assertNull(verifier.verify(forged));
+        assertNull(verifier.verify(forged));
+        assertNull(verifier.verify(expired));
+        assertEquals(3, meterRegistry.get("jwt.verification").tag("outcome", "invalid").timer().count());
+    }
+
+    @Test
+    void verify_ShouldCapCacheTimeForLongLivedTokens() {
+        // Arrange
+        String token = token(SECRET, Instant.now().plus(Duration.ofDays(1)));
+
+        // Act
+        JwtTokenVerifier.VerifiedToken verified = verifier.verify(token);
+
+        // Assert
+        assertTrue(verified.expiresAt().isBefore(Instant.now().plus(Duration.ofMinutes(16))));
+    }
+
+    private String token(String secret, Instant expiresAt) {
+        return JWT.create()
+                .withSubject("testuser")
+                .withClaim("roles", List.of("ROLE_USER"))
+                .withExpiresAt(expiresAt)
+                .sign(Algorithm.HMAC256(secret));
+    }
+}
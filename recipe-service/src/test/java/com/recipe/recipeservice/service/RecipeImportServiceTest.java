@@ -0,0 +1,155 @@
+package com.recipe.recipeservice.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.recipe.recipeservice.dto.RecipeImportResultDto;
+import com.recipe.recipeservice.entity.Recipe;
+import com.recipe.recipeservice.event.RecipeChangedEvent;
+import com.recipe.recipeservice.exception.InvalidImportException;
+import com.recipe.recipeservice.repository.RecipeRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+public class RecipeImportServiceTest {
+
+    private static final String SOUP = "{\"name\":\"Soup\",\"vegetarian\":true,\"servings\":2,\"instructions\":\"Simmer\","
+            + "\"ingredients\":[{\"name\":\"Water\",\"amount\":\"1\",\"unit\":\"l\"}]}";
+
+    @Mock
+    private RecipeRepository recipeRepository;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private Counter recipeCreatedCounter;
+
+    @Mock
+    private IngredientDictionary ingredientDictionary;
+
+    private RecipeImportService recipeImportService;
+
+    @BeforeEach
+    void setUp() {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken("importer", "password", List.of()));
+
+        recipeImportService = new RecipeImportService(
+                new RecipeImportReader(new ObjectMapper()),
+                recipeRepository,
+                new RecipeMapper(),
+                ingredientDictionary,
+                entityManager,
+                transactionManager,
+                Validation.buildDefaultValidatorFactory().getValidator(),
+                eventPublisher,
+                recipeCreatedCounter,
+                new SimpleMeterRegistry(),
+                2,
+                10);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void importRecipes_WithNdjson_ShouldWriteBatchesAndPublishEvents() {
+        // Act
+        RecipeImportResultDto result = recipeImportService.importRecipes(
+                input(SOUP + "\n" + SOUP + "\n" + SOUP + "\n"), RecipeImportFormat.NDJSON);
+
+        // Assert
+        assertEquals(3, result.getImported());
+        assertEquals(0, result.getRejected());
+        assertEquals(2, result.getBatches());
+
+        ArgumentCaptor<List<Recipe>> batches = ArgumentCaptor.forClass(List.class);
+        verify(recipeRepository, times(2)).saveAll(batches.capture());
+        assertEquals(2, batches.getAllValues().get(0).size());
+        assertEquals(1, batches.getAllValues().get(1).size());
+        assertEquals("importer", batches.getAllValues().get(0).get(0).getCreatedBy());
+        verify(eventPublisher, times(3)).publishEvent(any(RecipeChangedEvent.class));
+        verify(entityManager, times(2)).clear();
+    }
+
+    @Test
+    void importRecipes_WithInvalidRecord_ShouldRejectItAndImportTheRest() {
+        // Act
+        RecipeImportResultDto result = recipeImportService.importRecipes(
+                input(SOUP + "\n{\"vegetarian\":true,\"servings\":0}\n" + SOUP + "\n"), RecipeImportFormat.NDJSON);
+
+        // Assert
+        assertEquals(2, result.getImported());
+        assertEquals(1, result.getRejected());
+        assertEquals(1, result.getErrors().size());
+        assertTrue(result.getErrors().get(0).startsWith("Line 2: "));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void importRecipes_WithCsv_ShouldParseIngredientColumn() {
+        // Arrange
+        String csv = "name,vegetarian,servings,instructions,cookingTime,ingredients\n"
+                + "Tomato Soup,yes,4,Simmer and blend,20,Tomato|500|g;Salt|1|tsp\n";
+
+        // Act
+        RecipeImportResultDto result = recipeImportService.importRecipes(input(csv), RecipeImportFormat.CSV);
+
+        // Assert
+        assertEquals(1, result.getImported());
+        ArgumentCaptor<List<Recipe>> batch = ArgumentCaptor.forClass(List.class);
+        verify(recipeRepository).saveAll(batch.capture());
+        Recipe recipe = batch.getValue().get(0);
+        assertEquals("Tomato Soup", recipe.getName());
+        assertTrue(recipe.isVegetarian());
+        assertEquals(20, recipe.getCookingTime());
+        assertEquals(List.of("Tomato", "Salt"), recipe.getIngredients().stream().map(i -> i.getName()).toList());
+        assertEquals("tsp", recipe.getIngredients().get(1).getUnit());
+    }
+
+    @Test
+    void importRecipes_WithMalformedJson_ShouldFailWithLineNumber() {
+        // Act & Assert
+        InvalidImportException exception = assertThrows(InvalidImportException.class, () ->
+                recipeImportService.importRecipes(input(SOUP + "\n}\n" + SOUP + "\n"), RecipeImportFormat.NDJSON));
+        assertTrue(exception.getMessage().contains("after importing 0 recipes"));
+    }
+
+    private static InputStream input(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -1,34 +1,67 @@
 package com.recipe.recipeservice.service;
 
+import com.recipe.recipeservice.cache.RecipeDetailCache;
+import com.recipe.recipeservice.cache.RecipeFilterCache;
+import com.recipe.recipeservice.dto.CursorPageDto;
 import com.recipe.recipeservice.dto.IngredientDto;
+import com.recipe.recipeservice.dto.PageRequestDto;
 import com.recipe.recipeservice.dto.RecipeDto;
 import com.recipe.recipeservice.dto.RecipeFilterDto;
+import com.recipe.recipeservice.dto.RecipeSearchHitDto;
 import com.recipe.recipeservice.entity.Ingredient;
 import com.recipe.recipeservice.entity.Recipe;
+import com.recipe.recipeservice.event.RecipeChangedEvent;
+import com.recipe.recipeservice.exception.InvalidPageRequestException;
+import com.recipe.recipeservice.exception.PreconditionFailedException;
 import com.recipe.recipeservice.exception.RecipeNotFoundException;
+import com.recipe.recipeservice.exception.SearchUnavailableException;
+import com.recipe.recipeservice.index.RecipeCatalogIndex;
+import com.recipe.recipeservice.index.RecipeStatistics;
+import com.recipe.recipeservice.index.RecipeTextIndex;
+import com.recipe.recipeservice.repository.RecipeCursor;
 import com.recipe.recipeservice.repository.RecipeRepository;
+import com.recipe.recipeservice.repository.RecipeSort;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
 
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.ArgumentMatchers.notNull;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
 public class RecipeServiceTest {
 
     @Mock
@@ -37,6 +70,40 @@ public class RecipeServiceTest {
     @Mock
     private RecipeMapper recipeMapper;
 
+    @Mock
+    private Counter recipeCounter;
+
+    @Spy
+    private Timer recipeFilterTimer = Timer.builder("recipe.filter").register(new SimpleMeterRegistry());
+
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private RecipeCatalogIndex recipeCatalogIndex;
+
+    @Mock
+    private RecipeTextIndex recipeTextIndex;
+
+    @Spy
+    private RecipeDetailCache recipeDetailCache =
+            new RecipeDetailCache(new SimpleMeterRegistry(), true, 100, Duration.ofMinutes(10));
+
+    @Mock
+    private RecipeFilterCache recipeFilterCache;
+
+    @Mock
+    private RecipeStatistics recipeStatistics;
+
+    @Mock
+    private IngredientDictionary ingredientDictionary;
+
+    @Mock
+    private IngredientBackfill ingredientBackfill;
+
     @Mock
     private SecurityContext securityContext;
 
@@ -51,6 +118,9 @@ public class RecipeServiceTest {
 
     @BeforeEach
     void setUp() {
+        ReflectionTestUtils.setField(recipeService, "defaultPageSize", 20);
+        ReflectionTestUtils.setField(recipeService, "maxPageSize", 100);
+
         // Set up SecurityContext mock
         SecurityContextHolder.setContext(securityContext);
         when(securityContext.getAuthentication()).thenReturn(authentication);
@@ -101,16 +171,60 @@ public class RecipeServiceTest {
     @Test
     void getAllRecipes_ShouldReturnAllRecipes() {
         // Arrange
-        when(recipeRepository.findAll()).thenReturn(Collections.singletonList(recipe));
+        when(recipeRepository.findPage(isNull(), any(RecipeCursor.class), eq(21))).thenReturn(Collections.singletonList(recipe));
+        when(recipeMapper.toDto(recipe)).thenReturn(recipeDto);
+
+        // Act
+        CursorPageDto<RecipeDto> result = recipeService.getAllRecipes(new PageRequestDto());
+
+        // Assert
+        assertEquals(1, result.getSize());
+        assertEquals(recipeDto, result.getContent().get(0));
+        assertNull(result.getNextCursor());
+        verify(recipeRepository, times(1)).findPage(isNull(), any(RecipeCursor.class), eq(21));
+    }
+
+    @Test
+    void getAllRecipes_WithMoreRowsThanPageSize_ShouldReturnNextCursor() {
+        // Arrange
+        Recipe nextRecipe = Recipe.builder()
+                .id(2L)
+                .name("Next Recipe")
+                .createdBy("testuser")
+                .build();
+        PageRequestDto pageRequest = PageRequestDto.builder().size(1).sort("name").build();
+
+        when(recipeRepository.findPage(isNull(), any(RecipeCursor.class), eq(2))).thenReturn(Arrays.asList(recipe, nextRecipe));
         when(recipeMapper.toDto(recipe)).thenReturn(recipeDto);
 
         // Act
-        List<RecipeDto> result = recipeService.getAllRecipes();
+        CursorPageDto<RecipeDto> result = recipeService.getAllRecipes(pageRequest);
 
         // Assert
-        assertEquals(1, result.size());
-        assertEquals(recipeDto, result.get(0));
-        verify(recipeRepository, times(1)).findAll();
+        assertEquals(1, result.getSize());
+        RecipeCursor nextCursor = RecipeCursor.decode(result.getNextCursor());
+        assertEquals(RecipeSort.NAME, nextCursor.getSort());
+        assertEquals(1L, nextCursor.getLastId());
+        assertEquals("Test Recipe", nextCursor.getLastValue());
+    }
+
+    @Test
+    void getAllRecipes_WithOversizedPage_ShouldThrowException() {
+        // Arrange
+        PageRequestDto pageRequest = PageRequestDto.builder().size(1000).build();
+
+        // Act & Assert
+        assertThrows(InvalidPageRequestException.class, () -> recipeService.getAllRecipes(pageRequest));
+        verify(recipeRepository, never()).findPage(any(), any(), anyInt());
+    }
+
+    @Test
+    void getAllRecipes_WithMalformedCursor_ShouldThrowException() {
+        // Arrange
+        PageRequestDto pageRequest = PageRequestDto.builder().cursor("not-a-cursor").build();
+
+        // Act & Assert
+        assertThrows(InvalidPageRequestException.class, () -> recipeService.getAllRecipes(pageRequest));
     }
 
     @Test
@@ -128,6 +242,22 @@ public class RecipeServiceTest {
         verify(recipeRepository, times(1)).findById(1L);
     }
 
+    @Test
+    void getRecipeById_CalledTwice_ShouldServeSecondReadFromCache() {
+        // Arrange
+        when(recipeRepository.findById(1L)).thenReturn(Optional.of(recipe));
+        when(recipeMapper.toDto(recipe)).thenReturn(recipeDto);
+
+        // Act
+        recipeService.getRecipeById(1L);
+        RecipeDto result = recipeService.getRecipeById(1L);
+
+        // Assert
+        assertEquals(recipeDto, result);
+        verify(recipeRepository, times(1)).findById(1L);
+        verify(recipeMapper, times(1)).toDto(recipe);
+    }
+
     @Test
     void getRecipeById_WithInvalidId_ShouldThrowException() {
         // Arrange
@@ -155,14 +285,13 @@ public class RecipeServiceTest {
         assertEquals(recipeDto, result);
         assertEquals("testuser", recipeDto.getCreatedBy());
         verify(recipeRepository, times(1)).save(recipe);
+        verify(eventPublisher, times(1)).publishEvent(any(RecipeChangedEvent.class));
     }
 
     @Test
     void updateRecipe_AsOwner_ShouldUpdateAndReturnRecipe() {
         // Arrange
         when(recipeRepository.findById(1L)).thenReturn(Optional.of(recipe));
-        when(recipeMapper.toEntity(recipeDto)).thenReturn(recipe);
-        when(recipeRepository.save(recipe)).thenReturn(recipe);
         when(recipeMapper.toDto(recipe)).thenReturn(recipeDto);
 
         // Act
@@ -171,7 +300,22 @@ public class RecipeServiceTest {
         // Assert
         assertNotNull(result);
         assertEquals(recipeDto, result);
-        verify(recipeRepository, times(1)).save(recipe);
+        verify(recipeMapper, times(1)).updateEntity(recipe, recipeDto);
+        verify(recipeRepository, times(1)).flush();
+    }
+
+    @Test
+    void updateRecipe_WithStaleVersion_ShouldThrowPreconditionFailedException() {
+        // Arrange
+        recipe.setVersion(2L);
+        when(recipeRepository.findById(1L)).thenReturn(Optional.of(recipe));
+
+        // Act & Assert
+        assertThrows(PreconditionFailedException.class, () -> {
+            recipeService.updateRecipe(1L, recipeDto, 1L);
+        });
+        verify(recipeMapper, never()).updateEntity(any(), any());
+        verify(recipeRepository, never()).flush();
     }
 
     @Test
@@ -190,7 +334,8 @@ public class RecipeServiceTest {
         assertThrows(AccessDeniedException.class, () -> {
             recipeService.updateRecipe(1L, recipeDto);
         });
-        verify(recipeRepository, never()).save(any());
+        verify(recipeMapper, never()).updateEntity(any(), any());
+        verify(recipeRepository, never()).flush();
     }
 
     @Test
@@ -203,10 +348,8 @@ public class RecipeServiceTest {
                 .build();
 
         when(recipeRepository.findById(1L)).thenReturn(Optional.of(otherUserRecipe));
-        when(authentication.getAuthorities()).thenReturn(Collections.singletonList(new SimpleGrantedAuthority("ROLE_ADMIN")));
-        when(recipeMapper.toEntity(recipeDto)).thenReturn(recipe);
-        when(recipeRepository.save(recipe)).thenReturn(recipe);
-        when(recipeMapper.toDto(recipe)).thenReturn(recipeDto);
+        doReturn(Collections.singletonList(new SimpleGrantedAuthority("ROLE_ADMIN"))).when(authentication).getAuthorities();
+        when(recipeMapper.toDto(otherUserRecipe)).thenReturn(recipeDto);
 
         // Act
         RecipeDto result = recipeService.updateRecipe(1L, recipeDto);
@@ -214,7 +357,8 @@ public class RecipeServiceTest {
         // Assert
         assertNotNull(result);
         assertEquals(recipeDto, result);
-        verify(recipeRepository, times(1)).save(recipe);
+        verify(recipeMapper, times(1)).updateEntity(otherUserRecipe, recipeDto);
+        verify(recipeRepository, times(1)).flush();
     }
 
     @Test
@@ -223,15 +367,166 @@ public class RecipeServiceTest {
         RecipeFilterDto filterDto = new RecipeFilterDto();
         filterDto.setVegetarian(true);
 
-        when(recipeRepository.findByVegetarian(true)).thenReturn(Collections.singletonList(recipe));
+        when(recipeRepository.findPage(any(), any(RecipeCursor.class), eq(21))).thenReturn(Collections.singletonList(recipe));
+        when(recipeMapper.toDto(recipe)).thenReturn(recipeDto);
+
+        // Act
+        CursorPageDto<RecipeDto> result = recipeService.filterRecipes(filterDto, new PageRequestDto());
+
+        // Assert
+        assertEquals(1, result.getSize());
+        assertTrue(result.getContent().get(0).getVegetarian());
+        verify(recipeRepository, times(1)).findPage(notNull(), any(RecipeCursor.class), eq(21));
+        verify(recipeRepository, never()).findByVegetarian(anyBoolean());
+    }
+
+    @Test
+    void filterRecipes_WithSeveralCriteria_ShouldIssueSingleQuery() {
+        // Arrange
+        RecipeFilterDto filterDto = RecipeFilterDto.builder()
+                .vegetarian(true)
+                .servings(4)
+                .includeIngredient("potato")
+                .excludeIngredient("salmon")
+                .instructionText("oven")
+                .build();
+
+        when(recipeRepository.findPage(any(), any(RecipeCursor.class), eq(21))).thenReturn(Collections.singletonList(recipe));
+        when(recipeMapper.toDto(recipe)).thenReturn(recipeDto);
+
+        // Act
+        CursorPageDto<RecipeDto> result = recipeService.filterRecipes(filterDto, new PageRequestDto());
+
+        // Assert
+        assertEquals(1, result.getSize());
+        verify(recipeRepository, times(1)).findPage(notNull(), any(RecipeCursor.class), eq(21));
+        verifyNoMoreInteractions(recipeRepository);
+    }
+
+    @Test
+    void filterRecipes_WhenResultIsCached_ShouldNotQueryRepositoryAgain() {
+        // Arrange
+        RecipeFilterDto filterDto = RecipeFilterDto.builder().vegetarian(true).build();
+        when(recipeFilterCache.isEnabled()).thenReturn(true);
+        when(recipeFilterCache.get(eq(filterDto), eq(RecipeSort.ID), eq(false), any()))
+                .thenReturn(Optional.of(List.of(1L)));
+        when(recipeRepository.findByIdIn(List.of(1L))).thenReturn(List.of(recipe));
+        when(recipeMapper.toDto(recipe)).thenReturn(recipeDto);
+
+        // Act
+        recipeService.filterRecipes(filterDto, new PageRequestDto());
+        CursorPageDto<RecipeDto> result = recipeService.filterRecipes(filterDto, new PageRequestDto());
+
+        // Assert
+        assertEquals(List.of(recipeDto), result.getContent());
+        assertNull(result.getNextCursor());
+        verify(recipeRepository, times(1)).findByIdIn(List.of(1L));
+        verifyNoMoreInteractions(recipeRepository);
+    }
+
+    @Test
+    void exportRecipes_ShouldMapAndDetachEachStreamedRecipe() {
+        // Arrange
+        when(recipeRepository.streamAll(anyInt())).thenReturn(Stream.of(recipe));
+        when(recipeMapper.toDto(recipe)).thenReturn(recipeDto);
+        List<RecipeDto> exported = new ArrayList<>();
+
+        // Act
+        long count = recipeService.exportRecipes(exported::add);
+
+        // Assert
+        assertEquals(1, count);
+        assertEquals(List.of(recipeDto), exported);
+        InOrder inOrder = inOrder(recipeMapper, recipeRepository);
+        inOrder.verify(recipeMapper).toDto(recipe);
+        inOrder.verify(recipeRepository).detach(recipe);
+    }
+
+    @Test
+    void searchRecipes_ShouldReturnHitsInRelevanceOrder() {
+        // Arrange
+        Recipe otherRecipe = Recipe.builder()
+                .id(2L)
+                .name("Other Recipe")
+                .createdBy("testuser")
+                .build();
+        RecipeDto otherRecipeDto = RecipeDto.builder().id(2L).name("Other Recipe").build();
+
+        when(recipeTextIndex.isReady()).thenReturn(true);
+        when(recipeTextIndex.search("bake", 0, 20)).thenReturn(new RecipeTextIndex.Hits(
+                List.of(new RecipeTextIndex.Hit(2L, 3.5f), new RecipeTextIndex.Hit(1L, 1.25f)), 2));
+        when(recipeRepository.findPage(notNull(), any(RecipeCursor.class), eq(2))).thenReturn(Arrays.asList(recipe, otherRecipe));
+        when(recipeMapper.toDto(recipe)).thenReturn(recipeDto);
+        when(recipeMapper.toDto(otherRecipe)).thenReturn(otherRecipeDto);
+
+        // Act
+        CursorPageDto<RecipeSearchHitDto> result = recipeService.searchRecipes("bake", new PageRequestDto());
+
+        // Assert
+        assertEquals(2, result.getSize());
+        assertEquals(2L, result.getContent().get(0).getRecipe().getId());
+        assertEquals(3.5f, result.getContent().get(0).getScore());
+        assertEquals(1L, result.getContent().get(1).getRecipe().getId());
+        assertNull(result.getNextCursor());
+    }
+
+    @Test
+    void searchRecipes_WhenIndexNotReady_ShouldThrowException() {
+        // Arrange
+        when(recipeTextIndex.isReady()).thenReturn(false);
+
+        // Act & Assert
+        assertThrows(SearchUnavailableException.class, () -> recipeService.searchRecipes("bake", new PageRequestDto()));
+    }
+
+    @Test
+    void filterRecipes_WithInstructionText_ShouldUseTextIndexMatches() {
+        // Arrange
+        RecipeFilterDto filterDto = RecipeFilterDto.builder().vegetarian(true).instructionText("oven").build();
+
+        when(recipeTextIndex.isEnabled()).thenReturn(true);
+        when(recipeTextIndex.isReady()).thenReturn(true);
+        when(recipeTextIndex.findInstructionMatches("oven")).thenReturn(List.of(1L));
+        when(recipeRepository.findPage(notNull(), any(RecipeCursor.class), eq(21))).thenReturn(Collections.singletonList(recipe));
+        when(recipeMapper.toDto(recipe)).thenReturn(recipeDto);
+
+        // Act
+        CursorPageDto<RecipeDto> result = recipeService.filterRecipes(filterDto, new PageRequestDto());
+
+        // Assert
+        assertEquals(1, result.getSize());
+        verify(recipeTextIndex, times(1)).findInstructionMatches("oven");
+    }
+
+    @Test
+    void filterRecipes_WhenTextIndexNotReady_ShouldThrowException() {
+        // Arrange
+        RecipeFilterDto filterDto = RecipeFilterDto.builder().instructionText("oven").build();
+
+        when(recipeTextIndex.isEnabled()).thenReturn(true);
+        when(recipeTextIndex.isReady()).thenReturn(false);
+
+        // Act & Assert
+        assertThrows(SearchUnavailableException.class, () -> recipeService.filterRecipes(filterDto, new PageRequestDto()));
+        verify(recipeRepository, never()).findPage(any(), any(RecipeCursor.class), anyInt());
+    }
+
+    @Test
+    void filterRecipes_WhenCatalogIndexCanServe_ShouldLoadOnlyIndexedIds() {
+        // Arrange
+        RecipeFilterDto filterDto = RecipeFilterDto.builder().vegetarian(true).build();
+
+        when(recipeCatalogIndex.canServe(eq(filterDto), any(RecipeCursor.class))).thenReturn(true);
+        when(recipeCatalogIndex.findPage(eq(filterDto), any(RecipeCursor.class), eq(21))).thenReturn(List.of(1L));
+        when(recipeRepository.findPage(notNull(), any(RecipeCursor.class), eq(1))).thenReturn(Collections.singletonList(recipe));
         when(recipeMapper.toDto(recipe)).thenReturn(recipeDto);
 
         // Act
-        List<RecipeDto> result = recipeService.filterRecipes(filterDto);
+        CursorPageDto<RecipeDto> result = recipeService.filterRecipes(filterDto, new PageRequestDto());
 
         // Assert
-        assertEquals(1, result.size());
-        assertTrue(result.get(0).getVegetarian());
-        verify(recipeRepository, times(1)).findByVegetarian(true);
+        assertEquals(1, result.getSize());
+        assertNull(result.getNextCursor());
+        verify(recipeRepository, times(1)).findPage(notNull(), any(RecipeCursor.class), eq(1));
     }
 }
\ No newline at end of file
@@ -0,0 +1,31 @@
+package com.recipe.recipeservice.support;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Fails a test when the wrapped call prepares more SQL statements than declared.
+ * Requires {@code hibernate.generate_statistics} to be enabled.
+ */
+public final class SqlStatementBudget {
+
+    private SqlStatementBudget() {
+    }
+
+    public static <T> T assertWithinBudget(EntityManagerFactory entityManagerFactory, long maxStatements, Supplier<T> call) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        T result = call.get();
+
+        long executed = statistics.getPrepareStatementCount();
+        assertTrue(executed <= maxStatements,
+                () -> "Expected at most " + maxStatements + " SQL statements but " + executed + " were executed");
+        return result;
+    }
+}